@@ -0,0 +1,306 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardBenchmark.java
+ *
+ * Description: This class measures the hot paths of the game (populating the board, no-guess generation,
+ * revealing cells, the double click neighbor checks, checking for a win, the mine/flag scans, and
+ * saving/loading the game state) on the Easy, Medium, Hard, and largest custom board sizes. Every
+ * benchmark is warmed up first and then measured over several timed iterations. The throughput (ops/s),
+ * average time (ns/op), and allocations (bytes/op and MB/s, along with the garbage collections that
+ * happened) are reported for each benchmark, so that changes to these paths can be compared before and
+ * after.
+ *
+ * The project doesn't have a build system that JMH could be added to, so this is a small standalone
+ * harness that runs without JavaFX:
+ *     java -cp bin application.BoardBenchmark [name filter]
+ *
+ */
+
+package application;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.random.RandomGenerator;
+
+public class BoardBenchmark {
+	private static final long WARMUP_NANOS = 1_000_000_000L; //time spent warming up each benchmark
+	private static final long ITERATION_NANOS = 1_000_000_000L; //time spent in each measured iteration
+	private static final int MEASURED_ITERATIONS = 5; //number of measured iterations per benchmark
+	private static final int BATCH_SIZE = 64; //operations timed together when no setup is needed
+	private static final long SEED = 20230201L; //seed used for every board (the results are repeatable)
+	//used to read the bytes allocated by the current thread (not every JVM supports it)
+	private static final com.sun.management.ThreadMXBean threadBean = getThreadBean();
+	private static volatile long sink; //results are written here so the JIT can't skip the work
+
+
+	//The board sizes that every benchmark is run with
+	private enum BoardSize {
+		EASY(9, 9, 10),
+		MEDIUM(16, 16, 40),
+		HARD(16, 30, 99),
+		MAX_CUSTOM(24, 30, 148); //largest custom board (same mine density as the Hard difficulty)
+
+		private final int rows, cols, mines; //dimensions of the board
+
+		//Constructor method for the BoardSize
+		private BoardSize(int rows, int cols, int mines) {
+			this.rows = rows; //assign the rows
+			this.cols = cols; //assign the columns
+			this.mines = mines; //assign the mines
+		} //close BoardSize(...) constructor
+	} //close enum BoardSize
+
+
+	//A single operation that is measured (the result is consumed so the work can't be skipped)
+	@FunctionalInterface
+	private interface Operation {
+		public long run() throws Exception;
+	} //close interface Operation
+
+
+	//Run every benchmark (or only the ones whose name contains the given filter)
+	public static void main(String[] args) throws Exception {
+		String filter = (args.length > 0) ? args[0] : ""; //only run the matching benchmarks
+		System.out.printf("%-36s %-10s %14s %12s %12s %10s %5s%n", "Benchmark", "Size", "ops/s", "ns/op",
+		 "B/op", "MB/s", "GCs");
+		//the game state is saved to a temporary file (deleted once the benchmarks are finished)
+		Path savedGame = Files.createTempFile("GameState", ".dat");
+		for (String suffix : new String[] {"", ".bak", ".tmp"}) //the save and it's other generations
+			savedGame.resolveSibling(savedGame.getFileName() + suffix).toFile().deleteOnExit();
+		GameStateFile gameStateFile = new GameStateFile(savedGame, savedGame.resolveSibling("GameState.ser"));
+		for (BoardSize size : BoardSize.values()) {
+			int center = size.rows / 2 * size.cols + size.cols / 2; //cell clicked to populate the boards
+
+			//populate a cleared board (the same work that is done on the first click of every game)
+			MinesweeperBoard populateBoard = createBoard(size.rows, size.cols, size.mines);
+			RandomGenerator populateRandom = createGenerator(); //random number generator used for every layout
+			run("populateMinesweeperBoard", size, filter, populateBoard::zeroOutBoard, () -> {
+				populateBoard.populateBoard(center, populateRandom);
+				return populateBoard.getHiddenSafeCells();
+			});
+
+			//measure the 3BV of the populated board (done once for every new game)
+			BoardMetrics boardMetrics = new BoardMetrics(); //reused for every measurement
+			run("BoardMetrics.measure", size, filter, null, () -> {
+				boardMetrics.measure(populateBoard);
+				return boardMetrics.getBoardValue();
+			});
+
+			//generate boards that can be solved without guessing (the attempts per second are reported too)
+			MinesweeperBoard noGuessBoard = createBoard(size.rows, size.cols, size.mines);
+			NoGuessGenerator noGuessGenerator = new NoGuessGenerator(); //generator being measured
+			run("NoGuessGenerator.populateBoard", size, filter, noGuessBoard::zeroOutBoard, () ->
+			 noGuessGenerator.populateBoard(noGuessBoard, center) ? 1 : 0);
+			if ("NoGuessGenerator.populateBoard".contains(filter))
+				System.out.printf("    %.0f attempts/s%n", noGuessGenerator.getAttemptsPerSecond());
+
+			/* reveal cascades of different sizes: a single numbered cell, the opening of the first click,
+			 * and a board without any mines (every cell is revealed by one click)
+			 */
+			MinesweeperBoard board = createBoard(size.rows, size.cols, size.mines);
+			board.populateBoard(center, createGenerator()); //the board used by the remaining benchmarks
+			int numberedCell = findNumberedCell(board); //a cell that only reveals itself
+			MinesweeperBoard emptyBoard = createBoard(size.rows, size.cols, 0);
+			emptyBoard.populateBoard(center, createGenerator()); //every cell is empty
+			runReveal(board, numberedCell, size, filter);
+			runReveal(board, center, size, filter);
+			runReveal(emptyBoard, center, size, filter);
+
+			//the same work on the bitboard backend (used by simulations that play millions of games)
+			MinesweeperBitboard bitboard = new MinesweeperBitboard(size.rows, size.cols, size.mines);
+			RandomGenerator bitboardRandom = createGenerator(); //same layouts as populateMinesweeperBoard
+			run("MinesweeperBitboard.populateBoard", size, filter, bitboard::zeroOutBoard, () -> {
+				bitboard.populateBoard(center, bitboardRandom);
+				return bitboard.getHiddenSafeCells();
+			});
+			bitboard.copyMines(board); //the same board as the remaining benchmarks
+			run("MinesweeperBitboard.revealCells", size, filter, bitboard::resetBoard, () ->
+			 bitboard.revealCells(center) + bitboard.getRevealedCount());
+
+			//check the neighbors of a revealed cell whose surrounding mines all have flag comments
+			board.resetBoard(); //hide every cell
+			board.revealCells(center); //reveal the opening
+			int chordCell = findChordCell(board); //a numbered cell on the edge of the opening
+			run("doubleClickAction (canChordCell)", size, filter, null, () -> board.canChordCell(chordCell) ? 1 : 0);
+			run("gameWon", size, filter, null, () -> board.gameWon() ? 1 : 0);
+			run("getMineCells", size, filter, null, () -> board.getMineCells().size());
+			run("getFlagCommentCells", size, filter, null, () -> board.getFlagCommentCells().size());
+			run("displayMines (mine list)", size, filter, null, () -> {
+				int hiddenMines = 0; //mines that would be exposed at the end of the game
+				for (int i = 0; i < board.getMineCellCount(); i++)
+					hiddenMines += board.isHidden(board.getMineCell(i)) ? 1 : 0;
+				return hiddenMines;
+			});
+
+			//save and load the game state (the binary file and the same work done in memory)
+			MinesweeperGameState gameState = createGameState(board); //the saved game
+			run("serializeGameState", size, filter, null, () -> { //the elapsed time changes, so every save is written
+				gameState.setElapsedTime(gameState.getElapsedTime() + 1);
+				gameStateFile.write(gameState);
+				return 1;
+			});
+			run("getPreviousGameState", size, filter, null, () -> gameStateFile.read().getGameRows());
+			run("GameStateFile.encode", size, filter, null, () -> gameStateFile.encode(gameState).remaining());
+			run("GameStateFile.decode", size, filter, null, () -> 
+			 gameStateFile.decode(gameStateFile.encode(gameState)).getGameRows());
+		} //end for
+	} //close main(...)
+
+
+	//Create a board that doesn't record its changes (nothing is drawn while benchmarking)
+	private static MinesweeperBoard createBoard(int rows, int cols, int mines) {
+		MinesweeperBoard board = new MinesweeperBoard(rows, cols, mines); //create the board
+		board.setChangeTracking(false); //no display to update
+		return board;
+	} //close createBoard(...)
+
+
+	//Create the seeded random number generator used for the boards (the same numbers on every run)
+	private static RandomGenerator createGenerator() {
+		return BoardId.createGenerator(BoardId.DEFAULT_ALGORITHM, SEED);
+	} //close createGenerator()
+
+
+	//Measure revealing the given cell of a freshly reset board (the reset isn't part of the measurement)
+	private static void runReveal(MinesweeperBoard board, int cell, BoardSize size, String filter)
+	 throws Exception {
+		board.resetBoard(); //hide every cell
+		board.revealCells(cell); //find out how many cells are revealed by the click
+		String name = "revealCells (cascade " + board.getRevealedCount() + ")";
+		run(name, size, filter, board::resetBoard, () -> board.revealCells(cell) + board.getRevealedCount());
+	} //close runReveal(...)
+
+
+	//Return the first cell that has a value (revealing it doesn't reveal any other cells)
+	private static int findNumberedCell(MinesweeperBoard board) {
+		for (int i = 0; i < board.getCellCount(); i++) {
+			if (board.getCellVal(i) > 0)
+				return i; //numbered cell found
+		} //end for
+		return 0; //every cell is empty or a mine
+	} //close findNumberedCell(...)
+
+
+	/* Return a revealed numbered cell after placing a flag comment on every mine around it, so that the
+	 * cell can be chorded (the flag comments are left on the board for the flag comment scan).
+	 */
+	private static int findChordCell(MinesweeperBoard board) {
+		for (int i = 0; i < board.getCellCount(); i++) {
+			if (!board.isHidden(i) && board.getCellVal(i) > 0) {
+				int row = board.getRow(i); //row of the cell
+				int col = board.getCol(i); //column of the cell
+				for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, board.getRows() - 1); newRow++) {
+					for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, board.getCols() - 1); newCol++) {
+						int neighbor = board.getIndex(newRow, newCol); //index of the neighboring cell
+						if (board.hasMine(neighbor))
+							board.cycleCellComment(neighbor); //place a flag comment on the mine
+					} //end inner for
+				} //end outer for
+				return i; //the cell can now be chorded
+			} //end if
+		} //end for
+		return 0; //nothing was revealed
+	} //close findChordCell(...)
+
+
+	//Create the game state that Main.createGameState() would save for the board
+	private static MinesweeperGameState createGameState(MinesweeperBoard board) {
+		byte[] gameCellStates = new byte[board.getRows() * board.getCols()]; //packed state of every cell
+		for (int index = 0; index < gameCellStates.length; index++) {
+			gameCellStates[index] = MinesweeperCellData.packCell(board.getCellVal(index), board.hasMine(index),
+			 board.isHidden(index), board.getCellComment(index));
+		} //end for
+		return new MinesweeperGameState(false, "CUSTOM", board.getRows(), board.getCols(), board.getTotalMines(),
+		 gameCellStates, 0, 600, 600, 0, 0, false, true);
+	} //close createGameState(...)
+
+
+	/* Warm up and measure a single benchmark. When a setup is given, it runs before every operation and
+	 * only the operation itself is timed. Otherwise the operations are timed in batches so that reading
+	 * the clock doesn't affect the results of very short operations.
+	 */
+	private static void run(String name, BoardSize size, String filter, Runnable setup, Operation operation)
+	 throws Exception {
+		if (!name.contains(filter))
+			return; //the benchmark wasn't selected
+		measure(setup, operation, WARMUP_NANOS); //let the JIT compile the code first
+		double[] nanosPerOp = new double[MEASURED_ITERATIONS]; //average time of each iteration
+		double totalOps = 0, totalNanos = 0, totalBytes = 0; //totals of the measured iterations
+		long gcsBefore = getCollectionCount(); //collections before the measurement
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			long bytesBefore = getAllocatedBytes(); //allocations before the iteration
+			long[] result = measure(setup, operation, ITERATION_NANOS); //{operations, timed nanoseconds}
+			totalBytes += getAllocatedBytes() - bytesBefore; //allocations of the iteration
+			nanosPerOp[i] = (double) result[1] / result[0];
+			totalOps += result[0];
+			totalNanos += result[1];
+		} //end for
+		long gcs = getCollectionCount() - gcsBefore; //collections during the measurement
+		double avgNanos = totalNanos / totalOps; //average time of an operation
+		double error = 0; //standard deviation of the iteration averages
+		for (double value : nanosPerOp)
+			error += (value - avgNanos) * (value - avgNanos);
+		error = Math.sqrt(error / MEASURED_ITERATIONS);
+		//allocations are only available on JVMs that support measuring them
+		String bytesPerOp = (threadBean == null) ? "n/a" : String.format("%.1f", totalBytes / totalOps);
+		String allocRate = (threadBean == null) ? "n/a" : String.format("%.1f", totalBytes / totalNanos * 1e9 / 1e6);
+		System.out.printf("%-36s %-10s %14.0f %8.1f \u00B1%-4.1f %12s %10s %5d%n", name, size, 1e9 / avgNanos,
+		 avgNanos, error, bytesPerOp, allocRate, gcs);
+	} //close run(...)
+
+
+	//Run the operation until the given time has passed and return {operations, timed nanoseconds}
+	private static long[] measure(Runnable setup, Operation operation, long duration) throws Exception {
+		long ops = 0, timed = 0, result = 0; //operations performed, time spent in them, and their results
+		long end = System.nanoTime() + duration; //time that the measurement stops
+		while (System.nanoTime() < end) {
+			if (setup != null) {
+				setup.run(); //prepare the operation (not timed)
+				long start = System.nanoTime();
+				result += operation.run();
+				timed += System.nanoTime() - start;
+				ops++;
+			} else {
+				long start = System.nanoTime();
+				for (int i = 0; i < BATCH_SIZE; i++)
+					result += operation.run();
+				timed += System.nanoTime() - start;
+				ops += BATCH_SIZE;
+			} //end else
+		} //end while
+		sink += result; //consume the results
+		return new long[] {ops, timed};
+	} //close measure(...)
+
+
+	//Return the thread bean if the JVM is able to measure the bytes allocated by a thread (null otherwise)
+	private static com.sun.management.ThreadMXBean getThreadBean() {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+			return null; //allocations can't be measured
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!bean.isThreadAllocatedMemorySupported())
+			return null; //allocations can't be measured
+		bean.setThreadAllocatedMemoryEnabled(true); //start measuring allocations
+		return bean;
+	} //close getThreadBean()
+
+
+	//Return the number of bytes allocated by the current thread so far (0 if it can't be measured)
+	private static long getAllocatedBytes() {
+		return (threadBean == null) ? 0 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	} //close getAllocatedBytes()
+
+
+	//Return the number of garbage collections that happened so far
+	private static long getCollectionCount() {
+		long count = 0; //collections of every collector
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+			count += Math.max(bean.getCollectionCount(), 0);
+		return count;
+	} //close getCollectionCount()
+
+} //close class BoardBenchmark
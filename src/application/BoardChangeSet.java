@@ -0,0 +1,84 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardChangeSet.java
+ *
+ * Description: This class keeps track of every cell on the MinesweeperBoard whose state (or display)
+ * changed since the last time the board was drawn. Each cell is only recorded once no matter how many
+ * times it changes, which allows several back-to-back user actions to be merged into a single update.
+ * When every cell changes at once (a new or reset board), a single flag is set instead of recording every
+ * cell, so huge boards don't need a list entry per cell.
+ * The class doesn't rely on any JavaFX nodes, so it can be used by any renderer (or ignored entirely
+ * when the board is played without a display).
+ *
+ */
+
+package application;
+import java.util.Arrays;
+
+public class BoardChangeSet {
+	private static final int INITIAL_BUFFER_SIZE = 64; //starting size of the changed cells buffer
+	private final long[] changedBits; //one bit per cell (set when the cell is already in the list)
+	private int[] changedCells = new int[INITIAL_BUFFER_SIZE]; //indexes of the changed cells
+	private int changedCount; //number of changed cells
+	private final int cellCount; //number of cells on the board
+	private boolean allChanged; //flag used to check if every cell on the board changed
+
+
+	//Constructor method for the BoardChangeSet
+	public BoardChangeSet(int cellCount) {
+		this.cellCount = cellCount; //assign the number of cells
+		changedBits = new long[(cellCount + 63) >>> 6]; //enough bits for every cell on the board
+	} //close BoardChangeSet(...) constructor
+
+
+	//Record a change to the cell at the given index (cells that are already recorded are skipped)
+	public void addCell(int index) {
+		if (allChanged)
+			return; //every cell is already recorded
+		long mask = 1L << index; //bit of the cell within its word
+		int word = index >>> 6; //word that holds the cell's bit
+		if ((changedBits[word] & mask) != 0)
+			return; //the cell was already recorded
+		changedBits[word] |= mask; //remember that the cell was recorded
+		if (changedCount == changedCells.length) //grow the list if it is full
+			changedCells = Arrays.copyOf(changedCells, changedCount * 2);
+		changedCells[changedCount++] = index; //add the cell to the list
+	} //close addCell(...)
+
+
+	//Record a change to every cell on the board
+	public void addAll() {
+		allChanged = true;
+	} //close addAll()
+
+
+	//Return the number of changed cells
+	public int size() {
+		return allChanged ? cellCount : changedCount;
+	} //close size()
+
+
+	//Return whether there are any changed cells
+	public boolean isEmpty() {
+		return size() == 0;
+	} //close isEmpty()
+
+
+	//Return the index of a changed cell
+	public int getCell(int i) {
+		return allChanged ? i : changedCells[i];
+	} //close getCell(...)
+
+
+	//Forget every recorded change (only the bits of the recorded cells need to be erased)
+	public void clear() {
+		for (int i = 0; i < changedCount; i++)
+			changedBits[changedCells[i] >>> 6] = 0; //erase the word that holds the cell's bit
+		changedCount = 0; //the list is empty again
+		allChanged = false; //the cells no longer need to be redrawn
+	} //close clear()
+
+} //close class BoardChangeSet
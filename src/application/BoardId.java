@@ -0,0 +1,173 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardId.java
+ *
+ * Description: This class describes everything that is needed to generate the exact same board again: the
+ * random number generator algorithm, its seed, the board dimensions, the number of mines, and the cell that
+ * was clicked first (the cells around it never hold mines). Every board ID can be written as a short piece
+ * of text (such as A16x30m99r7c12s3k9x0f2ma1) that can be shared, and reading that text back regenerates the
+ * identical board. The text is made of the algorithm code, the rows ("x") the columns, the mines ("m"), the
+ * row ("r") and column ("c") of the first click, and the seed ("s") in base 36. The algorithm codes are
+ * stored in the IDs, so new algorithms can only ever be added to the end of the ALGORITHMS table.
+ *
+ */
+
+package application;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class BoardId {
+	//seedable algorithms that boards can be generated with (the index of each one is it's code in the IDs)
+	private static final String[] ALGORITHMS = {"L64X128MixRandom", "L32X64MixRandom", "L64X256MixRandom",
+	 "L128X256MixRandom", "Xoshiro256PlusPlus", "Xoroshiro128PlusPlus", "SplittableRandom", "Random"};
+	public static final String DEFAULT_ALGORITHM = ALGORITHMS[0]; //algorithm used for new boards
+	private static final int SEED_RADIX = 36; //the seed is written in base 36 to keep the IDs short
+	//text form of a board ID: <algorithm><rows>x<cols>m<mines>r<row>c<col>s<seed>
+	private static final Pattern ID_PATTERN =
+	 Pattern.compile("([A-Z])(\\d{1,5})x(\\d{1,5})m(\\d{1,9})r(\\d{1,5})c(\\d{1,5})s([0-9a-z]{1,13})");
+
+	private final String algorithm; //random number generator algorithm
+	private final long seed; //seed of the random number generator
+	private final int rows, cols, mines; //dimensions and mine count of the board
+	private final int clickRow, clickCol; //position of the first click
+
+
+	/* Constructor method for the BoardId. An IllegalArgumentException is thrown if the algorithm isn't one
+	 * of the supported algorithms, or if the first click doesn't lie on the board.
+	 */
+	public BoardId(String algorithm, long seed, int rows, int cols, int mines, int clickRow, int clickCol) {
+		getAlgorithmCode(algorithm); //make sure that the algorithm is supported
+		if (rows <= 0 || cols <= 0 || mines < 0)
+			throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols + " with " + mines +
+			 " mines");
+		if (clickRow < 0 || clickRow >= rows || clickCol < 0 || clickCol >= cols)
+			throw new IllegalArgumentException("The first click (" + clickRow + ", " + clickCol +
+			 ") isn't on the board");
+		this.algorithm = algorithm; //assign the values
+		this.seed = seed;
+		this.rows = rows;
+		this.cols = cols;
+		this.mines = mines;
+		this.clickRow = clickRow;
+		this.clickCol = clickCol;
+	} //close BoardId(...) constructor
+
+
+	//Create a board ID with a new random seed (and the default algorithm) for the given board and first click
+	public static BoardId newBoardId(int rows, int cols, int mines, int clickRow, int clickCol) {
+		long seed = ThreadLocalRandom.current().nextLong(); //random seed for the new board
+		return new BoardId(DEFAULT_ALGORITHM, seed, rows, cols, mines, clickRow, clickCol);
+	} //close newBoardId(...)
+
+
+	/* Read a board ID from it's text form (letter case and surrounding whitespace are ignored). An
+	 * IllegalArgumentException is thrown if the text isn't a valid board ID.
+	 */
+	public static BoardId parse(String text) {
+		String trimmed = text.trim(); //ignore whitespace around the ID
+		if (trimmed.isEmpty())
+			throw new IllegalArgumentException("The board ID is empty");
+		String normalized = Character.toUpperCase(trimmed.charAt(0)) + trimmed.substring(1).toLowerCase();
+		Matcher matcher = ID_PATTERN.matcher(normalized); //split the ID into it's fields
+		if (!matcher.matches())
+			throw new IllegalArgumentException("\"" + trimmed + "\" is not a valid board ID");
+		int code = matcher.group(1).charAt(0) - 'A'; //index of the algorithm
+		if (code >= ALGORITHMS.length)
+			throw new IllegalArgumentException("Unknown algorithm code: " + matcher.group(1));
+		long seed;
+		try {
+			seed = Long.parseUnsignedLong(matcher.group(7), SEED_RADIX); //seed of the board
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("The seed of \"" + trimmed + "\" is too large", e);
+		} //close catch(...)
+		return new BoardId(ALGORITHMS[code], seed, Integer.parseInt(matcher.group(2)),
+		 Integer.parseInt(matcher.group(3)), Integer.parseInt(matcher.group(4)),
+		 Integer.parseInt(matcher.group(5)), Integer.parseInt(matcher.group(6)));
+	} //close parse(...)
+
+
+	/* Create the random number generator of the given algorithm, seeded with the given seed. The same
+	 * algorithm and seed always produce the same sequence of numbers.
+	 */
+	public static RandomGenerator createGenerator(String algorithm, long seed) {
+		getAlgorithmCode(algorithm); //make sure that the algorithm is supported
+		return RandomGeneratorFactory.of(algorithm).create(seed);
+	} //close createGenerator(...)
+
+
+	//Return the code of the given algorithm (an IllegalArgumentException is thrown if it isn't supported)
+	private static int getAlgorithmCode(String algorithm) {
+		for (int code = 0; code < ALGORITHMS.length; code++) {
+			if (ALGORITHMS[code].equals(algorithm))
+				return code;
+		} //end for
+		throw new IllegalArgumentException("Unsupported random number generator: " + algorithm);
+	} //close getAlgorithmCode(...)
+
+
+	/* Populate the given board (which must have the dimensions of this ID) around the first click of this ID.
+	 * The board ends up with the exact same mines every time. The clicked cell isn't revealed.
+	 */
+	public void populateBoard(MinesweeperBoard board) {
+		if (board.getRows() != rows || board.getCols() != cols || board.getTotalMines() != mines)
+			throw new IllegalArgumentException("The board doesn't match the board ID " + this);
+		board.populateBoard(board.getIndex(clickRow, clickCol), createGenerator(algorithm, seed));
+	} //close populateBoard(...)
+
+
+	//Return the random number generator algorithm
+	public String getAlgorithm() {
+		return algorithm;
+	} //close getAlgorithm()
+
+
+	//Return the seed
+	public long getSeed() {
+		return seed;
+	} //close getSeed()
+
+
+	//Return the number of rows
+	public int getRows() {
+		return rows;
+	} //close getRows()
+
+
+	//Return the number of columns
+	public int getCols() {
+		return cols;
+	} //close getCols()
+
+
+	//Return the number of mines
+	public int getMines() {
+		return mines;
+	} //close getMines()
+
+
+	//Return the row of the first click
+	public int getClickRow() {
+		return clickRow;
+	} //close getClickRow()
+
+
+	//Return the column of the first click
+	public int getClickCol() {
+		return clickCol;
+	} //close getClickCol()
+
+
+	//Return the text form of the board ID
+	@Override
+	public String toString() {
+		return (char) ('A' + getAlgorithmCode(algorithm)) + Integer.toString(rows) + "x" + cols + "m" + mines +
+		 "r" + clickRow + "c" + clickCol + "s" + Long.toUnsignedString(seed, SEED_RADIX);
+	} //close toString()
+
+} //close class BoardId
@@ -0,0 +1,286 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardMetrics.java
+ *
+ * Description: This class measures how much work a board takes to clear, right after the board is generated:
+ * the number of openings (connected areas of empty cells, which are each cleared by a single click), the
+ * number of isolated numbers (numbered cells that aren't next to an opening, which each need their own
+ * click), and the board's 3BV (Bechtel's Board Benchmark Value), which is the sum of the two. The board is
+ * read once, one row at a time, and every row is turned into a bitmask of it's mines. The empty and numbered
+ * cells of a row are then found 64 columns at a time from the mines of the rows around it. Every run of
+ * empty cells in a row becomes a set in a union-find structure, and it is joined with the runs of the row
+ * above that it touches (diagonals included), so each opening ends up as one set. A row's isolated numbers
+ * are counted once the row below it is known, by removing every cell next to an empty cell from the row's
+ * numbered cells and counting the bits that are left. The buffers are reused, so measuring doesn't create
+ * any garbage once they are sized for the board.
+ *
+ */
+
+package application;
+import java.util.Arrays;
+
+public class BoardMetrics {
+	private static final int INITIAL_BUFFER_SIZE = 64; //starting size of the union-find parents
+
+	private int cols; //number of columns of the board being measured
+	private int rowWords; //number of longs in every row bitmask
+	private long[] lastColMask = new long[0]; //every column of a row (the unused bits are cleared)
+	private long[] mineRow = new long[0]; //mines of the newest row
+	private long[] minesAbove = new long[0]; //mines of the row that is measured next
+	private long[] minesAbove2 = new long[0]; //mines of the row above that one
+	private long[] emptyRow = new long[0]; //empty cells of the row that is being measured
+	private long[] emptyAbove = new long[0]; //empty cells of the row above it
+	private long[] emptyAbove2 = new long[0]; //empty cells two rows above it
+	private long[] numberedRow = new long[0]; //numbered cells of the row that is being measured
+	private long[] numbersAbove = new long[0]; //numbered cells of the row above it
+	private long[] around = new long[0]; //work mask of the cells next to a mine (or next to an empty cell)
+	private int[] runStarts = new int[0], runEnds = new int[0], runSets = new int[0]; //runs of the current row
+	private int[] aboveStarts = new int[0], aboveEnds = new int[0], aboveSets = new int[0]; //runs of the row above
+	private int runCount, aboveCount; //number of runs in the current row and in the row above
+	private int[] parent = new int[INITIAL_BUFFER_SIZE]; //union-find parent of every run (a root is it's own parent)
+	private int sets; //number of runs that were given a set
+	private int rowsAdded; //number of mine rows that were added to the board being measured
+	private int openings; //number of openings on the last board that was measured
+	private int isolatedNumbers; //number of numbered cells that aren't next to an opening
+	private int boardValue; //3BV of the last board that was measured
+
+
+	//Measure the given board (it's mines must already be placed)
+	public void measure(MinesweeperBoard board) {
+		startBoard(board.getCols()); //size the buffers and clear the counts
+		for (int row = 0; row < board.getRows(); row++) {
+			int rowStart = row * cols; //index of the first cell in the row
+			for (int word = 0; word < rowWords; word++) {
+				int firstCol = word * Long.SIZE; //first column of the long
+				int lastCol = Math.min(firstCol + Long.SIZE, cols); //column after the last column of the long
+				long mineBits = 0; //mines of the long's columns
+				for (int col = firstCol; col < lastCol; col++)
+					mineBits |= (long) ((board.getCellState(rowStart + col) >>> MinesweeperBoard.MINE_SHIFT) & 1) << col;
+				mineRow[word] = mineBits;
+			} //end inner for
+			addMineRow(); //measure the board a row behind
+		} //end outer for
+		finishBoard(); //measure the last row
+	} //close measure(...)
+
+
+	//Size the buffers for a board with the given number of columns and clear the counts
+	private void startBoard(int cols) {
+		this.cols = cols; //assign the number of columns
+		rowWords = (cols + Long.SIZE - 1) / Long.SIZE; //longs needed for one bit per column
+		if (lastColMask.length != rowWords) { //the row bitmasks are sized for the board
+			lastColMask = new long[rowWords];
+			mineRow = new long[rowWords];
+			minesAbove = new long[rowWords];
+			minesAbove2 = new long[rowWords];
+			emptyRow = new long[rowWords];
+			emptyAbove = new long[rowWords];
+			emptyAbove2 = new long[rowWords];
+			numberedRow = new long[rowWords];
+			numbersAbove = new long[rowWords];
+			around = new long[rowWords];
+		} //end if
+		Arrays.fill(lastColMask, -1L); //every column is on the board
+		if (cols % Long.SIZE != 0)
+			lastColMask[rowWords - 1] = (1L << cols) - 1; //except the bits after the last column
+		if (runStarts.length < cols / 2 + 1) { //a row has at most one run for every 2 columns
+			runStarts = new int[cols / 2 + 1];
+			runEnds = new int[cols / 2 + 1];
+			runSets = new int[cols / 2 + 1];
+			aboveStarts = new int[cols / 2 + 1];
+			aboveEnds = new int[cols / 2 + 1];
+			aboveSets = new int[cols / 2 + 1];
+		} //end if
+		Arrays.fill(minesAbove, 0); //there is nothing above the first row
+		Arrays.fill(emptyAbove, 0);
+		Arrays.fill(emptyAbove2, 0);
+		aboveCount = 0;
+		sets = 0; //no runs yet
+		rowsAdded = 0;
+		isolatedNumbers = 0; //nothing is counted yet
+	} //close startBoard(...)
+
+
+	/* Add the next row of mines (after it's bitmask is filled in). The row above it now has all of it's
+	 * neighbors, so it's empty and numbered cells are found and measured (a row behind the board).
+	 */
+	private void addMineRow() {
+		if (rowsAdded++ > 0)
+			measureRow(mineRow); //the row above is complete
+		long[] recycled = minesAbove2; //shift the mine rows up by one
+		minesAbove2 = minesAbove;
+		minesAbove = mineRow;
+		mineRow = recycled;
+	} //close addMineRow()
+
+
+	//Measure the last row (it doesn't have a row below it), count it's isolated numbers, and compute the 3BV
+	private void finishBoard() {
+		if (rowsAdded++ > 0) {
+			Arrays.fill(mineRow, 0); //no mines below the last row
+			measureRow(mineRow);
+			Arrays.fill(emptyRow, 0); //no empty cells below the last row either
+			countIsolatedNumbers(emptyRow);
+		} //end if
+		openings = sets; //every run started as it's own opening, and every union removed one
+		for (int set = 0; set < sets; set++) {
+			if (parent[set] != set)
+				openings--; //the run was joined with another run
+		} //end for
+		boardValue = openings + isolatedNumbers; //one click per opening and per isolated number
+	} //close finishBoard()
+
+
+	/* Find the empty and numbered cells of the row between minesAbove2 and the given row of mines: a cell is
+	 * empty when there isn't a mine in it's 3x3 block, and numbered when the block holds a mine but the cell
+	 * doesn't. The empty cells are joined with the openings above, and the isolated numbers of the row above
+	 * are counted now that every neighbor of that row is known.
+	 */
+	private void measureRow(long[] minesBelow) {
+		for (int word = 0; word < rowWords; word++)
+			around[word] = minesAbove2[word] | minesAbove[word] | minesBelow[word]; //mines in the 3 rows
+		spread(around); //every cell next to a mine
+		for (int word = 0; word < rowWords; word++) {
+			emptyRow[word] = ~around[word] & lastColMask[word];
+			numberedRow[word] = around[word] & ~minesAbove[word] & lastColMask[word];
+		} //end for
+		labelRuns(emptyRow); //join the empty cells of the row with the openings above
+		if (rowsAdded > 2)
+			countIsolatedNumbers(emptyRow); //the row above is complete
+		long[] recycled = emptyAbove2; //shift the rows up by one
+		emptyAbove2 = emptyAbove;
+		emptyAbove = emptyRow;
+		emptyRow = recycled;
+		recycled = numbersAbove;
+		numbersAbove = numberedRow;
+		numberedRow = recycled;
+	} //close measureRow(...)
+
+
+	/* Give every run of empty cells in the row it's own set, and join it with every run of the row above that
+	 * it touches. Both lists of runs are sorted by column, so they are walked through together.
+	 */
+	private void labelRuns(long[] empty) {
+		runCount = 0; //find the runs of the row
+		for (int start = nextSetBit(empty, 0); start < cols; start = nextSetBit(empty, runEnds[runCount - 1] + 1)) {
+			runStarts[runCount] = start;
+			runEnds[runCount] = nextClearBit(empty, start) - 1; //last empty column of the run
+			if (sets == parent.length) //grow the parents if they are full
+				parent = Arrays.copyOf(parent, sets * 2);
+			parent[sets] = sets; //the run starts out as it's own opening
+			runSets[runCount++] = sets++;
+		} //end for
+		int above = 0; //first run of the row above that can still touch a run of this row
+		for (int run = 0; run < runCount; run++) {
+			//skip the runs above that end more than one column before this run starts
+			while (above < aboveCount && aboveEnds[above] < runStarts[run] - 1)
+				above++;
+			//join every run above that starts before (or one column after) this run ends
+			for (int touching = above; touching < aboveCount && aboveStarts[touching] <= runEnds[run] + 1; touching++)
+				union(runSets[run], aboveSets[touching]);
+		} //end for
+		int[] swap = aboveStarts; //the runs of this row are the runs above the next row
+		aboveStarts = runStarts;
+		runStarts = swap;
+		swap = aboveEnds;
+		aboveEnds = runEnds;
+		runEnds = swap;
+		swap = aboveSets;
+		aboveSets = runSets;
+		runSets = swap;
+		aboveCount = runCount;
+	} //close labelRuns(...)
+
+
+	//Return the first column at or after the given column whose bit is set, or cols if there isn't one
+	private int nextSetBit(long[] bits, int from) {
+		int word = from >>> 6; //long that holds the column
+		if (word >= rowWords)
+			return cols;
+		long value = bits[word] & (-1L << from); //ignore the columns before from
+		while (value == 0) {
+			if (++word == rowWords)
+				return cols;
+			value = bits[word];
+		} //end while
+		return (word << 6) + Long.numberOfTrailingZeros(value); //the bits after the last column are clear
+	} //close nextSetBit(...)
+
+
+	//Return the first column at or after the given column whose bit is clear, or cols if there isn't one
+	private int nextClearBit(long[] bits, int from) {
+		int word = from >>> 6; //long that holds the column
+		long value = ~bits[word] & (-1L << from); //ignore the columns before from
+		while (value == 0) {
+			if (++word == rowWords)
+				return cols;
+			value = ~bits[word];
+		} //end while
+		return Math.min((word << 6) + Long.numberOfTrailingZeros(value), cols);
+	} //close nextClearBit(...)
+
+
+	//Join the sets of the two given runs (if they aren't already the same opening)
+	private void union(int first, int second) {
+		int firstRoot = find(first); //opening of the first run
+		int secondRoot = find(second); //opening of the second run
+		if (firstRoot != secondRoot)
+			parent[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot); //the earlier root is kept
+	} //close union(...)
+
+
+	//Return the root of the given run's set (every other step is skipped to keep the paths short)
+	private int find(int set) {
+		while (parent[set] != set) {
+			parent[set] = parent[parent[set]]; //path halving
+			set = parent[set];
+		} //end while
+		return set;
+	} //close find(...)
+
+
+	/* Count the numbered cells of the row above that aren't next to an empty cell. The empty cells of the rows
+	 * around it are combined, spread one column to each side, and removed from the row's numbered cells.
+	 */
+	private void countIsolatedNumbers(long[] emptyBelow) {
+		for (int word = 0; word < rowWords; word++)
+			around[word] = emptyAbove2[word] | emptyAbove[word] | emptyBelow[word]; //empty cells in the 3 rows
+		spread(around); //every cell next to an empty cell
+		for (int word = 0; word < rowWords; word++)
+			isolatedNumbers += Long.bitCount(numbersAbove[word] & ~around[word]);
+	} //close countIsolatedNumbers(...)
+
+
+	//Spread the set bits of a row one column to the left and one column to the right
+	private void spread(long[] bits) {
+		long carry = 0; //bit that moves into the next long when the row is spread to the right
+		for (int word = 0; word < rowWords; word++) {
+			long value = bits[word];
+			long left = (value >>> 1) | (word + 1 < rowWords ? bits[word + 1] << 63 : 0); //spread to the left
+			bits[word] = value | (value << 1) | carry | left;
+			carry = value >>> 63;
+		} //end for
+	} //close spread(...)
+
+
+	//Return the number of openings on the last board that was measured
+	public int getOpenings() {
+		return openings;
+	} //close getOpenings()
+
+
+	//Return the number of isolated numbers on the last board that was measured
+	public int getIsolatedNumbers() {
+		return isolatedNumbers;
+	} //close getIsolatedNumbers()
+
+
+	//Return the 3BV of the last board that was measured
+	public int getBoardValue() {
+		return boardValue;
+	} //close getBoardValue()
+
+} //close class BoardMetrics
@@ -0,0 +1,302 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardPool.java
+ *
+ * Description: This class keeps a small pool of boards that were generated ahead of time on a background
+ * thread, so that the first click of a game doesn't have to wait for a board to be generated (which is
+ * expensive for no-guess boards). Since the safe area of a board depends on where the user clicks, every
+ * pooled board is stored with an index of the cells that are valid first clicks: the empty cells of every
+ * opening from which the board can be solved (or every empty cell for regular boards). When the first
+ * click arrives, each pooled board is checked under every symmetry of the grid (reflections and 180
+ * degree rotation, plus 90 degree rotations and transposes for square boards). The first board that maps
+ * one of its valid first clicks onto the clicked cell is transformed and used, which only takes a lookup
+ * in the index and a single pass over the board. If no pooled board fits the clicked cell, the caller
+ * generates a board like it normally would.
+ *
+ */
+
+package application;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class BoardPool {
+	public static final int DEFAULT_CAPACITY = 8; //boards kept ready for every kind of board
+	private static final int MAX_POOLS = 4; //kinds of boards (sizes) kept at once
+	private static final int SQUARE_TRANSFORMS = 8; //symmetries of a square board
+	private static final int RECTANGLE_TRANSFORMS = 4; //symmetries of a board that isn't square
+	private static final int MAX_ATTEMPTS = 5000; //layouts tried before a no-guess pool is given up on
+	private static final int MAX_CELLS = NoGuessGenerator.MAX_CELLS; //larger boards are never kept ready
+	private static final AtomicBoolean NEVER_STOP = new AtomicBoolean(); //the background solver never gives up
+
+	private final int capacity; //boards kept ready for every kind of board
+	//pools of ready boards for every kind of board (the least recently requested kinds come first)
+	private final LinkedHashMap<String, Pool> pools = new LinkedHashMap<>(16, 0.75f, true);
+	private final Random random = new Random(); //used by the background thread
+	private Thread generatorThread; //fills the pools in the background (started with the first request)
+	private long hits; //first clicks that were served from the pool
+	private long misses; //first clicks that had to generate a board
+
+
+	//The ready boards of a single kind (size, mines, and whether they have to be solvable without guessing)
+	private static class Pool {
+		private final int rows, cols, mines; //dimensions of the boards
+		private final boolean noGuess; //flag used to check if the boards are solvable without guessing
+		private final ArrayDeque<PooledBoard> boards = new ArrayDeque<>(); //ready boards
+		private boolean abandoned; //flag used to check if no board could be generated (e.g. too dense)
+
+		//Constructor method for the Pool
+		private Pool(int rows, int cols, int mines, boolean noGuess) {
+			this.rows = rows; //assign the rows
+			this.cols = cols; //assign the columns
+			this.mines = mines; //assign the mines
+			this.noGuess = noGuess; //assign the no-guess flag
+		} //close Pool(...) constructor
+	} //close class Pool
+
+
+	//A board that was generated ahead of time
+	private static class PooledBoard {
+		private final BitSet mines; //cells that contain a mine
+		private final BitSet firstClicks; //cells that are valid first clicks
+
+		//Constructor method for the PooledBoard
+		private PooledBoard(BitSet mines, BitSet firstClicks) {
+			this.mines = mines; //assign the mines
+			this.firstClicks = firstClicks; //assign the valid first clicks
+		} //close PooledBoard(...) constructor
+	} //close class PooledBoard
+
+
+	//Constructor method for the BoardPool (uses the default capacity)
+	public BoardPool() {
+		this(DEFAULT_CAPACITY);
+	} //close BoardPool(...) constructor
+
+
+	//Constructor method for the BoardPool
+	public BoardPool(int capacity) {
+		this.capacity = capacity; //assign the capacity
+	} //close BoardPool(...) constructor
+
+
+	//Return the key of the given kind of board
+	private static String getKey(int rows, int cols, int mines, boolean noGuess) {
+		return rows + "x" + cols + "/" + mines + (noGuess ? "/no-guess" : "");
+	} //close getKey(...)
+
+
+	/* Start keeping boards of the given kind ready. Only the most recently requested kinds are kept, so
+	 * switching between difficulties doesn't make the pools grow without bounds. Boards with more than
+	 * MAX_CELLS cells aren't kept ready (generating and indexing them would keep the thread busy for hours).
+	 */
+	public synchronized void request(int rows, int cols, int mines, boolean noGuess) {
+		if ((long) rows * cols > MAX_CELLS)
+			return; //the board is too large to pool
+		String key = getKey(rows, cols, mines, noGuess); //key of the pool
+		if (pools.get(key) == null) {
+			pools.put(key, new Pool(rows, cols, mines, noGuess)); //start filling a new pool
+			if (pools.size() > MAX_POOLS)
+				pools.remove(pools.keySet().iterator().next()); //forget the least recently requested pool
+		} //end if
+		if (generatorThread == null) {
+			generatorThread = new Thread(this::fillPools, "board-pool"); //create the background thread
+			generatorThread.setDaemon(true); //the program can exit while a board is being generated
+			generatorThread.setPriority(Thread.MIN_PRIORITY); //the game always comes first
+			generatorThread.start();
+		} //end if
+		notifyAll(); //let the background thread know that there is work to do
+	} //close request(...)
+
+
+	/* Populate the given board with a pooled board that has a valid first click on the clicked cell. The
+	 * cells aren't revealed and their comments are left untouched. Return whether a pooled board was used
+	 * (the caller generates a board itself otherwise).
+	 */
+	public synchronized boolean populateBoard(MinesweeperBoard board, int clickedIndex, boolean noGuess) {
+		int rows = board.getRows(), cols = board.getCols(); //dimensions of the board
+		Pool pool = pools.get(getKey(rows, cols, board.getTotalMines(), noGuess)); //ready boards of this kind
+		if (pool == null) {
+			request(rows, cols, board.getTotalMines(), noGuess); //start keeping these boards ready
+			misses++; //nothing was ready yet
+			return false;
+		} //end if
+		int row = board.getRow(clickedIndex), col = board.getCol(clickedIndex); //clicked cell
+		int transforms = (rows == cols) ? SQUARE_TRANSFORMS : RECTANGLE_TRANSFORMS; //symmetries of the board
+		for (Iterator<PooledBoard> iterator = pool.boards.iterator(); iterator.hasNext();) {
+			PooledBoard pooled = iterator.next(); //next ready board
+			for (int transform = 0; transform < transforms; transform++) {
+				if (pooled.firstClicks.get(getSourceIndex(transform, row, col, rows, cols))) {
+					iterator.remove(); //the board is used up
+					board.placeMines(transformMines(pooled.mines, transform, rows, cols)); //place its mines
+					hits++; //the first click was served from the pool
+					notifyAll(); //let the background thread replace the board
+					return true;
+				} //end if
+			} //end for
+		} //end for
+		misses++; //no ready board fits the clicked cell
+		return false;
+	} //close populateBoard(...)
+
+
+	//Return the number of ready boards of the given kind
+	public synchronized int getReadyCount(int rows, int cols, int mines, boolean noGuess) {
+		Pool pool = pools.get(getKey(rows, cols, mines, noGuess)); //ready boards of this kind
+		return (pool == null) ? 0 : pool.boards.size();
+	} //close getReadyCount(...)
+
+
+	//Return the number of first clicks that were served from the pool
+	public synchronized long getHits() {
+		return hits;
+	} //close getHits()
+
+
+	//Return the number of first clicks that had to generate a board
+	public synchronized long getMisses() {
+		return misses;
+	} //close getMisses()
+
+
+	/* Return the index of the cell of the pooled board that ends up at the given row and column of the
+	 * transformed board. Transforms 0-3 work on any board (identity, horizontal reflection, vertical
+	 * reflection, and 180 degree rotation), while transforms 4-7 swap the rows and the columns, so they are
+	 * only used on square boards (transpose, 90 degree rotations, and anti-transpose).
+	 */
+	private static int getSourceIndex(int transform, int row, int col, int rows, int cols) {
+		int sourceRow, sourceCol; //cell of the pooled board
+		switch (transform) {
+			case 0: sourceRow = row; sourceCol = col; break; //identity
+			case 1: sourceRow = row; sourceCol = cols - 1 - col; break; //horizontal reflection
+			case 2: sourceRow = rows - 1 - row; sourceCol = col; break; //vertical reflection
+			case 3: sourceRow = rows - 1 - row; sourceCol = cols - 1 - col; break; //180 degree rotation
+			case 4: sourceRow = col; sourceCol = row; break; //transpose
+			case 5: sourceRow = col; sourceCol = cols - 1 - row; break; //90 degree rotation
+			case 6: sourceRow = rows - 1 - col; sourceCol = row; break; //270 degree rotation
+			default: sourceRow = rows - 1 - col; sourceCol = cols - 1 - row; break; //anti-transpose
+		} //end switch (transform)
+		return sourceRow * cols + sourceCol; //return the index of the cell
+	} //close getSourceIndex(...)
+
+
+	//Return the mines of a pooled board after the given transform is applied to it
+	private static BitSet transformMines(BitSet mines, int transform, int rows, int cols) {
+		BitSet transformed = new BitSet(rows * cols); //mines of the transformed board
+		for (int row = 0; row < rows; row++) {
+			for (int col = 0; col < cols; col++) {
+				if (mines.get(getSourceIndex(transform, row, col, rows, cols)))
+					transformed.set(row * cols + col); //the mine moves to this cell
+			} //end inner for
+		} //end outer for
+		return transformed;
+	} //close transformMines(...)
+
+
+	/* Keep generating boards for the pool that needs one the most (the most recently requested pool that
+	 * isn't full) and wait whenever every pool is full.
+	 */
+	private void fillPools() {
+		while (true) {
+			Pool pool; //pool that receives the next board
+			synchronized (this) {
+				while ((pool = findPoolToFill()) == null) {
+					try {
+						wait(); //every pool is full
+					} catch (InterruptedException e) {
+						return; //stop generating boards
+					} //close catch(...)
+				} //end while
+			} //end synchronized
+			PooledBoard generated = generateBoard(pool); //generate the board without holding the lock
+			synchronized (this) {
+				if (generated == null)
+					pool.abandoned = true; //the first clicks of these boards are generated as they happen
+				else if (pools.containsValue(pool) && pool.boards.size() < capacity)
+					pool.boards.add(generated); //the board is ready
+			} //end synchronized
+		} //end while
+	} //close fillPools()
+
+
+	//Return the most recently requested pool that isn't full (null if every pool is full)
+	private Pool findPoolToFill() {
+		Pool found = null; //pool that receives the next board
+		for (Map.Entry<String, Pool> entry : pools.entrySet()) {
+			if (entry.getValue().boards.size() < capacity && !entry.getValue().abandoned)
+				found = entry.getValue(); //later entries were requested more recently
+		} //end for
+		return found;
+	} //close findPoolToFill()
+
+
+	/* Generate a board for the given pool. A random cell is used as the first click, and for no-guess
+	 * pools the layouts are generated until the solver can finish one from that click. The empty cells of
+	 * every opening that the board can be solved from are then indexed as valid first clicks: each opening
+	 * is found with a single search over the cell values (nothing is revealed), and the solver only replays
+	 * the board once for each opening of a no-guess board other than the one it was generated from. If no
+	 * layout can be solved after many attempts (very dense boards), null is returned.
+	 */
+	private PooledBoard generateBoard(Pool pool) {
+		MinesweeperBoard board = new MinesweeperBoard(pool.rows, pool.cols, pool.mines); //generated board
+		board.setChangeTracking(false); //nothing is drawn
+		MinesweeperSolver solver = new MinesweeperSolver(board); //plays the generated board
+		int firstClick; //cell that the board was generated around
+		int attempts = 0; //layouts tried so far
+		do {
+			if (++attempts > MAX_ATTEMPTS)
+				return null; //the boards are too hard to generate
+			firstClick = random.nextInt(board.getCellCount()); //random first click
+			board.zeroOutBoard(); //start from an empty board
+			board.populateBoard(firstClick, random); //generate a new layout
+		} while (pool.noGuess && !NoGuessGenerator.isSolvable(board, solver, firstClick, NEVER_STOP));
+		BitSet mines = new BitSet(board.getCellCount()); //cells that contain a mine
+		for (int index = 0; index < board.getCellCount(); index++) {
+			if (board.hasMine(index))
+				mines.set(index);
+		} //end for
+		BitSet firstClicks = new BitSet(board.getCellCount()); //valid first clicks
+		BitSet checked = new BitSet(board.getCellCount()); //empty cells whose opening was already found
+		int[] members = new int[board.getCellCount()]; //empty cells of the current opening (and search queue)
+		int rows = board.getRows(), cols = board.getCols(); //dimensions of the board
+		for (int index = 0; index < board.getCellCount(); index++) {
+			if (board.hasMine(index) || board.getCellVal(index) != 0 || checked.get(index))
+				continue; //not the first empty cell of a new opening
+			//collect the empty cells of the opening (the list being built is the search queue)
+			int memberCount = 0; //empty cells found so far
+			boolean hasFirstClick = false; //flag used to check if the board was generated from this opening
+			members[memberCount++] = index;
+			checked.set(index);
+			for (int next = 0; next < memberCount; next++) {
+				int cell = members[next]; //empty cell whose neighbors are searched
+				hasFirstClick |= cell == firstClick;
+				int row = cell / cols, col = cell % cols; //position of the cell
+				for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, rows - 1); newRow++) {
+					for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, cols - 1); newCol++) {
+						int neighbor = newRow * cols + newCol; //index of the neighboring cell
+						if (!checked.get(neighbor) && !board.hasMine(neighbor) && board.getCellVal(neighbor) == 0) {
+							checked.set(neighbor); //every empty cell of the opening reveals the same cells
+							members[memberCount++] = neighbor;
+						} //end if
+					} //end inner for
+				} //end outer for
+			} //end for
+			if (pool.noGuess && !hasFirstClick) {
+				board.resetBoard(); //hide every cell again (the solver starts from this opening)
+				if (!NoGuessGenerator.isSolvable(board, solver, index, NEVER_STOP))
+					continue; //the board would need a guess from this opening
+			} //end if
+			for (int i = 0; i < memberCount; i++)
+				firstClicks.set(members[i]); //the board can be played from this opening
+		} //end for
+		return new PooledBoard(mines, firstClicks);
+	} //close generateBoard(...)
+
+} //close class BoardPool
@@ -0,0 +1,56 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardRenderer.java
+ *
+ * Description: This interface describes everything that Main needs from the component that displays the
+ * Minesweeper board. Main decides what every cell should look like (text, comment, colors, and style),
+ * and the renderer is only responsible for putting it on the screen and for translating mouse
+ * coordinates back into cell indexes. This allows the board to be displayed either with one node per
+ * cell (GridBoardRenderer) or on a single Canvas (CanvasBoardRenderer).
+ *
+ */
+
+package application;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+public interface BoardRenderer {
+
+	//The different ways that a cell can be displayed to the user
+	public enum CellStyle {
+		CONCEALED, //hidden cell (only the comment is visible)
+		REVEALED, //revealed cell (the cell's value is visible)
+		EXPLODED, //revealed mine that ended the game (highlighted background)
+		MINE, //mine that was exposed once the game ended (the comment stays visible)
+		INCORRECT //flag comment that was placed on a cell without a mine (game lost)
+	} //close enum CellStyle
+
+
+	//Return the node that displays the board (placed in the center of the window)
+	public Region getView();
+
+
+	//Create a new (empty) board with the given amount of rows and columns
+	public void createCells(int rows, int cols);
+
+
+	/* Return whether the cell at the given index is currently displayed. Renderers that only display part
+	 * of the board can skip any cells that aren't on the screen (they are drawn once they appear).
+	 */
+	public default boolean isCellDisplayed(int index) {
+		return true; //every cell is displayed by default
+	} //close isCellDisplayed(...)
+
+
+	//Display the cell at the given index using the provided text, comment, colors, and style
+	public void drawCell(int index, String text, Color textColor, String comment, Color commentColor,
+	 CellStyle style);
+
+
+	//Return the index of the cell located at the given coordinates of the view (-1 if there is no cell)
+	public int getCellIndex(double x, double y);
+
+} //close interface BoardRenderer
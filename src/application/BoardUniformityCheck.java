@@ -0,0 +1,110 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardUniformityCheck.java
+ *
+ * Description: This class checks that MinesweeperBoard.populateBoard(...) places the mines uniformly. A
+ * large number of seeded boards are populated for a few board sizes and first clicks. Every board must
+ * have exactly the requested number of mines and none of them may be in the 3x3 safe zone around the
+ * clicked cell. The number of times each allowed cell received a mine is then compared with the expected
+ * frequency using a chi-square test. The mines of a board are drawn without replacement, so the statistic
+ * is scaled by (K - 1) / (K * (1 - p)) (K allowed cells, p = mines / K) to follow a chi-square
+ * distribution with K - 1 degrees of freedom. A check fails when the statistic is above the 0.001
+ * critical value.
+ *
+ * The project doesn't have a test framework, so this is a standalone check that runs without JavaFX and
+ * exits with a non-zero status when a check fails:
+ *     java -cp bin application.BoardUniformityCheck [boards per check]
+ *
+ */
+
+package application;
+import java.util.random.RandomGenerator;
+
+public class BoardUniformityCheck {
+	private static final int DEFAULT_BOARDS = 200_000; //boards populated for every check
+	private static final long SEED = 20230201L; //seed used for every board (the results are repeatable)
+	private static final double CRITICAL_Z = 3.090; //standard normal quantile of the 0.001 significance level
+
+
+	//Populate the boards of every check and report the results (exit status 1 if a check failed)
+	public static void main(String[] args) {
+		int boards = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_BOARDS; //boards per check
+		boolean passed = true; //flag used to check if every check passed
+		passed &= check("Beginner, center click", 9, 9, 10, 4, 4, boards);
+		passed &= check("Beginner, corner click", 9, 9, 10, 0, 0, boards);
+		passed &= check("Hard, edge click", 16, 30, 99, 0, 14, boards);
+		passed &= check("Dense custom, center click", 9, 9, 64, 4, 4, boards);
+		if (!passed)
+			System.exit(1); //at least one check failed
+	} //close main(...)
+
+
+	/* Populate the given number of boards (always clicking the same cell) and check the mine count, the
+	 * safe zone, and the chi-square statistic of the per-cell mine frequencies. Return true if every
+	 * check passed.
+	 */
+	private static boolean check(String name, int rows, int cols, int mines, int clickedRow, int clickedCol,
+	 int boards) {
+		MinesweeperBoard board = new MinesweeperBoard(rows, cols, mines); //board that is populated
+		board.setChangeTracking(false); //no display to update
+		RandomGenerator ran = BoardId.createGenerator(BoardId.DEFAULT_ALGORITHM, SEED);
+		int clickedIndex = board.getIndex(clickedRow, clickedCol); //cell clicked to populate the boards
+		long[] mineFrequency = new long[board.getCellCount()]; //number of boards with a mine on each cell
+		int badMineCounts = 0; //boards that didn't have exactly the requested number of mines
+		int safeZoneMines = 0; //mines placed in the 3x3 safe zone of the clicked cell
+		for (int i = 0; i < boards; i++) {
+			board.zeroOutBoard(); //clear the previous board
+			board.populateBoard(clickedIndex, ran);
+			int mineCount = 0; //mines found on this board
+			for (int index = 0; index < mineFrequency.length; index++) {
+				if (board.hasMine(index)) {
+					mineFrequency[index]++;
+					mineCount++;
+					if (inSafeZone(board, index, clickedRow, clickedCol))
+						safeZoneMines++; //mine placed next to the clicked cell
+				} //end if
+			} //end for
+			if (mineCount != mines)
+				badMineCounts++;
+		} //end for
+
+		//compare the frequency of every allowed cell with the expected frequency
+		int allowedCells = 0; //cells outside of the safe zone
+		for (int index = 0; index < mineFrequency.length; index++)
+			allowedCells += inSafeZone(board, index, clickedRow, clickedCol) ? 0 : 1;
+		double p = (double) mines / allowedCells; //chance of each allowed cell receiving a mine
+		double expected = boards * p; //expected number of mines on each allowed cell
+		double statistic = 0; //chi-square statistic of the allowed cells
+		for (int index = 0; index < mineFrequency.length; index++) {
+			if (!inSafeZone(board, index, clickedRow, clickedCol))
+				statistic += (mineFrequency[index] - expected) * (mineFrequency[index] - expected) / expected;
+		} //end for
+		int degreesOfFreedom = allowedCells - 1; //the total number of mines is fixed
+		statistic *= degreesOfFreedom / (allowedCells * (1 - p)); //the mines are drawn without replacement
+		double critical = criticalValue(degreesOfFreedom); //largest statistic that passes the check
+
+		boolean passed = badMineCounts == 0 && safeZoneMines == 0 && statistic <= critical;
+		System.out.printf("%-28s %dx%d, %d mines, %d boards: chi-square %.1f (df %d, critical %.1f), " +
+		 "bad mine counts %d, safe zone mines %d -> %s%n", name, rows, cols, mines, boards, statistic,
+		 degreesOfFreedom, critical, badMineCounts, safeZoneMines, passed ? "PASS" : "FAIL");
+		return passed;
+	} //close check(...)
+
+
+	//Return true if the cell lies in the 3x3 block around the clicked cell
+	private static boolean inSafeZone(MinesweeperBoard board, int index, int clickedRow, int clickedCol) {
+		return Math.abs(board.getRow(index) - clickedRow) <= 1 && Math.abs(board.getCol(index) - clickedCol) <= 1;
+	} //close inSafeZone(...)
+
+
+	//Return the 0.001 critical value of the chi-square distribution (Wilson-Hilferty approximation)
+	private static double criticalValue(int degreesOfFreedom) {
+		double variance = 2.0 / (9.0 * degreesOfFreedom); //variance of the cube root of the scaled statistic
+		double root = 1 - variance + CRITICAL_Z * Math.sqrt(variance);
+		return degreesOfFreedom * root * root * root;
+	} //close criticalValue(...)
+
+} //close class BoardUniformityCheck
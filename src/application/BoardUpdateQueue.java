@@ -0,0 +1,60 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: BoardUpdateQueue.java
+ *
+ * Description: This class is used to apply the changes of the MinesweeperBoard to the screen. Instead of
+ * posting a Platform.runLater(...) for every cell that changes, each user action submits the board to
+ * this queue and all of the pending changes are drawn together on the next JavaFX pulse. Any actions
+ * that arrive before that pulse are merged into the same update, so every changed cell is only drawn
+ * once per frame.
+ *
+ */
+
+package application;
+import java.util.function.IntConsumer;
+import javafx.animation.AnimationTimer;
+
+public class BoardUpdateQueue extends AnimationTimer {
+	private final IntConsumer cellRenderer; //draws a single cell given its index
+	private MinesweeperBoard pendingBoard; //board whose changes still need to be drawn
+	private boolean updateScheduled; //flag used to check if an update is waiting for the next pulse
+
+
+	//Constructor method for the BoardUpdateQueue
+	public BoardUpdateQueue(IntConsumer renderer) {
+		cellRenderer = renderer; //assign the renderer
+	} //close BoardUpdateQueue(...) constructor
+
+
+	//Schedule the pending changes of the given board to be drawn on the next pulse
+	public void submit(MinesweeperBoard board) {
+		pendingBoard = board; //only the most recent board is drawn
+		if (!updateScheduled) {
+			updateScheduled = true; //the changes of the following actions will be merged in
+			start(); //wait for the next pulse
+		} //end if
+	} //close submit(...)
+
+
+	//Draw every pending change immediately (used when the screen must be up-to-date right away)
+	public void flush() {
+		if (updateScheduled)
+			handle(0); //draw the changes now instead of waiting for the next pulse
+	} //close flush()
+
+
+	//Draw all of the changes that were merged since the last pulse
+	@Override
+	public void handle(long now) {
+		stop(); //the timer only needs to run when there are pending changes
+		updateScheduled = false; //any new actions will schedule another update
+		BoardChangeSet changes = pendingBoard.getPendingChanges(); //changes since the last update
+		for (int i = 0; i < changes.size(); i++)
+			cellRenderer.accept(changes.getCell(i)); //draw the changed cell
+		changes.clear(); //the changes were drawn
+	} //close handle(...)
+
+} //close class BoardUpdateQueue
@@ -0,0 +1,126 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: CanvasBoardRenderer.java
+ *
+ * Description: This class displays the Minesweeper board on a single Canvas instead of creating a node for
+ * every cell. The cells are laid out the same way as the GridPane version (same padding and gaps), but
+ * they are drawn directly onto the canvas, so the size of the scene graph no longer depends on the size
+ * of the board. The cells themselves are drawn by a CellPainter (which caches the rendered text). Mouse 
+ * clicks are mapped back to cell indexes with simple arithmetic.
+ *
+ */
+
+package application;
+import java.util.function.IntConsumer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+public class CanvasBoardRenderer implements BoardRenderer {
+	private static final double CELL_GAP = 3; //gap between cells (same as the GridPane)
+	private static final double PADDING_X = 5; //left and right padding (same as the GridPane)
+	private static final double PADDING_Y = 2; //top and bottom padding (same as the GridPane)
+	private static final double MIN_CELL_SIZE = 23; //minimum size of each cell (same as a MinesweeperCell)
+	private final IntConsumer cellRenderer; //redraws a single cell (used after the canvas is resized)
+	private final Canvas canvas = new Canvas(); //the canvas that the board is drawn on
+	private final Pane canvasPane; //resizable container that keeps the canvas the same size as itself
+	private final CellPainter cellPainter = new CellPainter(); //draws the individual cells
+	private int gameRows; //number of rows on the board
+	private int gameCols; //number of columns on the board
+	private double cellWidth; //width of each cell
+	private double cellHeight; //height of each cell
+	private boolean cellsSized; //flag used to check if the cell size has been computed yet
+
+
+	//Constructor method for the CanvasBoardRenderer
+	public CanvasBoardRenderer(IntConsumer renderer) {
+		cellRenderer = renderer; //assign the renderer
+		/* The canvas isn't resizable, so its size follows the size of the pane. This is done during
+		 * layout so that a resize only redraws the board once per pulse.
+		 */
+		canvasPane = new Pane() {
+			@Override
+			protected void layoutChildren() {
+				resizeCanvas(getWidth(), getHeight()); //make the canvas fill the pane
+			} //close layoutChildren()
+		}; //close Pane
+		canvas.setManaged(false); //the canvas shouldn't affect the preferred size of the pane
+		canvasPane.getChildren().add(canvas); //add the canvas to the pane
+	} //close CanvasBoardRenderer(...) constructor
+
+
+	//Return the pane that holds the canvas
+	@Override
+	public Region getView() {
+		return canvasPane;
+	} //close getView()
+
+
+	//Prepare the canvas for a new (empty) board with the given amount of rows and columns
+	@Override
+	public void createCells(int rows, int cols) {
+		gameRows = rows; //assign the number of rows
+		gameCols = cols; //assign the number of columns
+		//the board can't be smaller than the minimum size of every cell
+		canvasPane.setMinSize(cols * (MIN_CELL_SIZE + CELL_GAP) - CELL_GAP + 2 * PADDING_X,
+		 rows * (MIN_CELL_SIZE + CELL_GAP) - CELL_GAP + 2 * PADDING_Y);
+		canvas.setWidth(0); //force the next layout to recompute the cell size and redraw the board
+		canvasPane.requestLayout(); //lay out the new board
+	} //close createCells(...)
+
+
+	//Resize the canvas to the given size (the cell size depends on it, so every cell is redrawn)
+	private void resizeCanvas(double width, double height) {
+		if (width == canvas.getWidth() && height == canvas.getHeight())
+			return; //nothing changed
+		canvas.setWidth(width); //update the canvas width
+		canvas.setHeight(height); //update the canvas height
+		if (gameRows == 0 || gameCols == 0)
+			return; //there is no board to draw yet
+		//every cell is the same size; the gaps and padding take up the rest of the canvas
+		cellWidth = Math.max(1, (width - 2 * PADDING_X - (gameCols - 1) * CELL_GAP) / gameCols);
+		cellHeight = Math.max(1, (height - 2 * PADDING_Y - (gameRows - 1) * CELL_GAP) / gameRows);
+		cellPainter.setCellSize(cellWidth, cellHeight); //update the size of the painted cells
+		cellsSized = true; //the cells can be drawn now
+		canvas.getGraphicsContext2D().clearRect(0, 0, width, height); //erase the old board
+		for (int i = 0; i < gameRows * gameCols; i++)
+			cellRenderer.accept(i); //redraw every cell
+	} //close resizeCanvas(...)
+
+
+	//Draw the cell at the given index using the provided values
+	@Override
+	public void drawCell(int index, String text, Color textColor, String comment, Color commentColor,
+	 CellStyle style) {
+		if (!cellsSized)
+			return; //the canvas hasn't been laid out yet (every cell is drawn once it is)
+		double x = PADDING_X + (index % gameCols) * (cellWidth + CELL_GAP); //left side of the cell
+		double y = PADDING_Y + (index / gameCols) * (cellHeight + CELL_GAP); //top side of the cell
+		cellPainter.paintCell(canvas.getGraphicsContext2D(), x, y, text, textColor, comment, commentColor, style);
+	} //close drawCell(...)
+
+
+	/* Return the index of the cell located at the given coordinates. Every cell is the same size, so the
+	 * row and column can be computed directly (clicks that land on the gaps don't belong to any cell).
+	 */
+	@Override
+	public int getCellIndex(double x, double y) {
+		if (!cellsSized)
+			return -1; //the board hasn't been drawn yet
+		double colPos = (x - PADDING_X) / (cellWidth + CELL_GAP); //column position (including the gap)
+		double rowPos = (y - PADDING_Y) / (cellHeight + CELL_GAP); //row position (including the gap)
+		int col = (int) Math.floor(colPos); //column of the cell
+		int row = (int) Math.floor(rowPos); //row of the cell
+		if (col < 0 || row < 0 || col >= gameCols || row >= gameRows)
+			return -1; //the coordinates are outside of the board
+		//make sure the coordinates aren't located in the gap after the cell
+		if ((colPos - col) * (cellWidth + CELL_GAP) > cellWidth || (rowPos - row) * (cellHeight + CELL_GAP) > cellHeight)
+			return -1;
+		return row * gameCols + col; //index of the cell
+	} //close getCellIndex(...)
+
+} //close class CanvasBoardRenderer
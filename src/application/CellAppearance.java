@@ -0,0 +1,65 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: CellAppearance.java
+ *
+ * Description: This class holds everything that is needed to display a single cell (its text, comment,
+ * colors, and style). Main decides what a cell should look like and fills in one of these objects, which
+ * allows the normal board and the endless board to share the same rules for displaying their cells.
+ *
+ */
+
+package application;
+import javafx.scene.paint.Color;
+
+public class CellAppearance {
+	private String text = ""; //text displayed for the cell's value
+	private Color textColor = Color.BLACK; //color of the cell's text
+	private String comment = ""; //text displayed for the cell's comment
+	private Color commentColor = Color.BLACK; //color of the cell's comment
+	private BoardRenderer.CellStyle style = BoardRenderer.CellStyle.CONCEALED; //how the cell is displayed
+
+
+	//Assign every value of the cell's appearance
+	public void set(String text, Color textColor, String comment, Color commentColor,
+	 BoardRenderer.CellStyle style) {
+		this.text = text; //assign the text
+		this.textColor = textColor; //assign the text color
+		this.comment = comment; //assign the comment
+		this.commentColor = commentColor; //assign the comment color
+		this.style = style; //assign the style
+	} //close set(...)
+
+
+	//Return the text displayed for the cell's value
+	public String getText() {
+		return text;
+	} //close getText()
+
+
+	//Return the color of the cell's text
+	public Color getTextColor() {
+		return textColor;
+	} //close getTextColor()
+
+
+	//Return the text displayed for the cell's comment
+	public String getComment() {
+		return comment;
+	} //close getComment()
+
+
+	//Return the color of the cell's comment
+	public Color getCommentColor() {
+		return commentColor;
+	} //close getCommentColor()
+
+
+	//Return how the cell is displayed
+	public BoardRenderer.CellStyle getStyle() {
+		return style;
+	} //close getStyle()
+
+} //close class CellAppearance
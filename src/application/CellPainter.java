@@ -0,0 +1,101 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: CellPainter.java
+ *
+ * Description: This class draws a single Minesweeper cell onto a GraphicsContext. It is shared by the
+ * renderers that draw the board on canvases instead of using a node for every cell. The text of the
+ * cells is rendered once per cell size and color and then reused as an image (glyph cache), which is a
+ * lot cheaper than laying out text every time a cell is drawn.
+ *
+ */
+
+package application;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+public class CellPainter {
+	private static final int TEXT_OFFSET = 6; //offset for the text inside of each cell
+	private static final double MIN_TEXT_SIZE = 6; //cells whose text would be smaller than this skip it
+	private static final double MINE_COMMENT_OPACITY = 0.8; //opacity of a comment drawn over a mine
+	private final Map<String, Image> glyphCache = new HashMap<>(); //pre-rendered text for the current font
+	private final SnapshotParameters glyphParams = new SnapshotParameters(); //used to render the glyphs
+	private double cellWidth; //width of each cell
+	private double cellHeight; //height of each cell
+	private Font cellFont; //font used for the cell text and comments (null if the text is too small)
+
+
+	//Constructor method for the CellPainter
+	public CellPainter() {
+		glyphParams.setFill(Color.TRANSPARENT); //glyphs are drawn without a background
+	} //close CellPainter() constructor
+
+
+	/* Assign the size of the cells that are drawn. The font depends on the cell size, so the glyph cache is
+	 * emptied whenever the size changes.
+	 */
+	public void setCellSize(double width, double height) {
+		if (width == cellWidth && height == cellHeight)
+			return; //nothing changed
+		cellWidth = width; //update the cell width
+		cellHeight = height; //update the cell height
+		double textSize = height - TEXT_OFFSET; //font is slightly smaller than the cell
+		cellFont = (textSize < MIN_TEXT_SIZE) ? null : Font.font(textSize);
+		glyphCache.clear(); //the glyphs of the old font can't be reused
+	} //close setCellSize(...)
+
+
+	//Draw a cell whose top-left corner is located at the given coordinates using the provided values
+	public void paintCell(GraphicsContext gc, double x, double y, String text, Color textColor, String comment,
+	 Color commentColor, BoardRenderer.CellStyle style) {
+		gc.clearRect(x, y, cellWidth, cellHeight); //erase the previous contents of the cell
+		switch (style) {
+			case REVEALED:
+				drawGlyph(gc, text, textColor, x, y); //display the cell's value
+				break;
+			case EXPLODED:
+				gc.setFill(Color.PALEVIOLETRED); //highlight the mine that ended the game
+				gc.fillRect(x, y, cellWidth, cellHeight);
+				drawGlyph(gc, text, textColor, x, y); //display the mine
+				break;
+			case INCORRECT:
+				drawGlyph(gc, text, textColor, x, y); //display the cell's value
+				drawGlyph(gc, comment, commentColor, x, y); //display the comment on top of it
+				break;
+			default:
+				gc.setFill(Color.BLACK); //conceal the cell's contents
+				gc.fillRect(x, y, cellWidth, cellHeight);
+				if (style == BoardRenderer.CellStyle.MINE) {
+					drawGlyph(gc, text, textColor, x, y); //display the mine on top of the hidden cell
+					gc.setGlobalAlpha(MINE_COMMENT_OPACITY); //the mine shows through the comment
+				} //end if
+				drawGlyph(gc, comment, commentColor, x, y); //display the cell's comment (if applicable)
+				gc.setGlobalAlpha(1.0); //restore the opacity
+		} //end switch (style)
+		gc.setStroke(Color.BLACK); //every cell has a black border
+		gc.strokeRect(x + 0.5, y + 0.5, cellWidth - 1, cellHeight - 1);
+	} //close paintCell(...)
+
+
+	//Draw the given text in the center of the cell located at the given coordinates
+	private void drawGlyph(GraphicsContext gc, String text, Color color, double x, double y) {
+		if (text.isEmpty() || cellFont == null)
+			return; //nothing to draw
+		Image glyph = glyphCache.computeIfAbsent(text + color, key -> { //render the text only once
+			Text glyphText = new Text(text); //text node used to render the glyph
+			glyphText.setFont(cellFont); //use the current font
+			glyphText.setFill(color); //use the given color
+			return glyphText.snapshot(glyphParams, null); //render the glyph into an image
+		}); //close computeIfAbsent(...)
+		gc.drawImage(glyph, x + (cellWidth - glyph.getWidth()) / 2, y + (cellHeight - glyph.getHeight()) / 2);
+	} //close drawGlyph(...)
+
+} //close class CellPainter
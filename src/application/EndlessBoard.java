@@ -0,0 +1,499 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: EndlessBoard.java
+ *
+ * Description: This class holds the game rules and cell states of the endless mode, where the board has no
+ * edges. The world is split into square chunks of cells, and the mines of every chunk come from a seed that
+ * is derived from the world seed and the chunk's coordinates. This means that a chunk can be generated
+ * whenever it is first touched and generated again (with the exact same mines) after it was thrown away.
+ * Only a bounded number of chunks are kept in memory: the least recently used chunks that aren't visible
+ * are evicted, and the ones that were played on (dirty chunks) keep only their hidden and comment bits so
+ * that they can be restored on demand. Cells use the same packed byte encoding as the MinesweeperBoard,
+ * and the cells around the origin are always free of mines (the same first-click rule as a normal game).
+ *
+ */
+
+package application;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class EndlessBoard {
+	public static final int CHUNK_SIZE = 32; //number of cells along each side of a chunk
+	public static final int DEFAULT_CHUNK_MINES = 205; //mines per chunk (about 20%, like an expert game)
+	/* The number of mines per chunk is kept within 12%-30% of the chunk. Below that, the empty areas of the
+	 * board can grow without bounds, so a single click could try to reveal an infinite opening.
+	 */
+	public static final int MIN_CHUNK_MINES = 123;
+	public static final int MAX_CHUNK_MINES = 307;
+	public static final int DEFAULT_MAX_LOADED_CHUNKS = 256; //chunks kept in memory at once
+	private static final int CHUNK_SHIFT = 5; //shift that turns a cell coordinate into a chunk coordinate
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1; //mask that extracts the position within a chunk
+	private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE; //number of cells in a chunk
+	private static final int LAYOUT_CACHE_SIZE = 1024; //number of mine layouts kept around
+	private static final int INITIAL_BUFFER_SIZE = 64; //starting size of the reusable reveal buffers
+	//bits of a cell that are changed by the user (everything else is derived from the seed)
+	private static final int PLAYER_BITS = MinesweeperBoard.HIDDEN_BIT | MinesweeperBoard.COMMENT_MASK;
+
+	private final long worldSeed; //seed that the mines of every chunk are derived from
+	private final int chunkMines; //number of mines placed in every chunk
+	private final int maxLoadedChunks; //number of chunks kept in memory before any are evicted
+	//chunks that are currently in memory (least recently used chunks come first)
+	private final LinkedHashMap<Long, Chunk> loadedChunks = new LinkedHashMap<>(16, 0.75f, true);
+	//hidden and comment bits of the dirty chunks that were evicted
+	private final Map<Long, byte[]> savedChunks = new HashMap<>();
+	//recently generated mine layouts (one bit per cell), used to count the mines across chunk borders
+	private final LinkedHashMap<Long, long[]> mineLayouts = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+			return size() > LAYOUT_CACHE_SIZE; //throw away the least recently used layout
+		} //close removeEldestEntry(...)
+	}; //close LinkedHashMap
+	private final int[] candidateCells = new int[CHUNK_CELLS]; //cells that are allowed to receive a mine
+	private long[] revealedCells = new long[INITIAL_BUFFER_SIZE]; //cells revealed by the last action
+	private int revealedCount; //number of cells revealed by the last action
+	private long[] revealStack = new long[INITIAL_BUFFER_SIZE]; //work buffer used by the flood fill
+	private int minVisibleChunkX, maxVisibleChunkX; //horizontal range of chunks that can't be evicted
+	private int minVisibleChunkY, maxVisibleChunkY; //vertical range of chunks that can't be evicted
+	private boolean mineRevealed; //flag used to check if the user revealed a mine
+	private long explodedCell; //packed coordinates of the mine that was revealed by the user
+	private long revealedSafeCells; //number of revealed cells that don't contain a mine (the score)
+	private long flagCount; //number of hidden cells that have a flag comment
+
+
+	//A chunk of cells that is currently in memory
+	private static class Chunk {
+		private final byte[] cells = new byte[CHUNK_CELLS]; //packed state of every cell in the chunk
+		private boolean dirty; //flag used to check if the user changed any of the cells
+	} //close class Chunk
+
+
+	//Constructor method for the EndlessBoard (uses the default number of mines and loaded chunks)
+	public EndlessBoard(long seed) {
+		this(seed, DEFAULT_CHUNK_MINES, DEFAULT_MAX_LOADED_CHUNKS);
+	} //close EndlessBoard(...) constructor
+
+
+	//Constructor method for the EndlessBoard
+	public EndlessBoard(long seed, int mines, int maxChunks) {
+		if (mines < MIN_CHUNK_MINES || mines > MAX_CHUNK_MINES)
+			throw new IllegalArgumentException("Mines per chunk must be between " + MIN_CHUNK_MINES +
+			 " and " + MAX_CHUNK_MINES + ": " + mines);
+		worldSeed = seed; //assign the world seed
+		chunkMines = mines; //assign the number of mines per chunk
+		maxLoadedChunks = Math.max(1, maxChunks); //at least one chunk is always kept
+		setVisibleArea(0, 0, -1, -1); //nothing is visible yet
+	} //close EndlessBoard(...) constructor
+
+
+	//Return the seed that the world is generated from
+	public long getWorldSeed() {
+		return worldSeed;
+	} //close getWorldSeed()
+
+
+	//Return the number of chunks that are currently in memory
+	public int getLoadedChunkCount() {
+		return loadedChunks.size();
+	} //close getLoadedChunkCount()
+
+
+	//Return the number of evicted chunks whose changes are being kept
+	public int getSavedChunkCount() {
+		return savedChunks.size();
+	} //close getSavedChunkCount()
+
+
+	//Return the number of revealed cells that don't contain a mine
+	public long getRevealedSafeCells() {
+		return revealedSafeCells;
+	} //close getRevealedSafeCells()
+
+
+	//Return the number of flag comments on the board
+	public long getFlagCount() {
+		return flagCount;
+	} //close getFlagCount()
+
+
+	//Return whether the user revealed a mine (the game is over)
+	public boolean mineRevealed() {
+		return mineRevealed;
+	} //close mineRevealed()
+
+
+	//Return whether the given cell is the mine that was revealed by the user
+	public boolean isExplodedMine(int x, int y) {
+		return mineRevealed && explodedCell == packCell(x, y);
+	} //close isExplodedMine(...)
+
+
+	/* Keep the chunks that cover the given area of cells (inclusive) in memory, since they are being
+	 * displayed. Chunks outside of this area can be evicted once there are too many of them.
+	 */
+	public void setVisibleArea(int minX, int minY, int maxX, int maxY) {
+		minVisibleChunkX = minX >> CHUNK_SHIFT; //first visible chunk column
+		minVisibleChunkY = minY >> CHUNK_SHIFT; //first visible chunk row
+		maxVisibleChunkX = maxX >> CHUNK_SHIFT; //last visible chunk column
+		maxVisibleChunkY = maxY >> CHUNK_SHIFT; //last visible chunk row
+		evictChunks(); //the chunks that are no longer visible can be evicted now
+	} //close setVisibleArea(...)
+
+
+	//Return the key used to look up the chunk at the given chunk coordinates
+	private static long getChunkKey(int chunkX, int chunkY) {
+		return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+	} //close getChunkKey(...)
+
+
+	//Pack the given cell coordinates into a single value (used by the reveal buffers)
+	public static long packCell(int x, int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	} //close packCell(...)
+
+
+	//Return the x coordinate of a packed cell
+	public static int getPackedX(long cell) {
+		return (int) (cell >> 32);
+	} //close getPackedX(...)
+
+
+	//Return the y coordinate of a packed cell
+	public static int getPackedY(long cell) {
+		return (int) cell;
+	} //close getPackedY(...)
+
+
+	//Return the position of the given cell within its chunk
+	private static int getLocalIndex(int x, int y) {
+		return ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+	} //close getLocalIndex(...)
+
+
+	/* Return the chunk that holds the given cell. Chunks that aren't in memory are generated from their seed
+	 * (and any changes that were kept when they were evicted are restored). The returned chunk must be used
+	 * right away, since loading other chunks may evict it.
+	 */
+	private Chunk getChunk(int x, int y) {
+		int chunkX = x >> CHUNK_SHIFT; //chunk column of the cell
+		int chunkY = y >> CHUNK_SHIFT; //chunk row of the cell
+		long key = getChunkKey(chunkX, chunkY); //key of the chunk
+		Chunk chunk = loadedChunks.get(key); //look for the chunk in memory
+		if (chunk == null) {
+			chunk = generateChunk(chunkX, chunkY); //create the chunk from its seed
+			byte[] saved = savedChunks.remove(key); //changes that were kept when the chunk was evicted
+			if (saved != null) {
+				for (int i = 0; i < CHUNK_CELLS; i++) //restore the hidden and comment bits
+					chunk.cells[i] = (byte) ((chunk.cells[i] & ~PLAYER_BITS) | saved[i]);
+				chunk.dirty = true; //the changes must be kept again if the chunk is evicted
+			} //end if
+			loadedChunks.put(key, chunk); //keep the chunk in memory
+			evictChunks(); //make room for the new chunk
+		} //end if
+		return chunk; //return the chunk
+	} //close getChunk(...)
+
+
+	/* Evict the least recently used chunks that aren't visible until the limit is respected. Clean chunks
+	 * are simply thrown away (they are generated again from their seed), while dirty chunks keep their
+	 * hidden and comment bits. The most recently used chunk (the one getChunk(...) is about to return) is
+	 * never evicted, even when more chunks are visible than the limit allows.
+	 */
+	private void evictChunks() {
+		Iterator<Map.Entry<Long, Chunk>> iterator = loadedChunks.entrySet().iterator();
+		while (loadedChunks.size() > maxLoadedChunks && iterator.hasNext()) {
+			Map.Entry<Long, Chunk> entry = iterator.next(); //least recently used chunk
+			if (!iterator.hasNext())
+				break; //the most recently used chunk is still being used
+			long key = entry.getKey(); //key of the chunk
+			int chunkX = (int) (key >> 32); //chunk column
+			int chunkY = (int) key; //chunk row
+			if (chunkX >= minVisibleChunkX && chunkX <= maxVisibleChunkX && chunkY >= minVisibleChunkY &&
+			 chunkY <= maxVisibleChunkY)
+				continue; //visible chunks are never evicted
+			Chunk chunk = entry.getValue(); //the chunk that is evicted
+			if (chunk.dirty) {
+				byte[] saved = new byte[CHUNK_CELLS]; //only the bits changed by the user are kept
+				for (int i = 0; i < CHUNK_CELLS; i++)
+					saved[i] = (byte) (chunk.cells[i] & PLAYER_BITS);
+				savedChunks.put(key, saved); //keep the changes
+			} //end if
+			iterator.remove(); //evict the chunk
+		} //end while
+	} //close evictChunks()
+
+
+	/* Return the mine layout of the given chunk (one bit per cell). The mines are placed with a partial
+	 * Fisher-Yates shuffle driven by a Random whose seed is derived from the world seed and the chunk's
+	 * coordinates, so the same chunk always receives the same mines. The cells around the origin are
+	 * excluded from the candidates, just like the cells around the first click of a normal game.
+	 */
+	private long[] getMineLayout(int chunkX, int chunkY) {
+		long key = getChunkKey(chunkX, chunkY); //key of the chunk
+		long[] layout = mineLayouts.get(key); //look for a cached layout
+		if (layout != null)
+			return layout; //the layout was already generated
+		layout = new long[CHUNK_CELLS / Long.SIZE]; //one bit per cell
+		int candidates = 0; //number of cells that are allowed to receive a mine
+		for (int i = 0; i < CHUNK_CELLS; i++) {
+			int x = (chunkX << CHUNK_SHIFT) + (i & CHUNK_MASK); //x coordinate of the cell
+			int y = (chunkY << CHUNK_SHIFT) + (i >> CHUNK_SHIFT); //y coordinate of the cell
+			if (Math.abs(x) > 1 || Math.abs(y) > 1) //the cells around the origin never contain mines
+				candidateCells[candidates++] = i; //add the cell to the candidates
+		} //end for
+		Random ran = new Random(getChunkSeed(chunkX, chunkY)); //same seed -> same mines
+		int mines = Math.min(chunkMines, candidates); //number of mines placed in this chunk
+		for (int i = 0; i < mines; i++) {
+			int j = i + ran.nextInt(candidates - i); //pick one of the remaining candidates
+			int cell = candidateCells[j]; //swap it into the chosen prefix
+			candidateCells[j] = candidateCells[i];
+			candidateCells[i] = cell;
+			layout[cell >>> 6] |= 1L << cell; //place the mine
+		} //end for
+		mineLayouts.put(key, layout); //keep the layout for the neighboring chunks
+		return layout; //return the layout
+	} //close getMineLayout(...)
+
+
+	//Return the seed of the given chunk (the chunk coordinates are mixed into the world seed)
+	private long getChunkSeed(int chunkX, int chunkY) {
+		long seed = worldSeed ^ (chunkX * 0x9E3779B97F4A7C15L) ^ (chunkY * 0xC2B2AE3D27D4EB4FL);
+		seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L; //scramble the bits (SplitMix64 finalizer)
+		seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+		return seed ^ (seed >>> 31);
+	} //close getChunkSeed(...)
+
+
+	/* Generate the cells of the given chunk. Every cell starts out hidden, and the number of surrounding
+	 * mines is counted with the layouts of the neighboring chunks for the cells along the chunk's border.
+	 */
+	private Chunk generateChunk(int chunkX, int chunkY) {
+		long[][] layouts = new long[9][]; //layouts of the chunk and its 8 neighbors
+		for (int dy = -1; dy <= 1; dy++) {
+			for (int dx = -1; dx <= 1; dx++)
+				layouts[(dy + 1) * 3 + dx + 1] = getMineLayout(chunkX + dx, chunkY + dy);
+		} //end for
+		Chunk chunk = new Chunk(); //create the new chunk
+		for (int ly = 0; ly < CHUNK_SIZE; ly++) {
+			for (int lx = 0; lx < CHUNK_SIZE; lx++) {
+				int state = MinesweeperBoard.HIDDEN_BIT; //every cell starts out hidden
+				if (layoutHasMine(layouts, lx, ly)) {
+					state |= MinesweeperBoard.MINE_BIT; //the cell contains a mine
+				} else {
+					int count = 0; //number of surrounding mines
+					for (int ny = ly - 1; ny <= ly + 1; ny++) {
+						for (int nx = lx - 1; nx <= lx + 1; nx++) {
+							if (layoutHasMine(layouts, nx, ny))
+								count++; //mine found
+						} //end inner for
+					} //end outer for
+					state |= count; //assign the cell value
+				} //end else
+				chunk.cells[(ly << CHUNK_SHIFT) | lx] = (byte) state; //assign the cell state
+			} //end inner for
+		} //end outer for
+		return chunk; //return the chunk
+	} //close generateChunk(...)
+
+
+	//Return whether the given position (relative to the center chunk, -1 to CHUNK_SIZE) contains a mine
+	private static boolean layoutHasMine(long[][] layouts, int lx, int ly) {
+		int chunkCol = (lx < 0) ? 0 : ((lx >= CHUNK_SIZE) ? 2 : 1); //neighboring chunk column
+		int chunkRow = (ly < 0) ? 0 : ((ly >= CHUNK_SIZE) ? 2 : 1); //neighboring chunk row
+		int cell = ((ly & CHUNK_MASK) << CHUNK_SHIFT) | (lx & CHUNK_MASK); //position within that chunk
+		return (layouts[chunkRow * 3 + chunkCol][cell >>> 6] & (1L << cell)) != 0;
+	} //close layoutHasMine(...)
+
+
+	//Return the packed state of the given cell
+	private int getCellState(int x, int y) {
+		return getChunk(x, y).cells[getLocalIndex(x, y)] & 0xFF;
+	} //close getCellState(...)
+
+
+	//Assign a new packed state to the given cell (the chunk becomes dirty)
+	private void setCellState(int x, int y, int state) {
+		Chunk chunk = getChunk(x, y); //chunk that holds the cell
+		chunk.cells[getLocalIndex(x, y)] = (byte) state; //update the cell
+		chunk.dirty = true; //the change must be kept if the chunk is evicted
+	} //close setCellState(...)
+
+
+	//Return whether the given cell contains a mine
+	public boolean hasMine(int x, int y) {
+		return (getCellState(x, y) & MinesweeperBoard.MINE_BIT) != 0;
+	} //close hasMine(...)
+
+
+	//Return whether the given cell is hidden
+	public boolean isHidden(int x, int y) {
+		return (getCellState(x, y) & MinesweeperBoard.HIDDEN_BIT) != 0;
+	} //close isHidden(...)
+
+
+	//Return the comment of the given cell
+	public int getCellComment(int x, int y) {
+		return (getCellState(x, y) & MinesweeperBoard.COMMENT_MASK) >>> MinesweeperBoard.COMMENT_SHIFT;
+	} //close getCellComment(...)
+
+
+	//Return whether the given cell has a flag comment
+	public boolean hasFlagComment(int x, int y) {
+		return getCellComment(x, y) == MinesweeperBoard.FLAG_COMMENT;
+	} //close hasFlagComment(...)
+
+
+	//Return the value of the given cell (the number of surrounding mines, or MINE_VAL for a mine)
+	public int getCellVal(int x, int y) {
+		int state = getCellState(x, y); //state of the cell
+		return ((state & MinesweeperBoard.MINE_BIT) != 0) ? MinesweeperBoard.MINE_VAL :
+		 (state & MinesweeperBoard.COUNT_MASK);
+	} //close getCellVal(...)
+
+
+	//Return the number of cells that were revealed by the last action
+	public int getRevealedCount() {
+		return revealedCount;
+	} //close getRevealedCount()
+
+
+	//Return one of the cells revealed by the last action (packed, see getPackedX/getPackedY)
+	public long getRevealedCell(int i) {
+		return revealedCells[i];
+	} //close getRevealedCell(...)
+
+
+	//Reveal a single cell, erase its comment, and add it to the current batch
+	private void revealCell(int x, int y) {
+		int state = getCellState(x, y); //state of the cell
+		if ((state & MinesweeperBoard.COMMENT_MASK) == MinesweeperBoard.FLAG_STATE)
+			flagCount--; //the flag comment is erased
+		setCellState(x, y, state & ~PLAYER_BITS); //reveal the cell and erase its comment
+		if ((state & MinesweeperBoard.MINE_BIT) != 0) {
+			mineRevealed = true; //the user revealed a mine
+			explodedCell = packCell(x, y); //remember which mine it was
+		} else
+			revealedSafeCells++; //one more safe cell was revealed
+		if (revealedCount == revealedCells.length) //grow the batch if it is full
+			revealedCells = Arrays.copyOf(revealedCells, revealedCount * 2);
+		revealedCells[revealedCount++] = packCell(x, y); //add the cell to the batch
+	} //close revealCell(...)
+
+
+	/* Reveal the given cell. If the cell is empty, then also reveal any surrounding neighbors that are
+	 * hidden and do not have a flag comment. The value of the given cell is returned.
+	 */
+	public int revealCells(int x, int y) {
+		revealedCount = 0; //start a new batch of revealed cells
+		floodReveal(x, y); //reveal the cell (and it's neighbors if applicable)
+		return getCellVal(x, y); //return the cell's value
+	} //close revealCells(...)
+
+
+	/* Reveal the given cell and flood outwards from every empty cell that is found (the same explicit
+	 * stack approach as the MinesweeperBoard). The flood simply follows the cells across chunk borders;
+	 * only the chunks that it actually touches are loaded, and no chunk reference is held between steps,
+	 * so chunks can be evicted while a large opening is being revealed.
+	 */
+	private void floodReveal(int startX, int startY) {
+		if (!isHidden(startX, startY))
+			return; //the cell was already revealed
+		revealCell(startX, startY); //reveal the desired cell
+		if (getCellVal(startX, startY) != 0)
+			return; //only empty cells reveal their neighbors
+		int stackSize = 0; //number of empty cells waiting to be expanded
+		revealStack[stackSize++] = packCell(startX, startY); //expand the starting cell first
+		while (stackSize > 0) {
+			long cell = revealStack[--stackSize]; //empty cell whose neighbors are revealed
+			int x = getPackedX(cell); //x coordinate of the cell
+			int y = getPackedY(cell); //y coordinate of the cell
+			for (int newY = y - 1; newY <= y + 1; newY++) {
+				for (int newX = x - 1; newX <= x + 1; newX++) {
+					int state = getCellState(newX, newY); //state of the neighbor
+					if ((state & MinesweeperBoard.HIDDEN_BIT) != 0 &&
+					 (state & MinesweeperBoard.COMMENT_MASK) != MinesweeperBoard.FLAG_STATE) {
+						revealCell(newX, newY); //reveal the neighbor
+						//neighbors of an empty cell are never mines, so only empty neighbors keep expanding
+						if ((state & MinesweeperBoard.COUNT_MASK) == 0) {
+							if (stackSize == revealStack.length) //grow the stack if it is full
+								revealStack = Arrays.copyOf(revealStack, stackSize * 2);
+							revealStack[stackSize++] = packCell(newX, newY); //expand the neighbor later
+						} //end if
+					} //end if
+				} //end inner for
+			} //end outer for
+		} //end while
+	} //close floodReveal(...)
+
+
+	/* Return whether the given cell can be chorded. The cell must be revealed, it must not be empty, and
+	 * the number of flag comments in its neighbors must equal the cell's value.
+	 */
+	public boolean canChordCell(int x, int y) {
+		int cellVal = getCellVal(x, y); //value of the cell
+		if (cellVal <= 0 || isHidden(x, y))
+			return false; //only revealed numbered cells can be chorded
+		int flagsPresent = 0; //number of neighboring flag comments
+		for (int newY = y - 1; newY <= y + 1; newY++) {
+			for (int newX = x - 1; newX <= x + 1; newX++) {
+				if (hasFlagComment(newX, newY))
+					flagsPresent++; //flag comment found
+			} //end inner for
+		} //end outer for
+		return flagsPresent == cellVal; //return result
+	} //close canChordCell(...)
+
+
+	/* Reveal all of the neighbors of the given cell that don't have flag comments (this assumes that
+	 * canChordCell(...) was already checked). If one of those neighbors contains a mine, then only that
+	 * mine is revealed and true is returned. Otherwise every neighbor (and any of their adjacent non-mine
+	 * cells) is revealed and false is returned.
+	 */
+	public boolean chordCell(int x, int y) {
+		revealedCount = 0; //start a new batch of revealed cells
+		//look for a neighboring mine that doesn't have a flag comment first
+		for (int newY = y - 1; newY <= y + 1; newY++) {
+			for (int newX = x - 1; newX <= x + 1; newX++) {
+				if (isHidden(newX, newY) && hasMine(newX, newY) && !hasFlagComment(newX, newY)) {
+					revealCell(newX, newY); //reveal the game-losing mine
+					return true; //a mine was revealed
+				} //end if
+			} //end inner for
+		} //end outer for
+		//no mines are present, so reveal all of the neighbors that don't have flag comments
+		for (int newY = y - 1; newY <= y + 1; newY++) {
+			for (int newX = x - 1; newX <= x + 1; newX++) {
+				if (!hasFlagComment(newX, newY))
+					floodReveal(newX, newY); //reveal the neighbor (and it's neighbors if applicable)
+			} //end inner for
+		} //end outer for
+		return false; //no mine was revealed
+	} //close chordCell(...)
+
+
+	/* Cycle the comment of a hidden cell. The pattern goes from a flag comment to a question mark
+	 * comment to no comment at all. The new comment is returned (revealed cells keep NO_COMMENT).
+	 */
+	public int cycleCellComment(int x, int y) {
+		int state = getCellState(x, y); //state of the cell
+		if ((state & MinesweeperBoard.HIDDEN_BIT) == 0)
+			return MinesweeperBoard.NO_COMMENT; //only hidden cells can have comments
+		int comment = (state & MinesweeperBoard.COMMENT_MASK) >>> MinesweeperBoard.COMMENT_SHIFT;
+		int newComment = (comment + 1) % 3; //none -> flag -> question -> none
+		if (comment == MinesweeperBoard.FLAG_COMMENT)
+			flagCount--; //the flag comment was removed
+		else if (newComment == MinesweeperBoard.FLAG_COMMENT)
+			flagCount++; //a flag comment was added
+		setCellState(x, y, (state & ~MinesweeperBoard.COMMENT_MASK) |
+		 (newComment << MinesweeperBoard.COMMENT_SHIFT));
+		return newComment; //return the new comment
+	} //close cycleCellComment(...)
+
+} //close class EndlessBoard
@@ -0,0 +1,171 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: EndlessBoardView.java
+ *
+ * Description: This class displays the visible part of an EndlessBoard on a single Canvas. The view can be
+ * moved around freely by dragging it with the mouse or with the mouse wheel (Shift + mouse wheel moves it
+ * horizontally). Only the cells inside of the view are read from the board, and the board is told which
+ * area is visible so that those chunks are never evicted while they are on the screen.
+ *
+ */
+
+package application;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+public class EndlessBoardView {
+	private static final double CELL_PITCH = 26; //distance between neighboring cells (23 + 3 gap)
+	private static final double CELL_SIZE = 23; //size of each cell
+	private final CellDescriber cellDescriber; //decides what every cell looks like
+	private final CellAppearance appearance = new CellAppearance(); //reused for every drawn cell
+	private final CellPainter cellPainter = new CellPainter(); //draws the individual cells
+	private final Canvas canvas = new Canvas(); //the canvas that the board is drawn on
+	private final Pane viewPane; //resizable container that keeps the canvas the same size as itself
+	private EndlessBoard board; //the board that is displayed
+	private double originX; //x coordinate (in cells) of the top-left corner of the view
+	private double originY; //y coordinate (in cells) of the top-left corner of the view
+	private double dragX; //x position of the mouse during the last drag event
+	private double dragY; //y position of the mouse during the last drag event
+	private boolean centerView; //flag used to center the view on the origin once the size is known
+
+
+	//Used by the view to find out what a cell of the board should look like
+	@FunctionalInterface
+	public interface CellDescriber {
+		//Fill in the appearance of the cell at the given coordinates
+		public void describeCell(int x, int y, CellAppearance appearance);
+	} //close interface CellDescriber
+
+
+	//Constructor method for the EndlessBoardView
+	public EndlessBoardView(CellDescriber describer) {
+		cellDescriber = describer; //assign the describer
+		cellPainter.setCellSize(CELL_SIZE, CELL_SIZE); //every cell is the same size
+		//the canvas isn't resizable, so its size follows the size of the pane
+		viewPane = new Pane() {
+			@Override
+			protected void layoutChildren() {
+				resizeCanvas(getWidth(), getHeight()); //make the canvas fill the pane
+			} //close layoutChildren()
+		}; //close Pane
+		canvas.setManaged(false); //the canvas shouldn't affect the preferred size of the pane
+		viewPane.getChildren().add(canvas); //add the canvas to the pane
+		//move the view around by dragging it with the primary mouse button
+		viewPane.addEventHandler(MouseEvent.MOUSE_PRESSED, event -> {
+			dragX = event.getX(); //remember where the drag started
+			dragY = event.getY();
+		}); //close addEventHandler(...)
+		viewPane.addEventHandler(MouseEvent.MOUSE_DRAGGED, event -> {
+			if (event.getButton() == MouseButton.PRIMARY)
+				moveView(dragX - event.getX(), dragY - event.getY()); //follow the mouse
+			dragX = event.getX(); //remember the new position
+			dragY = event.getY();
+		}); //close addEventHandler(...)
+		viewPane.addEventHandler(ScrollEvent.SCROLL, event -> {
+			//Shift + mouse wheel moves the view horizontally (some platforms already report it as deltaX)
+			double deltaX = (event.isShiftDown() && event.getDeltaX() == 0) ? event.getDeltaY() : event.getDeltaX();
+			double deltaY = event.isShiftDown() ? 0 : event.getDeltaY();
+			moveView(-deltaX, -deltaY); //move the view
+			event.consume(); //the scroll event was handled
+		}); //close addEventHandler(...)
+	} //close EndlessBoardView(...) constructor
+
+
+	//Return the pane that holds the canvas
+	public Region getView() {
+		return viewPane;
+	} //close getView()
+
+
+	//Display a new board (the view is centered on the origin, where the first click is always safe)
+	public void setBoard(EndlessBoard newBoard) {
+		board = newBoard; //assign the new board
+		centerView = true; //center the view once its size is known
+		if (canvas.getWidth() > 0 && canvas.getHeight() > 0)
+			centerOnOrigin(); //the size is already known
+	} //close setBoard(...)
+
+
+	//Center the view on the origin of the board
+	private void centerOnOrigin() {
+		originX = 0.5 - canvas.getWidth() / CELL_PITCH / 2; //the origin cell ends up in the middle
+		originY = 0.5 - canvas.getHeight() / CELL_PITCH / 2;
+		centerView = false; //the view was centered
+		redraw(); //draw the new board
+	} //close centerOnOrigin()
+
+
+	//Resize the canvas to the given size and redraw the visible cells
+	private void resizeCanvas(double width, double height) {
+		if (width == canvas.getWidth() && height == canvas.getHeight())
+			return; //nothing changed
+		canvas.setWidth(width); //update the canvas width
+		canvas.setHeight(height); //update the canvas height
+		if (centerView)
+			centerOnOrigin(); //center the view now that the size is known
+		else
+			redraw(); //draw the cells that are now visible
+	} //close resizeCanvas(...)
+
+
+	//Move the view by the given amount of pixels
+	private void moveView(double deltaX, double deltaY) {
+		originX += deltaX / CELL_PITCH; //move horizontally
+		originY += deltaY / CELL_PITCH; //move vertically
+		redraw(); //draw the cells that are now visible
+	} //close moveView(...)
+
+
+	/* Draw every cell that is inside of the view. The board is told which area is visible first, so the
+	 * chunks that are being drawn are never evicted.
+	 */
+	public void redraw() {
+		if (board == null)
+			return; //there is no board to draw yet
+		GraphicsContext gc = canvas.getGraphicsContext2D(); //used to draw on the canvas
+		int firstX = (int) Math.floor(originX); //first visible column
+		int firstY = (int) Math.floor(originY); //first visible row
+		int lastX = (int) Math.floor(originX + canvas.getWidth() / CELL_PITCH); //last visible column
+		int lastY = (int) Math.floor(originY + canvas.getHeight() / CELL_PITCH); //last visible row
+		board.setVisibleArea(firstX, firstY, lastX, lastY); //keep the visible chunks in memory
+		gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight()); //erase the old cells
+		for (int y = firstY; y <= lastY; y++) {
+			for (int x = firstX; x <= lastX; x++) {
+				cellDescriber.describeCell(x, y, appearance); //find out what the cell looks like
+				cellPainter.paintCell(gc, (x - originX) * CELL_PITCH, (y - originY) * CELL_PITCH,
+				 appearance.getText(), appearance.getTextColor(), appearance.getComment(),
+				 appearance.getCommentColor(), appearance.getStyle());
+			} //end inner for
+		} //end outer for
+	} //close redraw()
+
+
+	//Return the column of the cell located at the given x coordinate of the view
+	public int getCellX(double x) {
+		return (int) Math.floor(originX + x / CELL_PITCH);
+	} //close getCellX(...)
+
+
+	//Return the row of the cell located at the given y coordinate of the view
+	public int getCellY(double y) {
+		return (int) Math.floor(originY + y / CELL_PITCH);
+	} //close getCellY(...)
+
+
+	//Return whether the given coordinates of the view land on a cell (instead of the gap between cells)
+	public boolean isCellAt(double x, double y) {
+		double cellX = originX + x / CELL_PITCH; //horizontal position (in cells)
+		double cellY = originY + y / CELL_PITCH; //vertical position (in cells)
+		return (cellX - Math.floor(cellX)) * CELL_PITCH <= CELL_SIZE &&
+		 (cellY - Math.floor(cellY)) * CELL_PITCH <= CELL_SIZE;
+	} //close isCellAt(...)
+
+} //close class EndlessBoardView
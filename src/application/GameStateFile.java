@@ -0,0 +1,183 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: GameStateFile.java
+ *
+ * Description: This class saves and loads the MinesweeperGameState in a compact binary format instead of
+ * writing the object with an ObjectOutputStream (which also writes the class descriptions and a header for
+ * every object). The file is built in a direct ByteBuffer that is kept between saves and written through a
+ * SaveFile (temporary file, forced to the disk, then renamed over the save file), and it holds:
+ *     magic number (int), format version (short), status flags (byte)
+ *     rows, columns, mines, 3BV, openings, isolated numbers (ints), elapsed time (long)
+ *     window height, width, x position, y position (doubles)
+ *     difficulty and board ID (UTF-8 text with a short length, -1 = no board ID)
+ *     number of cells (int) followed by the packed state of every cell (one byte each)
+ *     CRC-32 of everything above (int)
+ * A file that is missing, has the wrong magic number or version, is cut short, or fails the CRC check is
+ * ignored, and the previous generation of the file is read instead. When neither generation can be used,
+ * the game state is read from the legacy GameState.ser file (ObjectInputStream).
+ *
+ */
+
+package application;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+public class GameStateFile {
+	private static final int MAGIC = 0x4D534753; //"MSGS" (identifies the file)
+	private static final short FORMAT_VERSION = 1; //version of the binary format
+	private static final int FINISHED_FLAG = 1; //status flag set when the game was finished
+	private static final int FULL_SCREEN_FLAG = 2; //status flag set when the window was maximized
+	private static final int GENERATED_FLAG = 4; //status flag set when a game was generated
+	private static final int NO_GUESS_FLAG = 8; //status flag set when no-guess boards are generated
+	//size of everything except the text and the cells (header, numbers, cell count, and CRC)
+	private static final int FIXED_SIZE = 4 + 2 + 1 + 6 * 4 + 8 + 4 * 8 + 2 + 2 + 4 + 4;
+	private final SaveFile saveFile; //binary save file (and it's previous generation)
+	private final Path legacyPath; //save file written by older versions (ObjectOutputStream)
+	private final CRC32 checksum = new CRC32(); //computes the CRC of the saved data
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(4096); //reused for every save and load
+	private ByteBuffer lastSave; //copy of the data that was saved last (null before the first save)
+
+
+	//Constructor method for the GameStateFile
+	public GameStateFile(Path filePath, Path legacyPath) {
+		saveFile = new SaveFile(filePath); //assign the binary save file
+		this.legacyPath = legacyPath; //assign the legacy save file
+	} //close GameStateFile(...) constructor
+
+
+	/* Save the game state to the binary file (the file that is replaced becomes the previous generation).
+	 * Nothing is written when the game state is the same as the last save (an idle game isn't autosaved
+	 * over and over). Saves are synchronized, since the autosave thread and the final save share the buffer.
+	 */
+	public synchronized void write(MinesweeperGameState gameState) throws IOException {
+		ByteBuffer data = encode(gameState); //the complete file
+		if (data.equals(lastSave))
+			return; //the saved file is already up to date
+		ByteBuffer savedData = data.duplicate(); //the data is consumed by the write
+		saveFile.write(data);
+		if (lastSave == null || lastSave.capacity() < savedData.remaining())
+			lastSave = ByteBuffer.allocate(savedData.capacity()); //room for the largest save
+		lastSave.clear();
+		lastSave.put(savedData).flip(); //remember the saved data (only once it was written)
+	} //close write(...)
+
+
+	/* Load the game state from the newest generation of the binary file that passes the CRC check. When
+	 * neither generation can be used (nothing was saved in the binary format yet, or both are damaged), the
+	 * game state is loaded from the legacy file instead. Returns null when there is nothing to load.
+	 */
+	public synchronized MinesweeperGameState read() throws IOException {
+		MinesweeperGameState gameState = saveFile.read(this::decode); //null when no generation can be used
+		if (gameState == null && Files.isRegularFile(legacyPath)) {
+			try (InputStream fileIn = Files.newInputStream(legacyPath);
+			 ObjectInputStream gameStateObjectIn = new ObjectInputStream(fileIn)) {
+				gameState = (MinesweeperGameState) gameStateObjectIn.readObject(); //retrieve the game state
+			} catch (IOException | ClassNotFoundException | ClassCastException e) {
+				gameState = null; //the legacy file is damaged as well
+			} //close catch(...)
+		} //end if
+		return gameState;
+	} //close read()
+
+
+	//Return the complete binary file for the given game state (the buffer is reused by the next save)
+	ByteBuffer encode(MinesweeperGameState gameState) {
+		byte[] difficulty = gameState.getGameDifficulty().getBytes(StandardCharsets.UTF_8); //difficulty text
+		byte[] boardId = (gameState.getBoardId() != null) ? //board ID text (if the board has one)
+		 gameState.getBoardId().getBytes(StandardCharsets.UTF_8) : null;
+		byte[] cellStates = gameState.getCellStates(); //packed state of every cell
+		int cellCount = (cellStates != null) ? cellStates.length : 0; //number of saved cells
+		ByteBuffer data = getBuffer(FIXED_SIZE + difficulty.length + ((boardId != null) ? boardId.length : 0)
+		 + cellCount);
+		int flags = (gameState.isFinished() ? FINISHED_FLAG : 0) | (gameState.getFullScreenStatus() ?
+		 FULL_SCREEN_FLAG : 0) | (gameState.getGameGeneratedStatus() ? GENERATED_FLAG : 0) |
+		 (gameState.getNoGuessStatus() ? NO_GUESS_FLAG : 0);
+		data.putInt(MAGIC).putShort(FORMAT_VERSION).put((byte) flags); //header
+		data.putInt(gameState.getGameRows()).putInt(gameState.getGameCols()).putInt(gameState.getGameMines());
+		data.putInt(gameState.getBoardValue()).putInt(gameState.getBoardOpenings());
+		data.putInt(gameState.getIsolatedNumbers()).putLong(gameState.getElapsedTime());
+		data.putDouble(gameState.getWindowHeight()).putDouble(gameState.getWindowWidth());
+		data.putDouble(gameState.getWindowXPos()).putDouble(gameState.getWindowYPos());
+		data.putShort((short) difficulty.length).put(difficulty); //difficulty text
+		if (boardId != null)
+			data.putShort((short) boardId.length).put(boardId); //board ID text
+		else
+			data.putShort((short) -1); //the board doesn't have an ID
+		data.putInt(cellCount); //number of saved cells
+		if (cellCount > 0)
+			data.put(cellStates); //packed cells
+		data.putInt(computeChecksum(data, data.position())); //CRC of everything above
+		return data.flip(); //ready to be written
+	} //close encode(...)
+
+
+	//Return the game state held in the binary data (returns null when the data is damaged)
+	MinesweeperGameState decode(ByteBuffer data) {
+		int size = data.remaining(); //size of the saved data
+		if (size < FIXED_SIZE || data.getInt(size - 4) != computeChecksum(data, size - 4))
+			return null; //the data was cut short or changed after it was saved
+		if (data.getInt() != MAGIC || data.getShort() != FORMAT_VERSION)
+			return null; //the data wasn't written by this version of the format
+		int flags = data.get(); //status flags
+		int rows = data.getInt(), cols = data.getInt(), mines = data.getInt(); //board dimensions
+		int boardValue = data.getInt(), boardOpenings = data.getInt(), isolatedNumbers = data.getInt();
+		long elapsedTime = data.getLong(); //elapsed time
+		double height = data.getDouble(), width = data.getDouble(); //window size
+		double xPos = data.getDouble(), yPos = data.getDouble(); //window position
+		String difficulty = getText(data); //difficulty text
+		String boardId = getText(data); //board ID text (null when the board doesn't have one)
+		if (difficulty == null || data.remaining() < 8)
+			return null; //the lengths don't match the size of the data
+		int cellCount = data.getInt(); //number of saved cells
+		if (cellCount < 0 || cellCount != data.remaining() - 4)
+			return null; //the cell count doesn't match the size of the data
+		byte[] cellStates = new byte[cellCount]; //packed state of every cell
+		data.get(cellStates);
+		MinesweeperGameState gameState = new MinesweeperGameState((flags & FINISHED_FLAG) != 0, difficulty,
+		 rows, cols, mines, (cellCount > 0) ? cellStates : null, elapsedTime, height, width, xPos, yPos,
+		 (flags & FULL_SCREEN_FLAG) != 0, (flags & GENERATED_FLAG) != 0);
+		gameState.setNoGuessStatus((flags & NO_GUESS_FLAG) != 0); //assign the remaining values
+		gameState.setBoardId(boardId);
+		gameState.setBoardValue(boardValue);
+		gameState.setBoardOpenings(boardOpenings);
+		gameState.setIsolatedNumbers(isolatedNumbers);
+		return gameState;
+	} //close decode(...)
+
+
+	//Read a text value with a short length (returns null for a length of -1 or a length that is too long)
+	private static String getText(ByteBuffer data) {
+		int length = data.getShort(); //length of the text in bytes
+		if (length < 0 || length > data.remaining() - 4)
+			return null; //no text (or the length doesn't fit in the data)
+		byte[] text = new byte[length]; //bytes of the text
+		data.get(text);
+		return new String(text, StandardCharsets.UTF_8);
+	} //close getText(...)
+
+
+	//Return the CRC-32 of the first bytes of the data (the position of the data isn't changed)
+	private int computeChecksum(ByteBuffer data, int length) {
+		checksum.reset(); //start a new CRC
+		checksum.update(data.duplicate().position(0).limit(length));
+		return (int) checksum.getValue();
+	} //close computeChecksum(...)
+
+
+	//Return the reusable buffer, cleared and limited to the given size (it grows when it is too small)
+	private ByteBuffer getBuffer(int size) {
+		if (buffer.capacity() < size)
+			buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2)); //grow the buffer
+		return buffer.clear().limit(size);
+	} //close getBuffer(...)
+
+} //close class GameStateFile
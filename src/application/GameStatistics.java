@@ -9,8 +9,11 @@
  * difficulties (easy, medium, and hard) when the user exits out of the program. Each difficulty has its
  * own set of statistic data. This data includes the 5 best times achieved, the number of games played, 
  * the number of games won, the longest winning streak, the longest losing streak, the current streak, 
- * and and the overall win percentage. By keeping track of all of this information, I am able to preserve 
- * the statistic data for each of these difficulties so that it persists between sessions.
+ * and and the overall win percentage. The best and average 3BV/s (the board's 3BV divided by the time it 
+ * took to win it) are also kept, so a fast time on an easy board can be told apart from a fast time on a
+ * hard one. Statistics saved before the 3BV/s was tracked only count the games won since. By keeping
+ * track of all of this information, I am able to preserve the statistic data for each of these
+ * difficulties so that it persists between sessions.
  * 
  */
 
@@ -30,6 +33,9 @@ public class GameStatistics implements Serializable {
 	private int longestLosingStreak; //longest losing streak
 	private int currentStreak; //current streak
 	private double winPercentage; //win percentage (gamesWon / gamesPlayed)
+	private double bestBoardValueRate; //highest 3BV/s of a won game
+	private long totalBoardValue; //3BV of every won game (used for the average 3BV/s)
+	private double totalWinSeconds; //time spent on every won game (used for the average 3BV/s)
 
 	
 	//Constructor method for the GameStatistics
@@ -54,6 +60,9 @@ public class GameStatistics implements Serializable {
 		longestWinningStreak = 0; //reset longest winning streak
 		longestLosingStreak = 0; //reset longest losing streak
 		currentStreak = 0; //reset current streak
+		bestBoardValueRate = 0; //reset best 3BV/s
+		totalBoardValue = 0; //reset 3BV total
+		totalWinSeconds = 0; //reset time total
 	} //close resetGameStatistics()
 	
 	
@@ -143,6 +152,28 @@ public class GameStatistics implements Serializable {
 	} //close adjustLongestLosingStreak()
 	
 	
+	//Add the 3BV and the exact time (in seconds) of a won game to the 3BV/s statistics
+	public void addBoardValueRate(int boardValue, double gameSeconds) {
+		if (boardValue <= 0 || gameSeconds <= 0)
+			return; //the board wasn't measured or no time passed, so there is no rate
+		totalBoardValue += boardValue; //add the game to the totals
+		totalWinSeconds += gameSeconds;
+		bestBoardValueRate = Math.max(bestBoardValueRate, boardValue / gameSeconds); //adjust best rate
+	} //close addBoardValueRate(...)
+
+
+	//Return the highest 3BV/s of a won game (0 if no game was recorded yet)
+	public double getBestBoardValueRate() {
+		return bestBoardValueRate;
+	} //close getBestBoardValueRate()
+
+
+	//Return the average 3BV/s of the won games (total 3BV divided by total time, 0 if there are none)
+	public double getAverageBoardValueRate() {
+		return totalWinSeconds > 0 ? totalBoardValue / totalWinSeconds : 0;
+	} //close getAverageBoardValueRate()
+	
+	
 	//Return the index where the current time should be placed in the best times list
 	public int getInputIndex(int gameTime) {
 		//if the list is empty, make the time the first element in the list
@@ -0,0 +1,133 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: GridBoardRenderer.java
+ *
+ * Description: This class displays the Minesweeper board as a GridPane of MinesweeperCells. Every cell is
+ * a live node whose size and font are bound to the size of the grid, so the board scales with the window.
+ * This is the default renderer of the game.
+ *
+ */
+
+package application;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectExpression;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+public class GridBoardRenderer implements BoardRenderer {
+	private static final int TEXT_OFFSET = 6; //offset for the text inside of the MinesweeperCell
+	private GridPane grid = new GridPane(); //container for all of the MinesweeperCells (the game grid)
+	private MinesweeperCell[] cells = new MinesweeperCell[0]; //every MinesweeperCell (indexed like the board)
+	private ObjectExpression<Font> cellTextExpression; //expression used for the cell text size
+	private int gameCols; //number of columns on the board
+
+
+	//Constructor method for the GridBoardRenderer
+	public GridBoardRenderer() {
+		grid.setAlignment(Pos.CENTER); //center the gridpane
+		grid.setHgap(3); //horizontal gap between grid elements
+		grid.setVgap(3); //vertical gap between grid elements
+		grid.setPadding(new Insets(2, 5, 2, 5)); //padding between grid elements
+	} //close GridBoardRenderer() constructor
+
+
+	//Return the GridPane that holds all of the MinesweeperCells
+	@Override
+	public Region getView() {
+		return grid;
+	} //close getView()
+
+
+	//Create a new MinesweeperCell for every cell of the board and bind it to the size of the grid
+	@Override
+	public void createCells(int rows, int cols) {
+		grid.getChildren().clear(); //empty out any previous nodes from the grid
+		cells = new MinesweeperCell[rows * cols]; //create a new array of cells
+		gameCols = cols; //assign the number of columns
+		boolean textExpressionDeclared = false;	//flag used to initialize expression only once
+		//Iterate through the grid and create every MinesweeperCell for the game
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < cols; j++) {
+				MinesweeperCell cell = new MinesweeperCell(i, j); //create a new cell
+				//only initialize the expression once since every cell in the grid is the same size.
+				if (!textExpressionDeclared) {
+					/* Create an object binding so that the font is always slightly smaller than the cell's
+					 * height. This allows the height of the text displayed inside of each cell to scale
+					 * dynamically as the window is resized.
+					 */
+					cellTextExpression = Bindings.createObjectBinding(
+					 () -> Font.font(cell.getHeight() - TEXT_OFFSET),  cell.heightProperty());
+					textExpressionDeclared = true;  //prevents expression from being re-assigned more than once.
+				} //end if
+				//bind height to scale appropriately to window size
+				cell.prefHeightProperty().bind(grid.heightProperty().divide(rows));
+				//bind width the scale appropriately to window size
+				cell.prefWidthProperty().bind(grid.widthProperty().divide(cols));
+				//bind border rectangle width to the width of the cell
+				cell.getCellRect().widthProperty().bind(cell.widthProperty());
+				//bind border rectangle height to the height of the cell
+				cell.getCellRect().heightProperty().bind(cell.heightProperty());
+				//bind cell value text to cell size
+				cell.getCellTextLabel().fontProperty().bind(cellTextExpression);
+				//bind comment text to cell size
+				cell.getCellCommentLabel().fontProperty().bind(cellTextExpression);
+				cells[i * cols + j] = cell; //assign cell to the array of cells
+				grid.add(cell, j, i); //add cell to grid pane
+			}//end inner for
+		}//end outer for
+	} //close createCells(...)
+
+
+	//Update the MinesweeperCell at the given index so that it matches the provided values
+	@Override
+	public void drawCell(int index, String text, Color textColor, String comment, Color commentColor,
+	 CellStyle style) {
+		MinesweeperCell cell = cells[index]; //cell that needs to be updated
+		cell.updateCellText(text); //update the cell text
+		cell.setCellTextColor(textColor); //update the cell text color
+		switch (style) {
+			case REVEALED:
+				cell.makeCellVisible(); //reveal the cell's contents
+				break;
+			case EXPLODED:
+				cell.makeCellVisible(); //reveal the cell's contents
+				cell.updateBackgroundColor(Color.PALEVIOLETRED); //highlight the mine that ended the game
+				break;
+			default:
+				cell.concealCell(); //conceal the cell's contents
+				cell.addComment(comment); //display the cell's comment (if applicable)
+				cell.setCommentsTextColor(commentColor); //update the comment color
+				if (style == CellStyle.MINE)
+					cell.makeMineVisible(); //display the mine on top of the hidden cell
+				else if (style == CellStyle.INCORRECT)
+					cell.updateIncorrectCell(); //mark the incorrect flag comment
+		} //end switch (style)
+	} //close drawCell(...)
+
+
+	/* Return the index of the cell located at the given coordinates. Every cell is the same size, so the
+	 * position of the first cell is enough to find the row and column that were clicked (clicks that
+	 * land on the gaps between cells don't belong to any cell).
+	 */
+	@Override
+	public int getCellIndex(double x, double y) {
+		if (cells.length == 0)
+			return -1; //there are no cells on the grid
+		Bounds first = cells[0].getBoundsInParent(); //bounds of the top-left cell
+		int row = (int) Math.floor((y - first.getMinY()) / (first.getHeight() + grid.getVgap()));
+		int col = (int) Math.floor((x - first.getMinX()) / (first.getWidth() + grid.getHgap()));
+		if (row < 0 || col < 0 || col >= gameCols || row * gameCols + col >= cells.length)
+			return -1; //the coordinates are outside of the board
+		int index = row * gameCols + col; //index of the cell
+		return cells[index].getBoundsInParent().contains(x, y) ? index : -1;
+	} //close getCellIndex(...)
+
+} //close class GridBoardRenderer
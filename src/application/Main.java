@@ -10,10 +10,6 @@
  */
 
 package application;
-import java.awt.Point;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -23,7 +19,6 @@ import javafx.animation.KeyFrame;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
-import javafx.beans.binding.ObjectExpression;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.value.ChangeListener;
@@ -42,6 +37,7 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonBar.ButtonData;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Menu;
@@ -49,8 +45,11 @@ import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.TextField;
+import javafx.scene.control.TextInputDialog;
 import javafx.scene.control.Toggle;
 import javafx.scene.control.ToggleGroup;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
@@ -60,6 +59,7 @@ import javafx.scene.Parent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -68,11 +68,13 @@ import java.text.DecimalFormat;
 import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class Main extends Application {	
 	private static final double EASY_WND_HEIGHT = 400; //window height for easy difficulty
@@ -107,6 +109,7 @@ public class Main extends Application {
 	private static final int TEXT_FIELD_SIZE = 50; //default text size for the game information 
 	private static final int FLAG_VAL = 0; //value used to represent a flag comment
 	private static final int QUESTION_VAL = -2; //value used to represent a question comment
+	private static final int AUTOSAVE_SECONDS = 5; //time between autosaves
 	private static final int MINE_VAL = -1; //value used to represent a mine
 	private static final int TEXT_SIZE_OFFSET = 25; //value used to proportionately scale game info to grid size
 	private static final int NEW_GAME_DIALOG_WIDTH = 270; //window width for the new game dialog screen
@@ -124,12 +127,11 @@ public class Main extends Application {
 	private static final int CUSTOM_ROWS_UPPER_BOUND = 24; //maximum rows available for a custom game
 	private static final int CUSTOM_COLS_UPPER_BOUND = 30; //maximum columns available for a custom game
 	private static final int CUSTOM_MINES_LOWER_BOUND = 10; //minimum columns available for a custom game
+	private static final int VIEWPORT_SIZE_UPPER_BOUND = 5000; //maximum rows/columns with the viewport renderer
 	private static final int LIST_CELL_HEIGHT = 30; //list height for statistics window
 	private static final int LIST_CELL_WIDTH = 110;	//list width for statistics window
 	private static final int BEST_TIMES_CELL_WIDTH = 150; //width for the best times section of the statistics	
-	private static final int TEXT_OFFSET = 6; //offset for the text inside of the MinesweeperCell
 	private static final int TOTAL_GAME_INFO_NODES = 6; //number of nodes in game info
-	private static final int MAX_EXCLUDED_CELLS = 9; //number of maximum excluded cells
 	private static final int SCREEN_WIDTH_OFFSET = (int) (MAX_SCREEN_WIDTH/CUSTOM_COLS_UPPER_BOUND) -  
 	 CUSTOM_SIZE_LOWER_BOUND; //used to determine the proportional screen width when playing custom games
 	private static final int SCREEN_HEIGHT_OFFSET = (int) (MAX_SCREEN_HEIGHT/CUSTOM_ROWS_UPPER_BOUND) -  
@@ -150,6 +152,8 @@ public class Main extends Application {
 	private int customRows; //selected number of rows for a custom game
 	private int customCols; //selected number of columns for a custom game
 	private int customMines; //selected number of mines for a custom game
+	private int customRowsUpperBound = CUSTOM_ROWS_UPPER_BOUND; //maximum rows for the selected renderer
+	private int customColsUpperBound = CUSTOM_COLS_UPPER_BOUND; //maximum columns for the selected renderer
     private int gameRows; //number of rows used in the current game
     private int gameCols;//number of columns used in the current game
 	private int totalMines; //number of mines used in the current game
@@ -157,6 +161,7 @@ public class Main extends Application {
 	
 	private boolean customOptionSelected; //flag used to determine when a custom game is selected
 	private boolean gameGenerated; //flag used to check if a game is generated or not
+	private boolean noGuessBoards; //flag used to check if boards must be solvable without guessing
 	private boolean mineRevealed; //flag used to check if a mine was revealed
 	private boolean gameOver; //flag used to check if a game is finished
 	private boolean resetCurrentGame; //flag used to check if the user wants to reset the current game
@@ -182,13 +187,12 @@ public class Main extends Application {
 	private CustomDialog newGameDialog; //custom dialog for a new game
 	private CustomDialog diffChangeDialog; //custom dialog for changing the difficulty
 	private CustomDialog gameOverDialog; //custom dialog for a finished game
-	private ObjectExpression<Font> cellTextExpression; //expression used for the cell text size
 
 	private Timeline timeline; //keeps track of the elapsed time
 	private HBox fillerNode; //filler HBox used for padding between the game information
 	private static Stage mainWindow; //the main window that displays the program
 	private BorderPane root; //container for the menu, game grid, and game info
-	private GridPane grid; //container for all of the MinesweeperCells (the game grid)
+	private BoardRenderer boardRenderer; //displays the game grid (GridPane of MinesweeperCells or Canvas)
 	private HBox gameInfo; //container for the elapsed time and remaining mines information
 	private MenuBar menubar; //displays all of the available options for the program
 	
@@ -196,8 +200,42 @@ public class Main extends Application {
 	private GameStatistics mediumStats; //Serialized medium difficulty statistics data
 	private GameStatistics hardStats; //Serialized hard difficulty statistics data
 	private MinesweeperGameState gameState; //Serialized game state of previous session
-	
-	private MinesweeperCell[][] minesweeperBoard; //holds all of the MinesweeperCell objects (the gameboard)
+	private byte[] savedCellStates; //packed cells of the last saved game state (reused between autosaves)
+	private boolean gameStateChanged = true; //flag used to check if the game changed since the last autosave
+	private Future<?> pendingAutosave; //autosave that is being written (null before the first autosave)
+	//saves the game state in the binary format (GameState.ser from older versions is still read)
+	private final GameStateFile gameStateFile = new GameStateFile(Path.of("GameState.dat"), 
+	 Path.of("GameState.ser"));
+	//crash-safe save files of the easy, medium, and hard statistics
+	private final SaveFile easyStatsFile = new SaveFile(Path.of("BeginnerStatistics.ser"));
+	private final SaveFile mediumStatsFile = new SaveFile(Path.of("IntermediateStatistics.ser"));
+	private final SaveFile hardStatsFile = new SaveFile(Path.of("AdvancedStatistics.ser"));
+	private Timeline autosaveTimeline; //saves the game state (and any new statistics) every few seconds
+	//writes the autosaves in the background, so the files are never written on the JavaFX thread during a game
+	private final ExecutorService autosaveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread autosaveThread = new Thread(runnable, "autosave"); //create the background thread
+		autosaveThread.setDaemon(true); //a save that is cut short by an exit is never seen (SaveFile)
+		return autosaveThread;
+	});
+	private boolean statisticsChanged; //flag used to check if the statistics changed since the last save
+	//records every move of the current game as it is made (the game is rebuilt from it after a crash)
+	private final MoveJournal moveJournal = new MoveJournal(Path.of("GameState.journal"));
+	
+	private MinesweeperBoard gameBoard; //holds the state of every cell and applies the game rules
+	private final NoGuessGenerator noGuessGenerator = new NoGuessGenerator(); //generates no-guess boards
+	private final BoardPool boardPool = new BoardPool(); //no-guess boards generated in the background
+	private BoardId boardId; //regenerates the current board (null if the board can't be reproduced)
+	private BoardId pendingBoardId; //board ID entered by the user, used by the next populated board
+	private final BoardMetrics boardMetrics = new BoardMetrics(); //measures the 3BV of every new board
+	private int boardValue; //3BV of the current board (0 until the board is populated)
+	private int boardOpenings; //number of openings on the current board
+	private int isolatedNumbers; //number of numbered cells that aren't next to an opening
+	private BoardUpdateQueue updateQueue; //draws the changed cells of the gameBoard once per pulse
+	private final CellAppearance cellAppearance = new CellAppearance(); //reused when drawing every cell
+	
+	private EndlessBoard endlessBoard; //board used by the endless mode (--mode=endless)
+	private EndlessBoardView endlessView; //displays the visible part of the endless board
+	private Label endlessScoreLabel; //displays the score of the endless game
 
 	
 	//Creates the file menu, game grid, and the game info used to display the ongoing progress of the game
@@ -246,17 +284,52 @@ public class Main extends Application {
         }); //close setOnAction(...)
         //Add shortcut accelerator to the menu item
         quitMenuItem.setAccelerator(new KeyCodeCombination(KeyCode.X, KeyCombination.CONTROL_DOWN));
+        //No-Guess option (applies to every difficulty, starting with the next board that is generated)
+        CheckMenuItem noGuessMenuItem = new CheckMenuItem("No-Guess Boards");
+        noGuessMenuItem.setSelected(noGuessBoards); //restore the option of the previous session
+        noGuessMenuItem.setOnAction(new EventHandler<ActionEvent>() {
+            public void handle(ActionEvent t) {
+            	noGuessBoards = noGuessMenuItem.isSelected(); //update the option
+            	gameStateChanged = true; //the option is saved with the game state
+            	requestPooledBoards(); //start generating boards for the current difficulty
+            }//close handle(...)
+        }); //close setOnAction(...)
+        //Copy Board ID option (only available once a reproducible board was generated)
+        MenuItem copyBoardIdMenuItem = new MenuItem("Copy Board ID");
+        copyBoardIdMenuItem.setOnAction(new EventHandler<ActionEvent>() {
+            public void handle(ActionEvent t) {
+            	ClipboardContent content = new ClipboardContent();
+            	content.putString(boardId.toString()); //text form of the board ID
+            	Clipboard.getSystemClipboard().setContent(content); //copy it so it can be shared
+            }//close handle(...)
+        }); //close setOnAction(...)
+        //Play Board ID option (regenerates a board that was shared)
+        MenuItem playBoardIdMenuItem = new MenuItem("Play Board ID...");
+        playBoardIdMenuItem.setOnAction(new EventHandler<ActionEvent>() {
+            public void handle(ActionEvent t) {
+            	displayBoardIdDialogBox(); //ask the user for the board ID
+            }//close handle(...)
+        }); //close setOnAction(...)
+        /* the board ID can only be copied while the current board has one, and no-guess boards are only
+         * generated for boards that can be searched in time (the option is kept for smaller boards)
+         */
+        FileMenu.setOnShowing(event -> {
+        	copyBoardIdMenuItem.setDisable(boardId == null);
+        	noGuessMenuItem.setDisable(!NoGuessGenerator.supportsBoard(gameRows, gameCols));
+        }); //close setOnShowing(...)
         //Add all of the menu items to the menu
-        FileMenu.getItems().addAll(newGameMenuItem, statisticsMenuItem, difficultyMenuItem, quitMenuItem);  
+        FileMenu.getItems().addAll(newGameMenuItem, statisticsMenuItem, difficultyMenuItem, noGuessMenuItem, 
+         copyBoardIdMenuItem, playBoardIdMenuItem, quitMenuItem);  
         menubar.getMenus().addAll(FileMenu); //add the menu to the menu bar
 		createGameInfo(); //create all of the game information
 		adjustWindowBounds(); //adjust the window bounds to fit the game that is currently being played
-        createGrid(); //create the game grid that stores all of the MinesweeperCell objects
+        createGrid(); //create the game grid that displays all of the cells
                       
 		//add everything to the root BorderPane and position it accordingly
         root.setTop(menubar); //position the menu bar in the top of the window
-        root.setCenter(grid); //position the grid in the center of the window
-        BorderPane.setMargin(grid, new Insets(2, 5, 2, 5)); //add padding around the grid container
+        root.setCenter(boardRenderer.getView()); //position the grid in the center of the window
+        //add padding around the grid container
+        BorderPane.setMargin(boardRenderer.getView(), new Insets(2, 5, 2, 5));
         BorderPane.setMargin(gameInfo, new Insets(0, 0, 1, 0)); //add padding around the gameInfo container
         root.setBottom(gameInfo); //position the game info on the bottom of the window
         	
@@ -295,14 +368,11 @@ public class Main extends Application {
 	} //close adjustGameBounds()
 	
 	
-	/* This method creates the GridPane that stores all of the MinesweeperCells of the game. The overall
-	 * grid size changes according to the difficulty that the user has selected.
+	/* This method creates the game grid that displays all of the cells of the game (using the selected 
+	 * BoardRenderer). The overall grid size changes according to the difficulty that the user has selected.
 	 */
 	public void createGrid() {
-		grid.setAlignment(Pos.CENTER); //center the gridpane
-        grid.setHgap(3); //horizontal gap between grid elements
-        grid.setVgap(3); //vertical gap between grid elements
-        grid.setPadding(new Insets(2, 5, 2, 5)); //padding between grid elements
+		Region grid = boardRenderer.getView(); //the node that displays the game grid
         //adjust the maximum width and height of the grid according to the selected difficulty
 		switch (gameDifficulty) {
 			case "EASY":
@@ -318,19 +388,22 @@ public class Main extends Application {
 				grid.setMaxWidth(HARD_GRID_WIDTH); //1350
 				break;
 			case "CUSTOM":
-				grid.setMaxHeight((MAX_CELL_WIDTH - customCols)  * customRows); //varies based on rows
-				grid.setMaxWidth((MAX_CELL_WIDTH - customCols) * customCols); //varies based on columns
+				/* boards that are larger than the standard custom limits only fit in the viewport, so 
+				 * the grid is sized as if it were the largest standard custom game
+				 */
+				int visibleRows = Math.min(customRows, CUSTOM_ROWS_UPPER_BOUND); //rows that fit on screen
+				int visibleCols = Math.min(customCols, CUSTOM_COLS_UPPER_BOUND); //columns that fit on screen
+				grid.setMaxHeight((MAX_CELL_WIDTH - visibleCols)  * visibleRows); //varies based on rows
+				grid.setMaxWidth((MAX_CELL_WIDTH - visibleCols) * visibleCols); //varies based on columns
 				break;
 			default :
 				grid.setMaxHeight(EASY_GRID_HEIGHT); //600
 				grid.setMaxWidth(EASY_GRID_HEIGHT);	//600	
 		}//end switch (gameDifficulty)
 		
-		grid.getChildren().clear(); //empty out any previous nodes from the grid
-		boolean textExpressionDeclared = false;	//flag used to initialize expression only once
-		//retrieve the serialized MinesweeperCellData from the previous session
-		MinesweeperCellData[][] previousGameData = gameState.getGameData();
-		boolean isEmpty; //flag that checks if a serialized cell had a comment or not
+		boardRenderer.createCells(gameRows, gameCols); //create every cell for the game
+		//retrieve the packed state of every cell from the previous session
+		byte[] previousCellStates = (gameState != null) ? gameState.getCellStates() : null;
 		
 		/* This flag is used to ensure that this is the first game of the session (avoids redundancy 
 		 * when creating a grid after the first game since the CellData no longer needs to be
@@ -338,89 +411,23 @@ public class Main extends Application {
 		 */
 		boolean firstGameOfSession = gameGenerated && !endCurrentGame && !changeDifficulty && 
 		 !changeDifficultyWhenGameDone && !resetCurrentGame;
-		int cellCommentColor; //stores the value of the desired comment color
-		//Iterate through the grid and create every MinesweeperCell for the game
-		for (int i = 0; i < gameRows; i++) {
-			for (int j = 0; j < gameCols; j++) { 
-				MinesweeperCell cell = new MinesweeperCell(i, j, false); //create a new cell
-				//Transfer over the MinesweeperCellData if it is the first game of the session
-				if (firstGameOfSession) {
-					//extract data located in the provided index
-					MinesweeperCellData data = previousGameData[i][j];
-					if(data!= null) { //update cell data with previous session's data
-						cell.updateCellData(data.getXInd(), data.getYInd(), data.getCellVal(),
-						 data.mineIsPresent(), data.getHiddenStatus(), data.getCellComment());
-						if(data.getCellVal() > 0) {
-							//update the cell's Label and Label color with the correct values
-							cell.updateCellText(String.valueOf(data.getCellVal()));
-							cell.setCellTextColor(getColorVal(Math.toIntExact(data.getCellVal())));
-						} //end if
-						//add in any applicable comments to cells that are currently hidden
-						isEmpty = data.getCellComment() == null || data.getCellComment().isBlank();
-						if (!isEmpty && data.getHiddenStatus()) { 
-							cell.addComment(data.getCellComment()); //add comment to cell
-							//change the comment to the correct color
-							cellCommentColor = data.getCellComment().equals("\u2691") ? FLAG_VAL : 
-							 QUESTION_VAL; //determines what color the comment should be
-							cell.setCommentsTextColor(getColorVal(cellCommentColor)); //change color
-							//make sure to update the remainingMines value to reflect any mine comments
-							remainingMines -= data.getCellComment().equals("\u2691") ? 1 : 0;
-						} //end if 		
-					} //end if
-				} //end if
-				
-				//only initialize the expression once since every cell in the grid is the same size.
-				if (!textExpressionDeclared) {
-					/* Create an object binding so that the font is always slightly smaller than the cell's 
-					 * height. This allows the height of the text displayed inside of each cell to scale 
-					 * dynamically as the window is resized.
-					 */
-					cellTextExpression = Bindings.createObjectBinding(
-					 () -> Font.font(cell.getHeight() - TEXT_OFFSET),  cell.heightProperty());
-					textExpressionDeclared = true;  //prevents expression from being re-assigned more than once.
-				} //end if
-				//bind height to scale appropriately to window size
-				cell.prefHeightProperty().bind(grid.heightProperty().divide(gameRows)); 
-				//bind width the scale appropriately to window size
-				cell.prefWidthProperty().bind(grid.widthProperty().divide(gameCols));
-				//bind border rectangle width to the width of the cell
-				cell.getCellRect().widthProperty().bind(cell.widthProperty()); 
-				//bind border rectangle height to the height of the cell
-				cell.getCellRect().heightProperty().bind(cell.heightProperty()); 
-				//bind cell value text to cell size
-				cell.getCellTextLabel().fontProperty().bind(cellTextExpression); 
-				//bind comment text to cell size
-				cell.getCellCommentLabel().fontProperty().bind(cellTextExpression); 
-				minesweeperBoard[i][j] = cell; //assign cell to minesweeperGrid
-				grid.add(cell, j, i); //add cell to grid pane				
-			}//end inner for
-		}//end outer for
-		
-		//Add in the mine text to any applicable cells with mines in them (if it's the first game)
-		if (firstGameOfSession) {
+		//Transfer over the MinesweeperCellData if it is the first game of the session
+		if (firstGameOfSession && previousCellStates != null) {
+			for (int index = 0; index < previousCellStates.length; index++) {
+				byte state = previousCellStates[index]; //packed state saved for the cell
+				//update the board with previous session's data
+				gameBoard.setCellData(index, MinesweeperCellData.getCellVal(state), MinesweeperCellData.hasMine(state),
+				 MinesweeperCellData.isHidden(state), MinesweeperCellData.getComment(state));
+			}//end for
+			if (boardValue == 0)
+				measureBoard(); //saves from older versions don't have the 3BV of the board
+			//make sure to update the remainingMines value to reflect any mine comments
+			remainingMines = gameBoard.getRemainingMines(); 
 			remainingMinesLabel.setText(String.valueOf(remainingMines)); //update remaining mines label
-			Platform.runLater(new Runnable() {
-				@Override
-				public void run() {	
-					//iterate through the minesweeper grid
-					for (int i = 0; i < gameRows; i++) {
-						for (int j = 0; j < gameCols; j++) {
-							if (minesweeperBoard[i][j].hasMine()) {
-								//update the cell value text to represent a mine
-								minesweeperBoard[i][j].updateCellText("\u25CE"); 
-								//update the color of the mine text as well
-								minesweeperBoard[i][j].setCellTextColor(getColorVal(MINE_VAL));
-							} //end if
-							//reveal any cells that were revealed in the previous session
-							if(!minesweeperBoard[i][j].getCellData().getHiddenStatus())
-								minesweeperBoard[i][j].makeCellVisible(); //make cell visible				
-						} //end inner for
-					} //end outer for
-				} //close run
-			}); //close Platform.runLater(...)
 		} //end if 
+		updateQueue.submit(gameBoard); //display the current state of the board on every new cell
 	
-		//add a MouseEvent handler to handle clicks for each node of the GridPane
+		//add a MouseEvent handler to handle clicks on the grid
 		addGridEvent();	
 	} //close createGrid()
 	
@@ -467,6 +474,66 @@ public class Main extends Application {
 		}//end switch (val)
 		return valColor;	
 	}//close getColorVal(...)
+	
+	
+	//return the comment text that is displayed for the given MinesweeperBoard comment value
+	public String getCommentText(int comment) {
+		switch (comment) {
+			case MinesweeperBoard.FLAG_COMMENT: //flag comment
+				return "\u2691";
+			case MinesweeperBoard.QUESTION_COMMENT: //question mark comment
+				return "?";
+			default: //no comment
+				return "";
+		}//end switch (comment)
+	}//close getCommentText(...)
+	
+	
+	/* Update the cell at the given index so that it displays the cell's current state. Once the game is 
+	 * finished, the mines are displayed on top of their hidden cells, the mine that was revealed by the 
+	 * user is highlighted, and any incorrect flag comments are marked with an X.
+	 */
+	private void renderCell(int index) {
+		if (!boardRenderer.isCellDisplayed(index))
+			return; //the cell isn't on the screen (it's drawn once it appears)
+		describeCell(cellAppearance, gameBoard.getCellVal(index), gameBoard.getCellComment(index), 
+		 gameBoard.isHidden(index), index == gameBoard.getExplodedMine(), mineRevealed);
+		boardRenderer.drawCell(index, cellAppearance.getText(), cellAppearance.getTextColor(), 
+		 cellAppearance.getComment(), cellAppearance.getCommentColor(), cellAppearance.getStyle());
+	}//close renderCell(...)
+	
+	
+	/* Decide what a cell with the given state looks like (shared by the normal board and the endless 
+	 * board). Once the game is lost, every mine is displayed on top of its hidden cell.
+	 */
+	private void describeCell(CellAppearance cell, int cellVal, int comment, boolean hidden, 
+	 boolean exploded, boolean gameLost) {
+		//get the cell text and the color accordingly
+		String cellText = (cellVal == MINE_VAL) ? "\u25CE" : ((cellVal == 0) ? "" : String.valueOf(cellVal));
+		Color textColor = getColorVal(cellVal);
+		String commentText = getCommentText(comment); //text of the cell's comment (if applicable)
+		Color commentColor = getColorVal((comment == MinesweeperBoard.FLAG_COMMENT) ? FLAG_VAL : QUESTION_VAL);
+		BoardRenderer.CellStyle style; //how the cell is displayed
+		if (exploded) {
+			//highlight the revealed mine that ended the game
+			style = BoardRenderer.CellStyle.EXPLODED;
+			textColor = Color.CRIMSON.brighter();
+		} else if (!hidden) {
+			//reveal the cell (mines are only revealed once the game is finished)
+			style = (cellVal == MINE_VAL) ? BoardRenderer.CellStyle.MINE : BoardRenderer.CellStyle.REVEALED;
+		} else if (gameLost && cellVal == MINE_VAL) {
+			style = BoardRenderer.CellStyle.MINE; //display the mine once the game is lost
+		} else if (gameLost && comment == MinesweeperBoard.FLAG_COMMENT) {
+			//mark the incorrect flag comment with a red X once the game is lost
+			style = BoardRenderer.CellStyle.INCORRECT;
+			cellText = "\u25CE";
+			textColor = getColorVal(MINE_VAL);
+			commentText = "X";
+			commentColor = Color.RED;
+		} else
+			style = BoardRenderer.CellStyle.CONCEALED; //conceal the cell's contents
+		cell.set(cellText, textColor, commentText, commentColor, style);
+	}//close describeCell(...)
 		
 	
 	//create the game info that displays the ongoing progress of the game
@@ -511,7 +578,7 @@ public class Main extends Application {
         
         fillerNode = new HBox(); //filler node used to separate the elapsed time from the remaining mines
         //bind width of the filler node to the amount of nodes in gameInfo (6)
-    	fillerNode.prefWidthProperty().bind(grid.widthProperty().divide(TOTAL_GAME_INFO_NODES));   
+    	fillerNode.prefWidthProperty().bind(boardRenderer.getView().widthProperty().divide(TOTAL_GAME_INFO_NODES));   
     	fillerNode.setVisible(false); //make the filler node invisible
        
     	//Label showing how many mines are remaining on the board (each mine comment = 1 less mine)
@@ -542,93 +609,65 @@ public class Main extends Application {
 	/* Populate the Minesweeper board (since it is empty by default until the user clicks on a cell. Once
 	 * a cell is clicked, then the appropriate number of mines (totalMines) are placed in random locations
 	 * on the grid. Note: the clicked cell and all of it's immediate neighbors are exempt from having
-	 * mines placed in their respective locations on the grid.
+	 * mines placed in their respective locations on the grid. Regular boards are generated from a new
+	 * seeded BoardId, so they can be shared and regenerated. A board ID entered by the user is always
+	 * used as-is, while no-guess boards come from several threads at once and have no board ID (boards
+	 * that are too large to search for a no-guess layout are regular boards).
 	 */
-	public void populateMinesweeperBoard(MinesweeperCell clickedCell, int totalMines) {
-		Random ran = new Random(); //random variable 
-		int randomXInd = 0; //x index for random point on grid
-		int randomYInd = 0; //y index for random point on grid
-		int mineCount = 0; //number of mines assigned so far
-		//Exclude the clicked cell and it's immediate neighbors
-		HashSet<Point> excludedIndexes = createExcludedCellList(clickedCell);
-		//keep placing mines in random spots until the totalMines number is reached
-		while (mineCount < totalMines) {
-			//get random index
-			randomXInd = ran.nextInt(gameRows); 
-			randomYInd = ran.nextInt(gameCols);
-			/* make sure the random index doesn't already have a mine. If it does, or if the
-			 * random point lies within an excluded cell, then get a different index (and 
-			 * repeat the process over again).
-			 */
-			MinesweeperCell cell = minesweeperBoard[randomXInd][randomYInd];
-			if (cell.getCellVal() != MINE_VAL && !excludedIndexes.contains(
-			 new Point(randomXInd, randomYInd))) {
-				//update the cell value and mine status variables
-				cell.setCellVal(MINE_VAL);
-				cell.setMineStatus(true);
-				Platform.runLater(new Runnable() {
-					@Override
-					public void run() {	
-						cell.updateCellText("\u25CE"); //update cell value text
-						cell.setCellTextColor(getColorVal(MINE_VAL)); //update color
-					} //close run()
-				}); //close Platform.runLater(...)
-				mineCount++; //increment the mine count
-			}//end if			
-		}//end while
-		
-		/* Once all of the mines are assigned, I now need to iterate through the grid and assign
-		 * the cell values for every cell that has a neighboring mine. Once this is finished, 
-		 * then the Minesweeper game is ready to play.
-		 */
-		for (int i = 0; i < gameRows; i++) {
-			for (int j = 0; j < gameCols; j++) {
-				MinesweeperCell cell = minesweeperBoard[i][j]; //retrieve the cell at the given index
-				/* Obtain a list of all neighboring cells (make sure to filter only the neighboring
-				 * cells that are bombs). Assign the number of neighboring bombs as the current 
-				 * cell's cell value.
-				 */
-				if (!cell.hasMine()) {
-					long mines = getNeighbors(cell).stream().filter(c -> c.hasMine()).count();
-					if (mines > 0) { //only add text to cells with adjacent mines
-						cell.setCellVal(Math.toIntExact(mines)); //assign neighboring mine total
-						Platform.runLater(new Runnable() {
-							@Override
-							public void run() {		
-								//update the cell text and the color accordingly)
-								cell.updateCellText(String.valueOf(mines)); 
-								cell.setCellTextColor(getColorVal(Math.toIntExact(mines)));
-							} //close run()
-						}); //close Platform.runLater(...)
-					}//end if
-				}//end if 	
-			}//end inner for
-		}//end outer for
-		
-		//reveal the clicked cell to the user
-		Platform.runLater(new Runnable() {
-			@Override
-			public void run() {	
-				//reveal the clicked cell and (if it's empty) any adjacent non-mine cells to the user
-				revealCells(clickedCell); 	
-			} //close run()
-		}); //close Platform.runLater(...)	
+	public void populateMinesweeperBoard(int clickedIndex, int totalMines) {
+		//place the mines and assign the cell values (the clicked cell and it's neighbors are excluded)
+		if (pendingBoardId != null) {
+			boardId = pendingBoardId; //regenerate the board that the user entered
+			pendingBoardId = null;
+			boardId.populateBoard(gameBoard);
+		} else if (noGuessBoards && NoGuessGenerator.supportsBoard(gameRows, gameCols)) {
+			boardId = null; //no-guess boards can't be reproduced from a seed
+			//use a board from the pool when one fits the clicked cell, otherwise generate one right away
+			if (!boardPool.populateBoard(gameBoard, clickedIndex, true))
+				noGuessGenerator.populateBoard(gameBoard, clickedIndex); //board that can be solved without guessing
+		} else {
+			boardId = BoardId.newBoardId(gameRows, gameCols, totalMines, gameBoard.getRow(clickedIndex), 
+			 gameBoard.getCol(clickedIndex)); //new seed for the board
+			boardId.populateBoard(gameBoard);
+		} //end else
+		measureBoard(); //measure the 3BV of the new board for the statistics
+		moveJournal.recordBoard(gameBoard, boardId); //the board ID (or the mine layout) of the new board
+		gameStateChanged = true; //the next autosave saves the new board
+		//reveal the clicked cell and (if it's empty) any adjacent non-mine cells to the user
+		revealCells(clickedIndex); 	
 	}//close populateMinesweeperBoard(...)
 
 
+	//Measure the openings, isolated numbers, and 3BV of the gameBoard (in a single pass over the board)
+	private void measureBoard() {
+		boardMetrics.measure(gameBoard);
+		boardValue = boardMetrics.getBoardValue();
+		boardOpenings = boardMetrics.getOpenings();
+		isolatedNumbers = boardMetrics.getIsolatedNumbers();
+	} //close measureBoard()
+	
+	
+
+
 	// A left click action reveals the cell (and any adjacent non-mine cells) to the user.
-    private void leftClickAction(MinesweeperCell cell) {
+    private void leftClickAction(int cellIndex) {
     	/* Check to see if a game has been generated or not (also make sure that the
     	 * clicked cell doesn't have a flag comment. A flag comment means that
     	 * the user suspects that there is a mine on the selected cell and therefore
     	 * doesn't want to reveal the cell.
     	 */
-        if (!gameGenerated && !cell.getCellComment().equals("\u2691")) {
-        	populateMinesweeperBoard(cell, totalMines); //create a new game
+        if (!gameGenerated && !gameBoard.hasFlagComment(cellIndex)) {
+        	populateMinesweeperBoard(cellIndex, totalMines); //create a new game
         	gameGenerated = true; //let the program know that a game has been generated
         	startTime = System.nanoTime(); //get the start time
+        	moveJournal.recordMove(MoveJournal.REVEAL, cellIndex, 0); //the first click of the game
         	//start the timeline / start keeping track of the elapsed time
         	timeline.playFromStart(); 
+        	gameOver = gameWon(); //tiny boards can be won by the first click
+        	updateGameStatusAfterLeftClick(); //check to see if the game is over
+        	if (gameOver)
+        		// Stop the timeline, adjust game statistics, and display the game over dialog
+        		updateFinishedGameVariables();
         } else {
         	if (resetCurrentGame) {
         		//check to see if the user wants to reset the current game
@@ -637,35 +676,26 @@ public class Main extends Application {
             	timeline.playFromStart();
             	resetCurrentGame = false; //update flag
         	} //end if
-        	Platform.runLater(new Runnable() {
-				@Override
-				public void run() {	
-					//don't reveal cell if it has a flag comment on it
-					if (!cell.getCellComment().equals("\u2691")) {
-						revealCells(cell); //reveal cells to user
-						//check to see if a revealed cell contains a mine
-						mineRevealed = (cell.getCellVal() == MINE_VAL);
-						if (mineRevealed) {
-							//a mine was revealed, end the game
-							displayMines(); //display every mine on the field
-							/* update the background color and the text color of
-							 * the revealed mine that ended the game
-							 */
-							cell.updateBackgroundColor(Color.PALEVIOLETRED);
-							cell.setCellTextColor(Color.CRIMSON.brighter());
-							//update any incorrect flag comments that the user had
-							updateIncorrectFlagCells();							
-							gameOver = true; //end the game
-						} else {
-							gameOver = gameWon(); //update game status
-							updateGameStatusAfterLeftClick(); //check to see if the game is over
-						} //end else				
-						if (gameOver)
-							// Stop the timeline, adjust game statistics, and display the game over dialog
-							updateFinishedGameVariables(); 
-					} //end if
-				} //close run()
-			}); //close Platform.runLater(...)
+			//don't reveal cell if it has a flag comment on it
+			if (!gameBoard.hasFlagComment(cellIndex)) {
+				moveJournal.recordMove(MoveJournal.REVEAL, cellIndex, getElapsedMillis()); //save the move
+				gameStateChanged = true; //the next autosave saves the move
+				//reveal cells to user and check to see if a revealed cell contains a mine
+				mineRevealed = (revealCells(cellIndex) == MINE_VAL);
+				if (mineRevealed) {
+					//a mine was revealed, end the game
+					displayMines(); //display every mine on the field
+					//update any incorrect flag comments that the user had
+					updateIncorrectFlagCells();							
+					gameOver = true; //end the game
+				} else {
+					gameOver = gameWon(); //update game status
+					updateGameStatusAfterLeftClick(); //check to see if the game is over
+				} //end else				
+				if (gameOver)
+					// Stop the timeline, adjust game statistics, and display the game over dialog
+					updateFinishedGameVariables(); 
+			} //end if
         } //end else
     } //close leftClickAction
 
@@ -676,64 +706,51 @@ public class Main extends Application {
      * present in the neighboring cells. If it does, then this action reveals all of the neighboring
      * cells and all of their adjacent neighbors that aren't mines.
      */
-    private void doubleClickAction(MinesweeperCell cell) {
+    private void doubleClickAction(int cellIndex) {
         //generate a game if one hasn't been created yet.
-    	if(!gameGenerated && !cell.getCellComment().equals("\u2691")) {
-    		populateMinesweeperBoard(cell, totalMines); //generate a new game
+    	if(!gameGenerated && !gameBoard.hasFlagComment(cellIndex)) {
+    		populateMinesweeperBoard(cellIndex, totalMines); //generate a new game
         	gameGenerated = true; //let the program know that a game has been generated
         	startTime = System.nanoTime(); //get the start time
+        	moveJournal.recordMove(MoveJournal.REVEAL, cellIndex, 0); //the first click only reveals the cell
         	//start the timeline / start keeping track of the elapsed time
         	timeline.playFromStart();
+        	gameOver = gameWon(); //tiny boards can be won by the first click
+        	updateGameStatusAfterLeftClick(); //check to see if the game is over
+        	if (gameOver)
+        		//Stop the timeline, adjust the game statistics, and display the game over dialog
+        		updateFinishedGameVariables();
     	} else {
-    		int cellValue = cell.getCellVal(); //get the current cell's value
-    		//make sure that the cell isn't hidden and only deal with cells that aren't empty
-    		if (cellValue > 0 && !cell.isHidden()) {
-    			//see how many flag comments are present in the selected cell's neighbors.
-    			long flagsPresent = getNeighbors(cell).stream().filter(c -> 
-    			 c.getCellComment().equals("\u2691")).count();	
-    			//Make sure flag comments are equal to the cell value
-    			if (Math.toIntExact(flagsPresent) == cell.getCellVal()) {
-	    			Platform.runLater(new Runnable() { 
-	    				@Override
-	    				public void run() {	
-	    					//reveal neighbor cells that don't have flag comments 
-	    					List<MinesweeperCell> neighbors = getNeighbors(cell).stream().filter(c -> 
-	    					 !c.getCellComment().equals("\u2691")).toList();
-	    					/* Get a list of neighboring cells that contain mine values (this is due 
-	    					 * to incorrect flag comments being placed on the board)
-	    					 */
-	    					List<MinesweeperCell> neighborMines = neighbors.stream().filter(c -> 
-	    					 c.hasMine()).toList();
-	    					//If there are no neighboring mines, then reveal all of the cells
-	    					if (neighborMines.isEmpty()) {
-		    					for (MinesweeperCell cell : neighbors)
-		    						//reveal the cell and (if it's empty) any adjacent non-mine cells
-		    						revealCells(cell); 
-								gameOver = gameWon(); //update the game status
-								updateGameStatusAfterLeftClick(); //check to see if the game is over
-	    					} else {
-	    						//there is a neighboring mine, end the game
-	    						//reveal the first neighboring mine in the list
-	    						neighborMines.get(0).revealCell();
-	    						//update the text / background color for the game-losing mine
-	    						neighborMines.get(0).updateBackgroundColor(Color.PALEVIOLETRED);
-	    						neighborMines.get(0).setCellTextColor(Color.CRIMSON.brighter());
-	    						//update any incorrect flag comments that the user had
-								updateIncorrectFlagCells();
-								displayMines(); //display all of mines in the game
-								//let the program know that the game is over
-								mineRevealed = true;
-								gameOver = true;
-	    					} //end else
-	    					if (gameOver) {
-	    						/*Stop the timeline, adjust the game statistics, and display the game 
-	    						 * over dialog.
-	    						*/
-	    						updateFinishedGameVariables();
-	    					} //end if
-	    				} //close run()
-	    			}); //close runLater(...)
-    			} //end if
+    		/* make sure that the cell isn't hidden, that it isn't empty, and that the flag comments
+    		 * present in the selected cell's neighbors are equal to the cell value
+    		 */
+    		if (gameBoard.canChordCell(cellIndex)) {
+    			moveJournal.recordMove(MoveJournal.CHORD, cellIndex, getElapsedMillis()); //save the move
+    			gameStateChanged = true; //the next autosave saves the move
+				/* reveal neighbor cells that don't have flag comments (a neighboring mine
+				 * is only revealed when an incorrect flag comment was placed on the board)
+				 */
+				int mineIndex = gameBoard.chordCell(cellIndex);
+				updateQueue.submit(gameBoard); //display the revealed cells to the user
+				//If there are no neighboring mines, then all of the cells were revealed
+				if (mineIndex < 0) {
+					gameOver = gameWon(); //update the game status
+					updateGameStatusAfterLeftClick(); //check to see if the game is over
+				} else {
+					//there is a neighboring mine, end the game
+					//update any incorrect flag comments that the user had
+					updateIncorrectFlagCells();
+					displayMines(); //display all of mines in the game
+					//let the program know that the game is over
+					mineRevealed = true;
+					gameOver = true;
+				} //end else
+				if (gameOver) {
+					/*Stop the timeline, adjust the game statistics, and display the game 
+					 * over dialog.
+					*/
+					updateFinishedGameVariables();
+				} //end if
     		} //end if
     	}//end else		
     }//close doubleClickAction(...)
@@ -743,33 +760,29 @@ public class Main extends Application {
      * a flag comment to a question mark comment to no comment at all. This pattern repeats itself
      * for as many times as the user performs a right click action.
      */
-    private void rightClickAction(MinesweeperCell cell) {
+    private void rightClickAction(int cellIndex) {
     	//make sure the cell is hidden
-		if(cell.isHidden()) {
-			Platform.runLater(new Runnable() {
-				@Override
-				public void run() {	
-					//""- No Comments yet;  "\u2691" - Flag Comment;  "?" - Question Mark Comment
-					String currText = cell.getCellComment(); //get the current comment
-					//assign the desired comment based on what the current comment is
-					String desiredText = currText.equals("") ? "\u2691" : 
-					 (currText.equals("\u2691") ? "?" : (currText.equals("?") ? "" : "\u2691"));
-					//update comment color if applicable
-					if (!desiredText.isBlank()) {
-						int desiredColor = desiredText.equals("\u2691") ? FLAG_VAL : QUESTION_VAL;
-						//update remainingMines value if the comment is a flag
-						remainingMines += desiredText.equals("\u2691") ? -1: 1;
-						cell.setCommentsTextColor(getColorVal(desiredColor)); //update color
-						//update remainingMinesLabel to reflect change in remainingMines value
-						remainingMinesLabel.setText(String.valueOf(remainingMines));		
-					}//end if
-					cell.addComment(desiredText); //add the comment to the cell
-				} //close run()
-			});	//close Platform.runLater(...)	
+		if(gameBoard.isHidden(cellIndex)) {
+			//No Comments yet -> Flag Comment -> Question Mark Comment -> No Comments
+			gameBoard.cycleCellComment(cellIndex);
+			moveJournal.recordMove(MoveJournal.COMMENT, cellIndex, getElapsedMillis()); //save the move
+			gameStateChanged = true; //the next autosave saves the comment
+			//update remainingMines value in case a flag comment was added or removed
+			remainingMines = gameBoard.getRemainingMines(); //totalMines - flag comments
+			//update remainingMinesLabel to reflect change in remainingMines value
+			remainingMinesLabel.setText(String.valueOf(remainingMines));		
+			updateQueue.submit(gameBoard); //display the comment on the cell
 		} //end if
     } //close rightClickAction(...)
     
     
+    //Return the elapsed time of the current game in milliseconds (saved with every move)
+    private long getElapsedMillis() {
+    	long runningMillis = (startTime != 0) ? (System.nanoTime() - startTime) / 1000000 : 0; //this session
+    	return runningMillis + resumeGameTime * 1000;
+    } //close getElapsedMillis()
+    
+    
     //check to see if the game is over
     public void updateGameStatusAfterLeftClick() {
     	if (gameOver) {
@@ -789,8 +802,9 @@ public class Main extends Application {
     
     // Stop the timeline, adjust game statistics, and display the game over dialog
     public void updateFinishedGameVariables() {
+    	updateQueue.flush(); //make sure the final board is displayed before the dialog appears
     	timeline.stop(); //stop keeping track of the elapsed time
-		adjustGameStatistics(); //adjust the game statistics
+		adjustGameStatistics(boardValue); //adjust the game statistics
 		displayGameOverDialogBox(); //display the game over dialog
     } //close updateFinishedGameVariables()
     
@@ -881,9 +895,13 @@ public class Main extends Application {
 		    } //close changed(...)		
 		}); //close addListener(...)
 		
-		Label customRowsLabel = new Label("Height (9-24): "); //label for custom rows
-		Label customColsLabel = new Label("Width (9-30): "); //label for custom columns
-		Label customMinesLabel = new Label("Mines (10-667): "); //label for custom mines	
+		//label for custom rows
+		Label customRowsLabel = new Label("Height (9-" + customRowsUpperBound + "): ");
+		//label for custom columns
+		Label customColsLabel = new Label("Width (9-" + customColsUpperBound + "): ");
+		//label for custom mines
+		Label customMinesLabel = new Label("Mines (10-" + 
+		 ((customRowsUpperBound - 1) * (customColsUpperBound - 1)) + "): ");
 		TextField customMinesInput = new TextField(); //text field for custom mines
 		TextField customRowsInput = new TextField(); //text field for custom rows
 		TextField customColsInput = new TextField(); //text field for custom columns
@@ -951,8 +969,9 @@ public class Main extends Application {
     /* This method configures the custom text fields so that they have the desired functionality. This 
      * functionality includes parsing out input values that are not numbers and the ability to automatically 
      * update any input values if they fall outside of the given ranges. For rows that range is 9-24, for 
-     * columns that range is 9-30, and for mines the range is 10-667. The maximum amount of mines allowed
-     * varies according to the size of the custom game.
+     * columns that range is 9-30, and for mines the range is 10-667 (rows and columns go up to 5000 when 
+     * the viewport renderer is used). The maximum amount of mines allowed varies according to the size 
+     * of the custom game.
      */
     public void configureTextFields(RadioButton parentBtn, TextField mines, TextField rows, TextField cols ) {
 		mines.setPrefWidth(TEXT_FIELD_SIZE); //set the preferred size
@@ -1019,13 +1038,13 @@ public class Main extends Application {
 				   //change value to lower bound if it is smaller
 			       if (textVal < CUSTOM_SIZE_LOWER_BOUND)
 			    	   rows.setText(String.valueOf(CUSTOM_SIZE_LOWER_BOUND));
-				   else if (textVal > CUSTOM_ROWS_UPPER_BOUND) //change value to upper bound if bigger
-					   rows.setText(String.valueOf(CUSTOM_ROWS_UPPER_BOUND));
+				   else if (textVal > customRowsUpperBound) //change value to upper bound if bigger
+					   rows.setText(String.valueOf(customRowsUpperBound));
 				   customRows = Integer.parseInt(rows.getText()); //update value
 		    	} catch (NumberFormatException e) {
 		    		//set text to the maximum value if there is an exception
-		    		rows.setText(String.valueOf(CUSTOM_ROWS_UPPER_BOUND));
-		    		customRows = CUSTOM_ROWS_UPPER_BOUND; //update desired value
+		    		rows.setText(String.valueOf(customRowsUpperBound));
+		    		customRows = customRowsUpperBound; //update desired value
 		    	} //close catch(...)
 			   
 			    //determine the mine limit given the new input value
@@ -1067,13 +1086,13 @@ public class Main extends Application {
 				   //change value to lower bound if it is smaller
 			       if (textVal < CUSTOM_SIZE_LOWER_BOUND)
 			    	   cols.setText(String.valueOf(CUSTOM_SIZE_LOWER_BOUND));
-				   else if (textVal > CUSTOM_COLS_UPPER_BOUND) //change value to upper bound if bigger
-					   cols.setText(String.valueOf(CUSTOM_COLS_UPPER_BOUND));
+				   else if (textVal > customColsUpperBound) //change value to upper bound if bigger
+					   cols.setText(String.valueOf(customColsUpperBound));
 				   customCols = Integer.parseInt(cols.getText()); //update value
 		    	} catch (NumberFormatException e) {
 		    		//set text to the maximum value if there is an exception
-		    		cols.setText(String.valueOf(CUSTOM_COLS_UPPER_BOUND));
-		    		customCols = CUSTOM_COLS_UPPER_BOUND; //update value
+		    		cols.setText(String.valueOf(customColsUpperBound));
+		    		customCols = customColsUpperBound; //update value
 		    	} //close catch(...)
 				
 				//determine the mine limit given the new input value
@@ -1133,7 +1152,7 @@ public class Main extends Application {
 				oldWidth = mainWindow.getWidth();
 				oldHeight = mainWindow.getHeight();
 				timeline.stop();
-				adjustGameStatistics();
+				adjustGameStatistics(boardValue);
 				//generate a new board if the difficulty was changed
 				gameDifficulty = desiredDifficulty;
 				createNewGame(); 
@@ -1174,6 +1193,7 @@ public class Main extends Application {
 		if (alertResult.isPresent()) {
 			if (alertResult.get() == ButtonType.YES) { //reset selected statistics
 				closeParentWindow = true; //close the parent window
+				statisticsChanged = true; //the statistics are saved by the next autosave
 				//erase the desired game statistics
 				switch (inputDifficulty) {
 					case "Beginner": //erase easy statistics
@@ -1219,7 +1239,7 @@ public class Main extends Application {
 				endCurrentGame = true; //end the current game
 				timeline.stop(); //timeline no longer needs to update, so stop it
 				if (!gameDifficulty.equals("CUSTOM"))
-					adjustGameStatistics(); //adjust game statistics if applicable
+					adjustGameStatistics(boardValue); //adjust game statistics if applicable
 				
 				if (alertResult.get() == btnOptions[0]) //Quit/Start New Game Option
 					createNewGame(); //create a new game
@@ -1242,22 +1262,30 @@ public class Main extends Application {
 	    		gameDifficulty = tempDifficulty; //assign the new difficulty
 			adjustWindowBounds(); //adjust the window bounds to compensate for the new difficulty
 			adjustGridBounds(); //adjust the grid bounds
-			minesweeperBoard = new MinesweeperCell[gameRows][gameCols]; //create a new Minesweeper board
-			createGrid(); //create the game grid that stores all of the MinesweeperCell objects
+			gameBoard = new MinesweeperBoard(gameRows, gameCols, totalMines); //create a new board state
+			requestPooledBoards(); //keep boards of the new size ready
+			createGrid(); //create the game grid that displays all of the cells
 		} //end if
 		//reset any important game variables and zero out all of the cells in the Minesweeper board
 		zeroOutMinesweeperBoard();
     } //close createNewGame()
     
     
-    //Adjust any game statistics once a standard difficulty (non-custom) game is finished.
-    public void adjustGameStatistics() {
+    /* Adjust any game statistics once a standard difficulty (non-custom) game is finished. The 3BV of
+     * the board is divided by the exact time of a won game (not the whole seconds on the clock) for 
+     * the 3BV/s statistics.
+     */
+    public void adjustGameStatistics(int boardValue) {
     	if (gameOver || endCurrentGame) { //make sure the game is over
+    		statisticsChanged = true; //the statistics are saved by the next autosave
     		//adjust appropriate game variables	
        		Format mdy = new SimpleDateFormat("MM/dd/yyyy"); //date format
        		String currDate = mdy.format(new Date()); //current date
     		String endTimeData =  Math.toIntExact(elapsedTime) + " \t\t\t" + currDate; //end time
     		int bestTimeIndex; //index where the current game should go (for the user's best game times)
+    		//exact time of the game in seconds (the clock only shows whole seconds)
+    		double gameSeconds = startTime != 0 ? (System.nanoTime() - startTime) / 1e9 + resumeGameTime : 
+    		 elapsedTime;
     		switch (gameDifficulty) {
 				case "EASY":
 					easyStats.incrementGamesPlayed(); //add finished game to total games played
@@ -1267,6 +1295,7 @@ public class Main extends Application {
 						bestTimeIndex = easyStats.getInputIndex(Math.toIntExact(elapsedTime));
 						//add the game to the best times list (if applicable)
 						easyStats.addBestTime(bestTimeIndex, endTimeData);				
+						easyStats.addBoardValueRate(boardValue, gameSeconds); //add the game's 3BV/s
 					} //end if
 					easyStats.calculateWinPercentage(); //update win percentage
 					//update current streak
@@ -1282,6 +1311,7 @@ public class Main extends Application {
 						bestTimeIndex = mediumStats.getInputIndex(Math.toIntExact(elapsedTime));
 						//add the game to the best times list (if applicable)
 						mediumStats.addBestTime(bestTimeIndex, endTimeData);				
+						mediumStats.addBoardValueRate(boardValue, gameSeconds); //add the game's 3BV/s
 					} //end if
 					mediumStats.calculateWinPercentage(); //update win percentage
 					//update current streak
@@ -1297,6 +1327,7 @@ public class Main extends Application {
 						bestTimeIndex = hardStats.getInputIndex(Math.toIntExact(elapsedTime));
 						//add the game to the best times list (if applicable)
 						hardStats.addBestTime(bestTimeIndex, endTimeData);				
+						hardStats.addBoardValueRate(boardValue, gameSeconds); //add the game's 3BV/s
 					} //end if
 					hardStats.calculateWinPercentage(); //update win percentage
 					//update current streak
@@ -1307,7 +1338,7 @@ public class Main extends Application {
 				default: //custom game statistics don't count, so do nothing
     		} //end switch (gameDifficulty)
     	} //end if
-    } //close adjustGameStatistics()
+    } //close adjustGameStatistics(...)
     
     
     /* This dialog displays the statistics for all of the different standard difficulties (Easy, 
@@ -1368,7 +1399,11 @@ public class Main extends Application {
 						 easyStats.getWinPercentage()) + "%";
 						gameStatistics += "\nLongest Winning Streak: " + easyStats.getLongestWinningStreak();
 						gameStatistics += "\nLongest Losing Streak: " + easyStats.getLongestLosingStreak();
-						gameStatistics += "\nCurrent Streak: " + easyStats.getCurrentStreak();			
+						gameStatistics += "\nCurrent Streak: " + easyStats.getCurrentStreak();
+						gameStatistics += "\nBest 3BV/s: " + decimalFormatter.format(
+						 easyStats.getBestBoardValueRate());
+						gameStatistics += "\nAverage 3BV/s: " + decimalFormatter.format(
+						 easyStats.getAverageBoardValueRate());			
 						break;
 					case "Intermediate": //medium mode
 						//retrieve times from the medium GameStatistics object
@@ -1384,6 +1419,10 @@ public class Main extends Application {
 						gameStatistics += "\nLongest Winning Streak: " + mediumStats.getLongestWinningStreak();
 						gameStatistics += "\nLongest Losing Streak: " + mediumStats.getLongestLosingStreak();
 						gameStatistics += "\nCurrent Streak: " + mediumStats.getCurrentStreak();
+						gameStatistics += "\nBest 3BV/s: " + decimalFormatter.format(
+						 mediumStats.getBestBoardValueRate());
+						gameStatistics += "\nAverage 3BV/s: " + decimalFormatter.format(
+						 mediumStats.getAverageBoardValueRate());
 						break;
 					case "Advanced": //hard mode
 						//retrieve times from the hard GameStatistics object
@@ -1399,6 +1438,10 @@ public class Main extends Application {
 						gameStatistics += "\nLongest Winning Streak: " + hardStats.getLongestWinningStreak();
 						gameStatistics += "\nLongest Losing Streak: " + hardStats.getLongestLosingStreak();
 						gameStatistics += "\nCurrent Streak: " + hardStats.getCurrentStreak();
+						gameStatistics += "\nBest 3BV/s: " + decimalFormatter.format(
+						 hardStats.getBestBoardValueRate());
+						gameStatistics += "\nAverage 3BV/s: " + decimalFormatter.format(
+						 hardStats.getAverageBoardValueRate());
 						break;
 					default: //no valid mode selected; do nothing
 				} //end switch (selectedOption)
@@ -1547,54 +1590,122 @@ public class Main extends Application {
     } //close displayGameOverDialogBox()
     
    	
-    /* This method returns a list of all of the excluded cells when populating a new Minesweeper game.
-     * The clicked cell and all of it's immediate neighbors are excluded from containing a mine, so
-     * this method returns a list containing all of those cells. This prevents a mine from randomly
-     * being placed in one of those cells when creating the game.
-     */
-	private HashSet<Point> createExcludedCellList(MinesweeperCell cell){
-		HashSet<Point> excludedCells = new HashSet<Point>(MAX_EXCLUDED_CELLS);	
-		//Iterate through all of the surrounding cells and add them to the list (includes clicked cell)
-		for (int xDelta = -1; xDelta <= 1; xDelta++) {
-			for (int yDelta = -1; yDelta <= 1; yDelta++) {			 
-				int newX = cell.getCellXInd() + xDelta; //x index of neighboring cell
-				int newY = cell.getCellYInd() + yDelta; //y index of neighboring cell
-				//make sure position is valid
-				if ((newX >= 0 && newX < gameRows) && (newY >= 0 && newY < gameCols))
-					excludedCells.add(new Point(newX, newY)); //add cell to list			
-			}//end inner for
-		}//end outer for
-		return excludedCells; //return list of excluded cells
-	}//close createExcludedCellList(...)
-	
-	
-	//Add an MouseEvent EventHandler to each node on the GridPane
+	/* Add a MouseEvent EventHandler to the game grid. The BoardRenderer translates the coordinates of the
+	 * click into the index of the cell that was clicked.
+	 */
 	private void addGridEvent() {			
-        grid.getChildren().forEach(item -> { 	
-            item.setOnMouseClicked( new EventHandler<MouseEvent>() {
-                @Override
-                public void handle(MouseEvent event) {
-                	if (!gameOver) {
-	                	MouseButton button = event.getButton();  
-	                	if (item instanceof MinesweeperCell) {               		
-	                		if (button == MouseButton.PRIMARY) {  	               
-		                        if (event.getClickCount() == 1) //left click performed
-		                        	leftClickAction(((MinesweeperCell) item));
-		                        else if (event.getClickCount() == 2) //double left click performed
-		                        	doubleClickAction(((MinesweeperCell) item));    
-	    	                } else if (button == MouseButton.SECONDARY) { //right click performed
-	                            rightClickAction(((MinesweeperCell) item));
-	                        }//end if
-	                	}//end if	
-                	}//end if
-                }}); //close handle()
-        }); //close setonMouseClicked(...)   
+        boardRenderer.getView().setOnMouseClicked( new EventHandler<MouseEvent>() {
+            @Override
+            public void handle(MouseEvent event) {
+            	if (!gameOver) {
+                	MouseButton button = event.getButton();  
+                	//index of the clicked cell (-1 if no cell was clicked)
+                	int cellIndex = boardRenderer.getCellIndex(event.getX(), event.getY());
+                	if (cellIndex >= 0) {               		
+                		if (button == MouseButton.PRIMARY) {  	               
+	                        if (event.getClickCount() == 1) //left click performed
+	                        	leftClickAction(cellIndex);
+	                        else if (event.getClickCount() == 2) //double left click performed
+	                        	doubleClickAction(cellIndex);    
+    	                } else if (button == MouseButton.SECONDARY) { //right click performed
+                            rightClickAction(cellIndex);
+                        }//end if
+                	}//end if	
+            	}//end if
+            }}); //close handle()
     } //close addGridEvent()
 	
 	
+	/* Ask the user for a board ID and start playing that board. The game in progress is ended first (which
+	 * counts as a loss for the standard difficulties), and the difficulty is switched to the one that
+	 * matches the board ID (custom games are used for any other board size).
+	 */
+	private void displayBoardIdDialogBox() {
+		TextInputDialog boardIdDialog = new TextInputDialog(); //dialog used to enter the board ID
+		boardIdDialog.initOwner(mainWindow); //keep the dialog on top of the game
+		boardIdDialog.setTitle("Play Board ID"); //assign title
+		boardIdDialog.setHeaderText(null); //no header
+		boardIdDialog.setContentText((gameGenerated && !gameOver) ? "Board ID (ends the game in progress" + 
+		 (gameDifficulty.equals("CUSTOM") ? "" : " and counts as a loss") + "):" : "Board ID:");
+		Optional<String> dialogResult = boardIdDialog.showAndWait(); //wait for the user to enter an ID
+		if (!dialogResult.isPresent())
+			return; //the dialog was cancelled
+		String error = null; //reason why the ID can't be played
+		BoardId enteredId = null; //board ID that was entered
+		try {
+			enteredId = BoardId.parse(dialogResult.get()); //read the ID
+			if (enteredId.getRows() < CUSTOM_SIZE_LOWER_BOUND || enteredId.getRows() > customRowsUpperBound ||
+			 enteredId.getCols() < CUSTOM_SIZE_LOWER_BOUND || enteredId.getCols() > customColsUpperBound)
+				error = "Boards of " + enteredId.getRows() + "x" + enteredId.getCols() + " cells can't be played.";
+			else if (enteredId.getMines() < CUSTOM_MINES_LOWER_BOUND || 
+			 enteredId.getMines() > (enteredId.getRows() - 1) * (enteredId.getCols() - 1))
+				error = enteredId.getMines() + " mines can't be placed on this board.";
+		} catch (IllegalArgumentException e) {
+			error = e.getMessage(); //the text isn't a board ID
+		} //close catch(...)
+		if (error != null) {
+			Alert errorAlert = new Alert(AlertType.ERROR, error, ButtonType.OK); //tell the user what's wrong
+			errorAlert.initOwner(mainWindow);
+			errorAlert.setTitle("Play Board ID");
+			errorAlert.setHeaderText(null);
+			errorAlert.showAndWait();
+			return;
+		} //end if
+		if (gameGenerated && !gameOver) { //end the game in progress
+			gameOver = true; //alert program that the game is over
+			endCurrentGame = true; //end the current game
+			timeline.stop(); //timeline no longer needs to update, so stop it
+			if (!gameDifficulty.equals("CUSTOM"))
+				adjustGameStatistics(boardValue); //adjust game statistics if applicable
+		} //end if
+		playBoardId(enteredId); //start the board
+	} //close displayBoardIdDialogBox()
+	
+	
+	/* Start a new game on the board of the given board ID. The difficulty is changed to match the size of
+	 * the board, and the first click of the board ID is performed right away (starting the clock).
+	 */
+	private void playBoardId(BoardId id) {
+		//find the difficulty that matches the board (any other size is played as a custom game)
+		String difficulty = "CUSTOM";
+		if (id.getRows() == EASY_ROWS && id.getCols() == EASY_COLS && id.getMines() == EASY_MINES)
+			difficulty = "EASY";
+		else if (id.getRows() == MEDIUM_ROWS && id.getCols() == MEDIUM_COLS && id.getMines() == MEDIUM_MINES)
+			difficulty = "MEDIUM";
+		else if (id.getRows() == HARD_ROWS && id.getCols() == HARD_COLS && id.getMines() == HARD_MINES)
+			difficulty = "HARD";
+		else {
+			customRows = id.getRows(); //assign the custom game size
+			customCols = id.getCols();
+			customMines = id.getMines();
+		} //end else
+		gameDifficulty = difficulty; //assign the new difficulty
+		tempDifficulty = difficulty;
+		changeDifficulty = true; //rebuild the grid for the size of the board
+		oldWidth = mainWindow.getWidth();
+		oldHeight = mainWindow.getHeight();
+		createNewGame(); //create an empty board of the right size
+		pendingBoardId = id; //used when the board is populated
+		leftClickAction(gameBoard.getIndex(id.getClickRow(), id.getClickCol())); //perform the first click
+	} //close playBoardId(...)
+	
+	
+	/* Keep no-guess boards of the current size ready in the background (only when no-guess boards are used
+	 * and the board is small enough to be searched for a no-guess layout)
+	 */
+	private void requestPooledBoards() {
+		if (noGuessBoards && NoGuessGenerator.supportsBoard(gameRows, gameCols))
+			boardPool.request(gameRows, gameCols, totalMines, true);
+	} //close requestPooledBoards()
+	
+	
 	//Reset all applicable game variables and zero out every MinesweeperCell
 	public void zeroOutMinesweeperBoard() {
 		resetGameVariables();
+		boardId = null; //the next board gets a new board ID once it's populated
+		gameBoard.zeroOutBoard(); //zero out every cell on the board
+		moveJournal.beginGame(gameDifficulty, gameBoard, null, false, false, 0); //start the journal over
+		gameStateChanged = true; //the next autosave saves the new game
 		//Zero out every MinesweeperCell on the grid
 		Platform.runLater(new Runnable() {
 			@Override
@@ -1602,12 +1713,9 @@ public class Main extends Application {
 				elapsedTimeLabel.setText("0"); //reset elapsed time text to 0
 				//reset remaining mines text to total number of mines
 				remainingMinesLabel.setText(String.valueOf(totalMines));
-				//iterate through grid
-				for (int i = 0; i < gameRows; i++) 
-					for (int j = 0; j < gameCols; j++) 
-						minesweeperBoard[i][j].zeroOutCell(); //zero out cell
 			} //close run()
 		}); //close Platform.runLater(...)
+		updateQueue.submit(gameBoard); //display the empty board
 	} //close zeroOutMinesweeperBoard()
 	
 	
@@ -1635,6 +1743,9 @@ public class Main extends Application {
 		resetGameVariables();	
 		gameGenerated = true; //game is still generated, so update variable
 		resetCurrentGame = true; //the current game will be restarted, so update flag
+		gameBoard.resetBoard(); //reset every cell on the board to it's initial value
+		moveJournal.recordReset(); //the moves of the restarted game follow the reset
+		gameStateChanged = true; //the next autosave saves the restarted game
 		//Reset every cell in the grid to it's initial value
 		Platform.runLater(new Runnable() {
 			@Override
@@ -1642,167 +1753,68 @@ public class Main extends Application {
 				elapsedTimeLabel.setText("0"); //reset elapsed time text to 0
 				//reset remaining mines text to total number of mines
 				remainingMinesLabel.setText(String.valueOf(remainingMines));
-				//iterate through grid
-				for (int i = 0; i < gameRows; i++) {
-					for (int j = 0; j < gameCols; j++) {
-						minesweeperBoard[i][j].resetCellToDefault(); //reset cell to default values
-						//reset cell text to appropriate color
-						minesweeperBoard[i][j].setCellTextColor(getColorVal(minesweeperBoard[i][j].getCellVal()));				
-					} //end inner for
-				} //end outer for										
 			} //close run()
 		}); //close Platform.runLater(...)
+		updateQueue.submit(gameBoard); //display the reset board
 	} //close resetMinesweeperBoard()
 	
 	
 	//Determine whether the game is finished or not and return the result
 	public boolean gameWon() {
-		//see how many hidden cells are still remaining (by using a filter)
-		int hiddenCellsRemaining = Math.toIntExact(Arrays.stream(minesweeperBoard).mapToLong(
-		 a -> Arrays.stream(a).filter(cell -> cell.isHidden()).count()).sum());		
-		/* If the  number of hidden cells remaining equals the totalMines value, then that means that every 
+		/* If the number of hidden cells remaining equals the totalMines value, then that means that every 
 		 * non-mine cell was revealed and only mines are left. This means that the game has been won.
 		 */
-		return hiddenCellsRemaining == totalMines; //return result
+		return gameBoard.gameWon(); //return result
 	} //close gameWon()
 	
 	
-	//Retrieve the selected cell's surrounding neighbors
-	private List<MinesweeperCell> getNeighbors(MinesweeperCell cell){
-		List<MinesweeperCell> neighbors = new ArrayList<>(); //create a new ArrayList to store the values
-		//Add each neighbor to the list
-		for (int xDelta = -1; xDelta <= 1; xDelta++) {
-			for (int yDelta = -1; yDelta <= 1; yDelta++) {			 
-				if (xDelta == 0 && yDelta == 0) //skip the selected cell
-					yDelta++; //increment y index (to skip selected cell)	
-				int newX = cell.getCellXInd() + xDelta; //x index of the new cell
-				int newY = cell.getCellYInd() + yDelta; //y index of the new cell
-				//make sure position is valid
-				if ((newX >= 0 && newX < gameRows) && (newY >= 0 && newY < gameCols))
-					neighbors.add(minesweeperBoard[newX][newY]); //add cell to list	
-			}//end inner for
-		}//end outer for
-		return neighbors; //return list of neighbors
-	} //close getNeighbors(...)
-	
-	
 	/* Reveal the cell's contents to the user. If the cell is empty, then also reveal any surrounding 
-	 * neighbors that do not have mines in them. This is done recursively until all of the applicable 
-	 * cells are revealed
+	 * neighbors that do not have mines in them (or flag comments). The value of the cell is returned.
 	 */
-	private void revealCells(MinesweeperCell cell){
-		//only applies to cells that are hidden	
-		if (cell.isHidden()) {			
-			cell.revealCell(); //reveal the desired cell
-			// If the cell is empty, reveal any adjacent cells that don't contain bombs
-			if (cell.getCellText().isEmpty()) {
-				//get all neighbors that aren't flagged
-				List<MinesweeperCell> neighbors = getUnflaggedNeighbors(cell);
-				//Iterate through the list and reveal each neighboring cell
-				for (MinesweeperCell item : neighbors)
-					revealCells(item); //recursively reveal the cell (and it's neighbors if applicable)
-			} //end if	
-		} //end if	
+	private int revealCells(int cellIndex){
+		int cellVal = gameBoard.revealCells(cellIndex); //reveal the cells on the board
+		updateQueue.submit(gameBoard); //display the revealed cells to the user
+		return cellVal; //return the value of the cell
 	} //close revealCells(...)
 	
-
-	/* Return a list of all unflagged neighbors for a given cell. A flag comment means that the user
-	 * thinks that there is a mine located in the commented cell. This means that we do not add any
-	 * of these cells with comments in them to the list (since the user does not want to reveal their
-	 * contents).
-	 */
-	private List<MinesweeperCell> getUnflaggedNeighbors(MinesweeperCell cell){
-		List<MinesweeperCell> neighbors = new ArrayList<>(); //create a new ArrayList to store the values
-		//Add each neighbor to the list
-		for (int xDelta = -1; xDelta <= 1; xDelta++) {
-			for (int yDelta = -1; yDelta <= 1; yDelta++) {			 
-				if (xDelta == 0 && yDelta == 0) //skip the selected cell
-					yDelta++; //increment y index (to skip selected cell)
-				int newX = cell.getCellXInd() + xDelta; //x index of the new cell
-				int newY = cell.getCellYInd() + yDelta; //y index of the new cell
-				//make sure position is valid
-				if ((newX >= 0 && newX < gameRows) && (newY >= 0 && newY < gameCols)) {
-					//make sure the new cell is hidden and it doesn't have a flag comment
-					if(minesweeperBoard[newX][newY].isHidden() && 
-					 !minesweeperBoard[newX][newY].getCellComment().equals("\u2691"))
-						neighbors.add(minesweeperBoard[newX][newY]); //add cell to list					
-				} //end if			
-			} //end inner for
-		} //end outer for 
-		return neighbors; //return list of unflagged neighbors
-	} //close getUnflaggedNeighbors(...)
-	
-	
-	//Return a list of all of the cells containing a mine in the Minesweeper board
-	private List<MinesweeperCell> getMineCells(){
-		List<MinesweeperCell> mineCells = new ArrayList<>(); //create a new ArrayList to store the values
-		//iterate through the Minesweeper grid
-		for (int i = 0; i < gameRows; i++) {
-			for (int j = 0; j < gameCols; j++) {
-				if (minesweeperBoard[i][j].hasMine()) //check if cell has a mine
-					mineCells.add(minesweeperBoard[i][j]); //add cell with a mine to list
-			}//end inner for
-		}//end outer for	
-		return mineCells; //return list of cells containing mines
-	} //close getMineCells(...)
-	
-	
-	//Return a list of all of the cells containing a flag comment in the Minesweeper board
-	private List<MinesweeperCell> getFlagCommentCells(){
-		List<MinesweeperCell> flagCommentCells = new ArrayList<>(); //create a new ArrayList to store the values
-		//iterate through the Minesweeper grid
-		for (int i = 0; i < gameRows; i++) {
-			for (int j = 0; j < gameCols; j++) {
-				if (minesweeperBoard[i][j].getCellComment().equals("\u2691")) //check if cell has a flag comment
-					flagCommentCells.add(minesweeperBoard[i][j]); //add cell with a flag comment to list
-			}//end inner for
-		}//end outer for	
-		return flagCommentCells; //return list of cells containing a flag comment
-	} //close getFlagCommentCells()
+	
 	
 
 	/* Update any cells with incorrectly placed mine flags when the game is finished. This is done to show
 	 * the user any incorrect logic that lead to losing the game by revealing a mine.
 	 */
 	private void updateIncorrectFlagCells() {
-		List<MinesweeperCell> flagCells = getFlagCommentCells(); //get list of cells containing a flag comment 
-		//Only include cells that have flag comments and also contain mines
-		List<MinesweeperCell> incorrectCells = flagCells.stream().filter(c -> !c.hasMine()).toList();
-		Platform.runLater(new Runnable() {
-			@Override
-			public void run() {	
-				//reveal neighbor cells that don't have flag comments 
-				incorrectCells.forEach(MinesweeperCell::updateIncorrectCell);
-			} //close run()
-		}); //close Platform.runLater(...)		
-	} //close updateIncorrectFlagCell();
+		//Only include cells that have flag comments and don't contain mines
+		for (int i = 0; i < gameBoard.getFlagCount(); i++) {
+			int index = gameBoard.getFlagCommentCell(i); //cell with a flag comment
+			if (!gameBoard.hasMine(index))
+				gameBoard.markCellChanged(index); //the cell is redrawn with an X once the game is lost
+		} //end for
+		updateQueue.submit(gameBoard); //display the incorrect cells
+	} //close updateIncorrectFlagCells()
 	
 	
 	//Display all of the cells that contain mines
 	private void displayMines() {
-		List<MinesweeperCell> mineCells = getMineCells(); //get list of cells containing mines
-		Platform.runLater(new Runnable() {
-			@Override
-			public void run() {	
-				//reveal every cell that contains a mine
-				mineCells.forEach(MinesweeperCell::makeMineVisible);
-			} //close run()
-		}); //close Platform.runLater(...)	
+		//only include mines that are still hidden (the game-losing mine was already revealed)
+		for (int i = 0; i < gameBoard.getMineCellCount(); i++) {
+			int index = gameBoard.getMineCell(i); //cell with a mine
+			if (gameBoard.isHidden(index))
+				gameBoard.exposeMine(index); //the mine is no longer hidden on the board
+		} //end for
+		updateQueue.submit(gameBoard); //reveal every cell that contains a mine
 	} //close displayMines()
 	
 	
 	//Display all of the cells that contain mines which also don't have a flag comment
 	private void displayUnflaggedMines() {
 		//only include cells containing mines that also don't have a flag comment
-		List<MinesweeperCell> unflaggedMineCells = getMineCells().stream().filter(
-		 c -> !c.getCellComment().equals("\u2691")).toList();
-		Platform.runLater(new Runnable() {
-			@Override
-			public void run() {	
-				//reveal neighbor cells that don't have flag comments 
-				unflaggedMineCells.forEach(MinesweeperCell::makeMineVisible);
-			}//close run()
-		}); //close Platform.runLater(...)	
+		for (int i = 0; i < gameBoard.getMineCellCount(); i++) {
+			int index = gameBoard.getMineCell(i); //cell with a mine
+			if (gameBoard.isHidden(index) && !gameBoard.hasFlagComment(index))
+				gameBoard.exposeMine(index); //the mine is no longer hidden on the board
+		} //end for
+		updateQueue.submit(gameBoard); //reveal the mines that don't have flag comments
 	} //close displayUnflaggedMines()
 	
 	
@@ -1831,7 +1843,8 @@ public class Main extends Application {
 				 * (the window height is naturally smaller than the window width), it is 
 				 * essential to adjust the window bounds when this limit is reached.
 				 */
-				wndWidth = (EASY_WND_WIDTH + (SCREEN_WIDTH_OFFSET * (customCols - EASY_COLS)));
+				int visibleCols = Math.min(customCols, CUSTOM_COLS_UPPER_BOUND); //columns that fit on screen
+				wndWidth = (EASY_WND_WIDTH + (SCREEN_WIDTH_OFFSET * (visibleCols - EASY_COLS)));
 				wndHeight = ((customRows >= ROW_LIMIT)) ? MAX_SCREEN_HEIGHT : 
 				 (EASY_WND_HEIGHT + (SCREEN_HEIGHT_OFFSET * (customRows - EASY_ROWS)));
 				break;
@@ -1892,87 +1905,134 @@ public class Main extends Application {
 	
 	/* Serialize all of the GameStatistics variables so that all data from the games played during the
 	 * current session is saved. This is done before the program is terminated so that all of the 
-	 * GameStatistics variables save the most up-to-date data.
+	 * GameStatistics variables save the most up-to-date data. Each file is replaced with an atomic rename
+	 * (see SaveFile), so a crash during the save leaves the previous statistics in place.
 	 */
 	public void serializeStatistics() {
 		try {
-			//A FileOutputStream must be created for each GameStatistics object (easy, medium, hard)
-			FileOutputStream easyStatsFileOut = new FileOutputStream("BeginnerStatistics.ser");
-			FileOutputStream mediumStatsFileOut = new FileOutputStream("IntermediateStatistics.ser");
-			FileOutputStream hardStatsFileOut = new FileOutputStream("AdvancedStatistics.ser");
-			//A ObjectOutputStream must also be created for each GameStatistics object
-			ObjectOutputStream easyStatsObjectOut = new ObjectOutputStream(easyStatsFileOut);
-			ObjectOutputStream mediumStatsObjectOut = new ObjectOutputStream(mediumStatsFileOut);
-			ObjectOutputStream hardStatsObjectOut = new ObjectOutputStream(hardStatsFileOut);
-			//Serialize all of the data (save it)
-			easyStatsObjectOut.writeObject(easyStats);
-			mediumStatsObjectOut.writeObject(mediumStats);
-			hardStatsObjectOut.writeObject(hardStats);
-			//close everything that is no longer needed
-			easyStatsObjectOut.close();
-			easyStatsFileOut.close();
-			mediumStatsObjectOut.close();
-			mediumStatsFileOut.close();
-			hardStatsObjectOut.close();
-			hardStatsFileOut.close();
+			writeStatistics(encodeStatistics()); //Serialize all of the data (save it)
 		} catch (IOException e) {
 			e.printStackTrace(); //print stack trace if there is an issue
 		} //close catch(...) 
 	} //close serializeStatistics()
 	
 	
+	//Return the saved data of the easy, medium, and hard statistics (serialized on the JavaFX thread)
+	private ByteBuffer[] encodeStatistics() throws IOException {
+		statisticsChanged = false; //the statistics are saved as they are now
+		return new ByteBuffer[] {SaveFile.encodeObject(easyStats), SaveFile.encodeObject(mediumStats), 
+		 SaveFile.encodeObject(hardStats)};
+	} //close encodeStatistics()
+	
+	
+	//Write the saved data of the easy, medium, and hard statistics to their files
+	private void writeStatistics(ByteBuffer[] statsData) throws IOException {
+		easyStatsFile.write(statsData[0]);
+		mediumStatsFile.write(statsData[1]);
+		hardStatsFile.write(statsData[2]);
+	} //close writeStatistics(...)
+	
+	
+	/* Save the game state and the statistics (if they changed) while the program is running, so that no
+	 * more than a few seconds of progress are lost if the program is killed. The game state is only
+	 * gathered when a move was made since the last autosave (the clock is kept by the move journal), and
+	 * the cells are copied with a single array copy into a reused array on the JavaFX thread. The files
+	 * are written by the autosave thread, and an autosave is skipped while the previous one is still
+	 * being written (the array is still in use).
+	 */
+	private void autosave() {
+		if (gameGenerated && !gameOver && startTime != 0)
+			moveJournal.recordTime(getElapsedMillis()); //the clock resumes from here after a crash
+		if (pendingAutosave != null && !pendingAutosave.isDone())
+			return; //the previous autosave is still being written (the next autosave tries again)
+		try {
+			MinesweeperGameState savedState = null; //game state that is written (null = no changes)
+			if (gameStateChanged) {
+				createGameState(); //the most up-to-date data of the current game
+				savedState = gameState;
+				gameStateChanged = false; //saved as it is now
+			} //end if
+			ByteBuffer[] statsData = statisticsChanged ? encodeStatistics() : null; //null = no changes
+			if (savedState == null && statsData == null)
+				return; //nothing changed since the last autosave
+			MinesweeperGameState writtenState = savedState; //used by the autosave thread
+			pendingAutosave = autosaveExecutor.submit(() -> {
+				try {
+					if (writtenState != null)
+						gameStateFile.write(writtenState); //nothing is written if the game state didn't change
+					if (statsData != null)
+						writeStatistics(statsData);
+				} catch (IOException e) {
+					e.printStackTrace(); //print stack trace if there is an issue
+					Platform.runLater(() -> { //the next autosave tries again
+						gameStateChanged |= writtenState != null;
+						statisticsChanged |= statsData != null;
+					}); //close runLater(...)
+				} //close catch(...)
+			}); //close submit(...)
+		} catch (IOException e) {
+			e.printStackTrace(); //print stack trace if there is an issue
+		} //close catch(...)
+	} //close autosave()
+	
+	
 	/* Serialize the MinesweeperGameState so that all data from the current game is saved before the 
 	 * program terminates. This includes the elapsed time, the window position and size, the current game 
 	 * difficulty selected, if the game is finished, the current size of the game and the total number of 
-	 * mines, if a game was generated or not, and the cellData for each cell on the Minesweeper board.
+	 * mines, if a game was generated or not, and the cellData for each cell on the Minesweeper board. The
+	 * game state is written to GameState.dat in the binary format of the GameStateFile.
 	 */
 	public void serializeGameState() {
+		//stop the timeline if the game isn't over yet
+		if (!gameOver)
+			timeline.stop(); //stop timeline	
 		createGameState(); //Create the game state so that it consists of the most up-to-date data
 		try {
-			//Create a FileOutputStream 
-			FileOutputStream gameStateFileOut = new FileOutputStream("GameState.ser");		
-			//Create an ObjectOutputStream 
-			ObjectOutputStream gameStateObjectOut = new ObjectOutputStream(gameStateFileOut);		
-			gameStateObjectOut.writeObject(gameState); //serialize data (save it)
-			gameStateObjectOut.close(); //close ObjectOutputStream (no longer needed)
-			gameStateFileOut.close(); //close FileOutputStream (no longer needed)
+			gameStateFile.write(gameState); //serialize data (save it)
 		} catch (IOException e) {
 			e.printStackTrace(); //print stack trace if there was an issue
 		} //close catch(...)
 	} //close serializeGameState()
 	
 	
-	//Create the GameState so that it contains the most up-to-date data of the current game
+	/* Create the GameState so that it contains the most up-to-date data of the current game. The packed
+	 * cells are copied straight from the board into an array that is reused between saves (a new array is
+	 * only created for a new board size, or while an autosave might still be reading the old one).
+	 */
 	public void createGameState() {
-		//stop the timeline if the game isn't over yet
-		if (!gameOver)
-			timeline.stop(); //stop timeline	
-		/* Create an array to hold all of the MinesweeperCellData values for each cell in the game.
-		 * This is done because there are variables in the MinesweeperCell class that cannot be
-		 * serialized natively (Labels and Rectangles). 
-		 */
-		MinesweeperCellData[][] gameCellsData = new MinesweeperCellData[gameRows][gameCols];	
-		//iterate through game grid and add each cell's data to the list.
-		for (int i = 0; i < gameRows; i++)
-			for (int j = 0; j < gameCols; j++) //get the cellData of each cell in the game
-				gameCellsData[i][j] = minesweeperBoard[i][j].getCellData(); //add data to array
+		if (savedCellStates == null || savedCellStates.length != gameRows * gameCols || 
+		 (pendingAutosave != null && !pendingAutosave.isDone()))
+			savedCellStates = new byte[gameRows * gameCols]; //one byte per cell
+		gameBoard.copyCellStates(savedCellStates); //copy the packed state of every cell
+		byte[] gameCellStates = savedCellStates; //packed state of each cell in the game
 		//Create a new game state with all of the most up-to-date data
 		gameState = new MinesweeperGameState(gameOver, gameDifficulty, gameRows, gameCols, totalMines, 
-		 gameCellsData, elapsedTime, mainWindow.getHeight(), mainWindow.getWidth(), mainWindow.getX(), 
+		 gameCellStates, elapsedTime, mainWindow.getHeight(), mainWindow.getWidth(), mainWindow.getX(), 
 		 mainWindow.getY(), screenMaximized, gameGenerated);
+		gameState.setNoGuessStatus(noGuessBoards); //remember the no-guess option
+		//remember the board ID of the saved board (if it has one)
+		gameState.setBoardId((gameGenerated && boardId != null) ? boardId.toString() : null);
+		gameState.setBoardValue(gameGenerated ? boardValue : 0); //remember the board's metrics
+		gameState.setBoardOpenings(gameGenerated ? boardOpenings : 0);
+		gameState.setIsolatedNumbers(gameGenerated ? isolatedNumbers : 0);
 	} //close createGameState() 
 	
 	
-	//Retrieve the game state of the previous session (so the user can continue from where they left off
-	public void getPreviousGameState() throws IOException, ClassNotFoundException {
-		//Create a new FileInputStream
-		FileInputStream gameStateFileIn = new FileInputStream("GameState.ser");
-		//Create a new ObjectInputStream
-		ObjectInputStream gameStateObjectIn = new ObjectInputStream(gameStateFileIn);
-		//Retrieve the game state of the previous session
-		gameState = (MinesweeperGameState) gameStateObjectIn.readObject();
-		gameStateFileIn.close(); //close FileInputStream (no longer needed)
-		gameStateObjectIn.close(); //close ObjectInputStream (no longer needed)
+	/* Retrieve the game state of the previous session (so the user can continue from where they left off).
+	 * The game state is null when neither generation of GameState.dat (nor GameState.ser) can be used.
+	 * The move journal is written with every move while GameState.dat is only written every few seconds,
+	 * so the game that is rebuilt from the journal is used when there is one. A board that is larger than
+	 * the selected renderer can display (a viewport game loaded with another renderer) isn't restored.
+	 */
+	public void getPreviousGameState() throws IOException {
+		//Retrieve the game state of the previous session (from GameState.ser if GameState.dat can't be used)
+		gameState = gameStateFile.read();
+		MinesweeperGameState journalState = moveJournal.replay(gameState); //null when there is no journal
+		if (journalState != null)
+			gameState = journalState; //the last move of the previous session
+		if (gameState != null && (gameState.getGameRows() > customRowsUpperBound || 
+		 gameState.getGameCols() > customColsUpperBound))
+			gameState = null; //the board can't be displayed, so a new game is started instead
 	} //close getPreviousGameState()
 			
 	
@@ -1980,7 +2040,7 @@ public class Main extends Application {
 	 * to help initialize the game variables. In the event that the previous game state is not present,
 	 * then the variables are initialized for a blank easy game difficulty.
 	 */
-	public void initializeGameVariables() throws ClassNotFoundException, IOException {
+	public void initializeGameVariables() throws IOException {
 		getPreviousGameState(); //get game state of previous session if available
 		//the previous game was already finished.
 		if (gameState != null) {
@@ -2004,6 +2064,13 @@ public class Main extends Application {
 			 */
 			resumeGameTime = gameState.isFinished() ? 0 : gameState.getElapsedTime();
 			screenMaximized = gameState.getFullScreenStatus(); //retrieve from gameState
+			noGuessBoards = gameState.getNoGuessStatus(); //retrieve from gameState
+			//retrieve from gameState (old saves and boards without an ID have none)
+			boardId = (gameGenerated && gameState.getBoardId() != null) ? 
+			 BoardId.parse(gameState.getBoardId()) : null;
+			boardValue = gameGenerated ? gameState.getBoardValue() : 0; //retrieve from gameState
+			boardOpenings = gameGenerated ? gameState.getBoardOpenings() : 0; //retrieve from gameState
+			isolatedNumbers = gameGenerated ? gameState.getIsolatedNumbers() : 0; //retrieve from gameState
 		} else {
 			customRows = 9; //default value
 			customCols = 9; //default value
@@ -2020,9 +2087,11 @@ public class Main extends Application {
 			gameOver = false; //default value
 			resumeGameTime = 0; //default value
 			screenMaximized = false; //default value
+			noGuessBoards = false; //default value
 		} //end else
 		//create a new minesweeperBoard
-		minesweeperBoard = new  MinesweeperCell[gameRows][gameCols];
+		gameBoard = new MinesweeperBoard(gameRows, gameCols, totalMines); //create the board state
+		requestPooledBoards(); //keep boards of the current size ready
 		mineRevealed = false; //default value
 		resetCurrentGame = false; //default value
 		endCurrentGame = false; //default value
@@ -2038,6 +2107,17 @@ public class Main extends Application {
 	 * current game-state to resume playing when a new session is launched. Then close the program.
 	*/
 	public void closeProgram() {
+		autosaveTimeline.stop(); //no more autosaves
+		autosaveExecutor.shutdown(); //let the last autosave finish before the files are saved again
+		try {
+			if (!autosaveExecutor.awaitTermination(AUTOSAVE_SECONDS, TimeUnit.SECONDS))
+				autosaveExecutor.shutdownNow(); //stop the older autosave (the saves below replace it anyway)
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); //the final save below still happens
+		} //close catch(...)
+		if (gameGenerated && !gameOver && startTime != 0)
+			moveJournal.recordTime(getElapsedMillis()); //the elapsed time when the program was closed
+		moveJournal.close(); //write the last moves
 		serializeStatistics(); //serialize statistics (include games played during this session)
     	serializeGameState(); //serialize the current game state
     	Platform.exit(); //signal the JavaFX Toolkit to shut down
@@ -2045,14 +2125,129 @@ public class Main extends Application {
 	} //close closeProgram()
 	
 	
+	/* Create the window used by the endless mode. The endless board has no size and no mine count, so the
+	 * game is simply played until a mine is revealed (the score is the number of revealed safe cells).
+	 * Endless games aren't part of the statistics and aren't saved between sessions.
+	 */
+	private void startEndlessMode(Stage primaryStage) {
+		BorderPane endlessRoot = new BorderPane(); //houses the menubar, board, and score
+		Menu endlessMenu = new Menu("File"); //File menu
+		MenuItem newGameMenuItem = new MenuItem("New Game"); //New Game option
+		newGameMenuItem.setOnAction(new EventHandler<ActionEvent>() {
+			public void handle(ActionEvent t) {
+				createEndlessGame(); //start over with a new world
+			}//close handle(...)
+		}); //close setOnAction(...)
+		newGameMenuItem.setAccelerator(new KeyCodeCombination(KeyCode.N, KeyCombination.CONTROL_DOWN));
+		MenuItem quitMenuItem = new MenuItem("Quit"); //Quit option
+		quitMenuItem.setOnAction(new EventHandler<ActionEvent>() {
+			public void handle(ActionEvent t) {
+				Platform.exit(); //nothing needs to be saved
+			}//close handle(...)
+		}); //close setOnAction(...)
+		quitMenuItem.setAccelerator(new KeyCodeCombination(KeyCode.X, KeyCombination.CONTROL_DOWN));
+		endlessMenu.getItems().addAll(newGameMenuItem, quitMenuItem); //add the menu items to the menu
+		MenuBar endlessMenubar = new MenuBar(); //holds the menu used in the endless mode
+		endlessMenubar.getMenus().add(endlessMenu); //add the menu to the menu bar
+		endlessView = new EndlessBoardView(this::describeEndlessCell); //displays the endless board
+		endlessView.getView().setOnMouseClicked(this::endlessClickAction); //handle the user's clicks
+		endlessScoreLabel = new Label(); //displays the current score
+		endlessScoreLabel.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+		endlessRoot.setTop(endlessMenubar); //position the menu bar in the top of the window
+		endlessRoot.setCenter(endlessView.getView()); //position the board in the center of the window
+		endlessRoot.setBottom(endlessScoreLabel); //position the score on the bottom of the window
+		BorderPane.setMargin(endlessView.getView(), new Insets(2, 5, 2, 5));
+		BorderPane.setAlignment(endlessScoreLabel, Pos.CENTER);
+		createEndlessGame(); //create the first world
+		mainWindow = primaryStage; //assign the main window
+		mainWindow.setTitle("Minesweeper - Endless");
+		mainWindow.setScene(new Scene(endlessRoot, HARD_WND_WIDTH, HARD_WND_HEIGHT));
+		mainWindow.setOnCloseRequest(event -> Platform.exit()); //nothing needs to be saved
+		mainWindow.show(); //display the window to the user
+	} //close startEndlessMode(...)
+	
+	
+	//Start a new endless game in a randomly seeded world
+	private void createEndlessGame() {
+		endlessBoard = new EndlessBoard(new Random().nextLong()); //new world
+		endlessView.setBoard(endlessBoard); //display the new world
+		updateEndlessScore(); //reset the score
+	} //close createEndlessGame()
+	
+	
+	//Display the current score of the endless game
+	private void updateEndlessScore() {
+		endlessScoreLabel.setText("Revealed: " + endlessBoard.getRevealedSafeCells() + "   Flags: " + 
+		 endlessBoard.getFlagCount());
+	} //close updateEndlessScore()
+	
+	
+	//Decide what the cell at the given coordinates of the endless board looks like
+	private void describeEndlessCell(int x, int y, CellAppearance cell) {
+		describeCell(cell, endlessBoard.getCellVal(x, y), endlessBoard.getCellComment(x, y), 
+		 endlessBoard.isHidden(x, y), endlessBoard.isExplodedMine(x, y), endlessBoard.mineRevealed());
+	} //close describeEndlessCell(...)
+	
+	
+	/* Handle a click on the endless board. The same rules as the normal board apply: a left click reveals
+	 * a cell, a double click chords a cell, and a right click cycles the cell's comment. Clicks that ended
+	 * a drag of the view are ignored.
+	 */
+	private void endlessClickAction(MouseEvent event) {
+		if (!event.isStillSincePress() || endlessBoard.mineRevealed() || 
+		 !endlessView.isCellAt(event.getX(), event.getY()))
+			return; //the view was dragged, the game is over, or no cell was clicked
+		int x = endlessView.getCellX(event.getX()); //column of the clicked cell
+		int y = endlessView.getCellY(event.getY()); //row of the clicked cell
+		if (event.getButton() == MouseButton.PRIMARY) {
+			if (event.getClickCount() == 1 && !endlessBoard.hasFlagComment(x, y))
+				endlessBoard.revealCells(x, y); //reveal the cell (and it's neighbors if applicable)
+			else if (event.getClickCount() == 2 && endlessBoard.canChordCell(x, y))
+				endlessBoard.chordCell(x, y); //reveal the neighbors of the cell
+		} else if (event.getButton() == MouseButton.SECONDARY)
+			endlessBoard.cycleCellComment(x, y); //change the cell's comment
+		endlessView.redraw(); //display the changes
+		updateEndlessScore(); //display the new score
+		if (endlessBoard.mineRevealed()) {
+			//let the user know that the game is over
+			Alert alert = new Alert(AlertType.INFORMATION);
+			alert.initOwner(mainWindow);
+			alert.setTitle("Game Over");
+			alert.setHeaderText("You revealed a mine!");
+			alert.setContentText("Safe cells revealed: " + endlessBoard.getRevealedSafeCells() + 
+			 "\nPress Ctrl+N to start a new game.");
+			alert.show(); //the board stays visible behind the alert
+		} //end if
+	} //close endlessClickAction(...)
+	
+	
 	//Create / run the program
 	@Override
 	public void start(Stage primaryStage) throws Exception {
+		//the endless mode (--mode=endless) uses its own window and doesn't load any saved data
+		if (getParameters().getNamed().getOrDefault("mode", "").equalsIgnoreCase("endless")) {
+			startEndlessMode(primaryStage); //play on an endless board instead
+			return;
+		} //end if
+		/* hold the minesweeper board (the other renderers are selected with the --renderer=canvas and 
+		 * --renderer=viewport parameters). The viewport only displays the visible part of the board, which
+		 * allows custom games that are much larger than the window. The renderer is selected before the
+		 * previous game is loaded, since it decides which board sizes can be restored.
+		 */
+		String rendererName = getParameters().getNamed().getOrDefault("renderer", "grid");
+		if (rendererName.equalsIgnoreCase("viewport")) {
+			boardRenderer = new ViewportBoardRenderer(this::renderCell);
+			customRowsUpperBound = VIEWPORT_SIZE_UPPER_BOUND; //custom games can be much larger
+			customColsUpperBound = VIEWPORT_SIZE_UPPER_BOUND;
+		} else if (rendererName.equalsIgnoreCase("canvas"))
+			boardRenderer = new CanvasBoardRenderer(this::renderCell);
+		else
+			boardRenderer = new GridBoardRenderer();
 		//declare all of the different elements used in the scene
 		initializeGameVariables(); //initialize all of the game variables
 		root = new BorderPane(); //houses the menubar, grid, and gameInfo elements
 		menubar = new MenuBar(); //holds the menu items used in the program
-		grid = new GridPane(); //hold the minesweeper board	
+		updateQueue = new BoardUpdateQueue(this::renderCell); //draws the board changes on the grid
 		gameInfo = new HBox(); //displays the ongoing game information
 		//initialize the scene with all of the window elements	
 		Scene scene = new Scene(createContent()); //create the content of the program
@@ -2110,32 +2305,20 @@ public class Main extends Application {
 			mainWindow.setMaximized(true); //maximize current window
 			mainWindow.setX(0); //update x position
 			mainWindow.setY(0); //update y position
-		} else {
+		} else if (gameState != null && !Double.isNaN(gameState.getWindowHeight())) {
+			//no window bounds are available without a saved game state (or a journal without one)
 			mainWindow.setX(gameState.getWindowXPos()); //update x position
 			mainWindow.setY(gameState.getWindowYPos()); //update y position
 			mainWindow.setHeight(gameState.getWindowHeight()); //update height
 			mainWindow.setWidth(gameState.getWindowWidth()); //update width		
 		} //end else
 		
-		//Create new FileInputStreams for each of the difficulties (easy, medium, hard)
-		FileInputStream easyStatsFileIn = new FileInputStream("BeginnerStatistics.ser");
-		FileInputStream mediumStatsFileIn = new FileInputStream("IntermediateStatistics.ser");
-		FileInputStream hardStatsFileIn = new FileInputStream("AdvancedStatistics.ser");
-		//Create new ObjectInputStreams for each of the difficulties (easy, medium, hard)
-		ObjectInputStream easyStatsObjectIn = new ObjectInputStream(easyStatsFileIn);
-		ObjectInputStream mediumStatsObjectIn = new ObjectInputStream(mediumStatsFileIn);
-		ObjectInputStream hardStatsObjectIn = new ObjectInputStream(hardStatsFileIn);
-		//Retrieve the statistics data of the previous session for each difficulty
-		easyStats = (GameStatistics) easyStatsObjectIn.readObject();
-		mediumStats = (GameStatistics) mediumStatsObjectIn.readObject();
-		hardStats = (GameStatistics) hardStatsObjectIn.readObject();
-		//close everything that is no longer needed
-		easyStatsFileIn.close();
-		mediumStatsFileIn.close();
-		hardStatsFileIn.close();
-		easyStatsObjectIn.close();
-		mediumStatsObjectIn.close();
-		hardStatsObjectIn.close(); 
+		/* Retrieve the statistics data of the previous session for each difficulty (the previous generation
+		 * is used when the newest file is damaged, and new statistics are started when neither can be used)
+		 */
+		easyStats = readStatistics(easyStatsFile, "Beginner");
+		mediumStats = readStatistics(mediumStatsFile, "Intermediate");
+		hardStats = readStatistics(hardStatsFile, "Advanced");
 	
 		//Display the primary stage to the user
 		mainWindow.show(); 
@@ -2144,9 +2327,22 @@ public class Main extends Application {
 			startTime = System.nanoTime(); //get the current time
 	    	timeline.playFromStart(); //start the timeline
 		} //end if
+		//start the journal with the board of the restored game (the moves of this session are added to it)
+		moveJournal.beginGame(gameDifficulty, gameBoard, boardId, gameGenerated, gameOver, resumeGameTime * 1000);
+		//save the game state every few seconds (the process can be killed without losing the game)
+		autosaveTimeline = new Timeline(new KeyFrame(Duration.seconds(AUTOSAVE_SECONDS), e -> autosave()));
+		autosaveTimeline.setCycleCount(Animation.INDEFINITE); // loop forever
+		autosaveTimeline.play();
 	} //close start(...)
 	
 	
+	//Return the saved statistics of a difficulty (new statistics when no generation of the file can be used)
+	private GameStatistics readStatistics(SaveFile statsFile, String difficulty) throws IOException {
+		Object savedStats = statsFile.readObject(); //null when the file is missing or damaged
+		return (savedStats instanceof GameStatistics) ? (GameStatistics) savedStats : new GameStatistics(difficulty);
+	} //close readStatistics(...)
+	
+	
 	//Launch the program
 	public static void main(String[] args) {
 		launch(args);
@@ -0,0 +1,536 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: MineProbabilityCalculator.java
+ *
+ * Description: This class calculates the probability that every hidden cell of a MinesweeperBoard
+ * contains a mine, using only what the user can see. The cells that the MinesweeperSolver already
+ * deduced are taken as known, and the remaining hidden cells next to a revealed cell (the frontier) are
+ * split into independent components (cells that share a constraint end up in the same component). Every
+ * valid mine configuration of each component is counted per number of mines, and the components are
+ * then combined with the hidden cells away from the frontier using the total number of mines. Since every
+ * configuration of the frontier with K mines can be completed in C(interior cells, remaining mines - K)
+ * ways, those binomial weights are computed in log space from a precomputed table of log factorials,
+ * which keeps them finite on any board size.
+ *
+ * The components don't depend on each other, so they are enumerated in parallel on a ForkJoinPool.
+ * Components that are too large to enumerate (or that take too long) are estimated by sampling random
+ * valid configurations instead, in which case the results are marked as approximate.
+ *
+ */
+
+package application;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class MineProbabilityCalculator {
+	private static final int EXACT_GROUP_LIMIT = 64; //components with more groups than this are sampled
+	private static final long EXACT_STEP_LIMIT = 500_000L; //search steps allowed before sampling instead
+	private static final int SAMPLE_COUNT = 2000; //configurations drawn for a sampled component
+	private static final long SAMPLE_STEP_LIMIT = 5_000L; //search steps allowed for a single sample
+	private static final double[][] BINOMIALS = new double[9][9]; //C(n, k) for groups of up to 8 cells
+	
+	static {
+		for (int n = 0; n < BINOMIALS.length; n++) {
+			BINOMIALS[n][0] = 1; //C(n, 0) = 1
+			for (int k = 1; k <= n; k++)
+				BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k]; //Pascal's triangle
+		} //end for
+	} //close static
+
+	private final MinesweeperBoard board; //the board whose probabilities are calculated
+	private final MinesweeperSolver solver; //provides the cells that are already known
+	private final ForkJoinPool pool; //enumerates the components in parallel
+	private final double[] logFactorials; //log(n!) for every n up to the number of cells
+	private final double[] probabilities; //mine probability of every cell
+	private final int[] cellComponent; //component of every frontier cell (-1 = not on the frontier)
+	private final int[] constraintComponent; //component of every constraint (-1 = not assigned yet)
+	private boolean approximate; //flag used to check if any component was sampled
+	private int componentCount; //number of components found by the last calculation
+
+
+	/* A component of the frontier. Cells that touch exactly the same constraints are interchangeable, so
+	 * they are grouped together and the search assigns a number of mines to each group instead of a value
+	 * to each cell (a group of n cells with m mines stands for C(n, m) configurations).
+	 */
+	private static class Component extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int[] cells; //board indexes of every cell in the component
+		private final int[][] groupCells; //board indexes of the cells in every group
+		private final int[][] groupConstraints; //constraints of every group (local constraint indexes)
+		private final int[] needed; //number of unknown mines around every constraint
+		private final int[] unassigned; //number of unassigned cells around every constraint
+		private final int[] placed; //number of mines placed around every constraint
+		private final double density; //expected share of mines (used while sampling)
+		private final long seed; //seed used while sampling (the results are repeatable)
+		private final int[] values; //number of mines assigned to every group
+		private final int[] tried; //number of values tried for every group
+		private final int[] first; //value tried first for every group
+		private final double[] weights; //configurations represented by the groups assigned so far
+		private double[] counts; //weight of the configurations for every number of mines
+		private double[][] groupCounts; //weight of the configurations where a cell of the group is a mine
+		private boolean sampled; //flag used to check if the component had to be sampled
+		private int mines; //number of mines that are currently placed
+
+
+		//Constructor method for the Component
+		private Component(int[] cells, int[][] groupCells, int[][] groupConstraints, int[] needed, int[] unassigned,
+		 double density) {
+			this.cells = cells; //assign the cells
+			this.groupCells = groupCells; //assign the groups
+			this.groupConstraints = groupConstraints; //assign the constraints of every group
+			this.needed = needed; //assign the mines around every constraint
+			this.unassigned = unassigned; //assign the unassigned cells around every constraint
+			this.density = density; //assign the density
+			placed = new int[needed.length]; //no mines are placed yet
+			values = new int[groupCells.length];
+			tried = new int[groupCells.length];
+			first = new int[groupCells.length];
+			weights = new double[groupCells.length + 1];
+			weights[0] = 1; //nothing is assigned yet
+			seed = cells[0]; //seed derived from the component (the same board gives the same results)
+		} //close Component(...) constructor
+
+
+		//Count the configurations of the component (sampled when the component is too large)
+		@Override
+		protected void compute() {
+			counts = new double[cells.length + 1]; //no configurations counted yet
+			groupCounts = new double[groupCells.length][cells.length + 1];
+			if (groupCells.length <= EXACT_GROUP_LIMIT && search(EXACT_STEP_LIMIT, false))
+				return; //every configuration was counted
+			sampled = true; //the exact count is too expensive
+			counts = new double[cells.length + 1]; //forget the partial count
+			groupCounts = new double[groupCells.length][cells.length + 1];
+			SplittableRandom random = new SplittableRandom(seed); //used to pick the order of the values
+			int samples = 0; //number of configurations found
+			for (int i = 0; i < SAMPLE_COUNT; i++) {
+				for (int g = 0; g < groupCells.length; g++) {
+					int size = groupCells[g].length; //cells in the group
+					first[g] = 0; //start with the number of mines that the density suggests
+					for (int j = 0; j < size; j++)
+						first[g] += random.nextDouble() < density ? 1 : 0;
+				} //end for
+				if (search(SAMPLE_STEP_LIMIT, true))
+					samples++; //a configuration was found
+			} //end for
+			if (samples == 0) {
+				//no configuration was found in time, so spread the expected mines evenly
+				int expected = (int) Math.round(cells.length * density); //expected number of mines
+				counts[expected] = 1;
+				for (int g = 0; g < groupCells.length; g++)
+					groupCounts[g][expected] = (double) expected / cells.length;
+			} //end if
+		} //close compute()
+
+
+		/* Search the configurations of the component with a depth first search. Every group is assigned a
+		 * number of mines in turn, and a value is only kept if every constraint of the group can still be
+		 * satisfied. When sampling, the search stops at the first configuration that is found. Return
+		 * whether the search finished (or found a configuration) within the given number of steps.
+		 */
+		private boolean search(long stepLimit, boolean firstOnly) {
+			int depth = 0; //group that is being assigned
+			tried[0] = 0; //no values were tried yet
+			long steps = 0; //search steps taken so far
+			boolean finished = true; //flag used to check if the search finished in time
+			while (depth >= 0) {
+				if (++steps > stepLimit) {
+					finished = false; //the search took too long
+					break;
+				} //end if
+				if (depth == groupCells.length) {
+					recordConfiguration(); //every group was assigned
+					if (firstOnly)
+						break; //one configuration is enough
+					depth--; //try the next value of the last group
+					continue;
+				} //end if
+				if (tried[depth] > 0)
+					unassign(depth); //remove the value that was tried last
+				int options = groupCells[depth].length + 1; //possible numbers of mines in the group
+				boolean assigned = false; //flag used to check if a value could be assigned
+				while (tried[depth] < options && !assigned) {
+					int value = (first[depth] + tried[depth]) % options; //next value to try
+					tried[depth]++;
+					assigned = assign(depth, value); //try the value
+				} //end while
+				if (assigned) {
+					weights[depth + 1] = weights[depth] * BINOMIALS[options - 1][values[depth]];
+					depth++; //move on to the next group
+					if (depth < groupCells.length)
+						tried[depth] = 0; //no values were tried yet
+				} else
+					depth--; //no value fits, so go back to the previous group
+			} //end while
+			//undo every assignment that is still in place
+			for (int g = Math.min(depth, groupCells.length - 1); g >= 0; g--) {
+				if (tried[g] > 0)
+					unassign(g); //remove the value
+				tried[g] = 0;
+			} //end for
+			return firstOnly ? depth == groupCells.length : finished; //a sample only counts if it was found
+		} //close search(...)
+
+
+		/* Assign the given number of mines to the given group and return whether every constraint can still
+		 * be satisfied
+		 */
+		private boolean assign(int group, int value) {
+			int size = groupCells[group].length; //cells in the group
+			values[group] = value; //assign the value
+			mines += value;
+			boolean valid = true; //flag used to check if the constraints are still satisfiable
+			for (int constraint : groupConstraints[group]) {
+				unassigned[constraint] -= size; //the cells of the group are assigned
+				placed[constraint] += value;
+				if (placed[constraint] > needed[constraint] ||
+				 placed[constraint] + unassigned[constraint] < needed[constraint])
+					valid = false; //too many or too few mines
+			} //end for
+			if (!valid)
+				unassign(group); //remove the value again
+			return valid;
+		} //close assign(...)
+
+
+		//Remove the value of the given group
+		private void unassign(int group) {
+			int size = groupCells[group].length; //cells in the group
+			mines -= values[group]; //remove the mines
+			for (int constraint : groupConstraints[group]) {
+				unassigned[constraint] += size; //the cells of the group are unassigned again
+				placed[constraint] -= values[group];
+			} //end for
+			values[group] = 0;
+		} //close unassign(...)
+
+
+		//Count the current configuration (every group is assigned)
+		private void recordConfiguration() {
+			double weight = weights[groupCells.length]; //configurations represented by the assignment
+			counts[mines] += weight; //more configurations with this number of mines
+			for (int g = 0; g < groupCells.length; g++) {
+				if (values[g] > 0) //every cell of the group is a mine in values/size of the configurations
+					groupCounts[g][mines] += weight * values[g] / groupCells[g].length;
+			} //end for
+		} //close recordConfiguration()
+	} //close class Component
+
+
+	//Constructor method for the MineProbabilityCalculator (the common ForkJoinPool is used)
+	public MineProbabilityCalculator(MinesweeperBoard board, MinesweeperSolver solver) {
+		this(board, solver, ForkJoinPool.commonPool());
+	} //close MineProbabilityCalculator(...) constructor
+
+
+	//Constructor method for the MineProbabilityCalculator
+	public MineProbabilityCalculator(MinesweeperBoard board, MinesweeperSolver solver, ForkJoinPool pool) {
+		this.board = board; //assign the board
+		this.solver = solver; //assign the solver
+		this.pool = pool; //assign the pool
+		probabilities = new double[board.getCellCount()]; //nothing was calculated yet
+		cellComponent = new int[board.getCellCount()];
+		constraintComponent = new int[board.getCellCount()];
+		logFactorials = new double[board.getCellCount() + 1]; //log(0!) = 0
+		for (int n = 1; n < logFactorials.length; n++)
+			logFactorials[n] = logFactorials[n - 1] + Math.log(n);
+	} //close MineProbabilityCalculator(...) constructor
+
+
+	//Return the mine probability of the given cell (from the last calculation)
+	public double getMineProbability(int index) {
+		return probabilities[index];
+	} //close getMineProbability(...)
+
+
+	//Return whether any component of the last calculation had to be sampled
+	public boolean isApproximate() {
+		return approximate;
+	} //close isApproximate()
+
+
+	//Return the number of frontier components found by the last calculation
+	public int getComponentCount() {
+		return componentCount;
+	} //close getComponentCount()
+
+
+	//Return log(C(n, k))
+	private double logBinomial(int n, int k) {
+		return logFactorials[n] - logFactorials[k] - logFactorials[n - k];
+	} //close logBinomial(...)
+
+
+	/* Calculate the mine probability of every cell. Revealed cells and cells that are known to be safe
+	 * have a probability of 0, and cells that are known to be mines have a probability of 1. The solver
+	 * should be up to date with the board before this is called.
+	 */
+	public void calculate() {
+		Arrays.fill(probabilities, 0); //start over
+		Arrays.fill(cellComponent, -1);
+		Arrays.fill(constraintComponent, -1);
+		approximate = false;
+		int remainingMines = board.getTotalMines(); //mines that aren't known yet
+		int unknownCells = 0; //hidden cells that aren't known yet
+		for (int index = 0; index < probabilities.length; index++) {
+			if (!board.isHidden(index) && board.getCellVal(index) == MinesweeperBoard.MINE_VAL) {
+				probabilities[index] = 1; //revealed mine
+				remainingMines--;
+			} else if (board.isHidden(index) && solver.isKnownMine(index)) {
+				probabilities[index] = 1; //known mine
+				remainingMines--;
+			} else if (isUnknown(index))
+				unknownCells++; //the cell still needs a probability
+		} //end for
+		double density = (unknownCells == 0) ? 0 : (double) remainingMines / unknownCells; //average chance
+		List<Component> components = findComponents(density); //split the frontier
+		componentCount = components.size();
+		int frontierCells = 0; //number of cells in the components
+		for (Component component : components)
+			frontierCells += component.cells.length;
+		int interiorCells = unknownCells - frontierCells; //unknown cells away from the frontier
+
+		//count the configurations of every component in parallel
+		if (components.size() == 1)
+			components.get(0).invoke(); //nothing to run in parallel
+		else if (!components.isEmpty()) {
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				@Override
+				protected void compute() {
+					invokeAll(components); //enumerate the components at the same time
+				} //close compute()
+			}); //close invoke(...)
+		} //end else if
+		for (Component component : components) {
+			approximate |= component.sampled; //remember if any component was sampled
+			scaleCounts(component); //keep the counts in a reasonable range
+		} //end for
+		combineComponents(components, remainingMines, interiorCells, density);
+	} //close calculate()
+
+
+	//Return whether the given cell is hidden and wasn't deduced by the solver
+	private boolean isUnknown(int index) {
+		return board.isHidden(index) && !solver.isKnownMine(index) && !solver.isKnownSafe(index);
+	} //close isUnknown(...)
+
+
+	//Return whether the given cell is a constraint (a revealed cell that isn't a mine)
+	private boolean isConstraint(int index) {
+		return !board.isHidden(index) && board.getCellVal(index) != MinesweeperBoard.MINE_VAL;
+	} //close isConstraint(...)
+
+
+	/* Split the unknown cells that are next to a constraint into components. Starting from every frontier
+	 * cell that isn't part of a component yet, the constraints around it and the unknown cells around
+	 * those constraints are added until nothing else is connected. The cells are stored in the order that
+	 * they were found, so the cells of each constraint are assigned close together during the search.
+	 */
+	private List<Component> findComponents(double density) {
+		List<Component> components = new ArrayList<>(); //components that were found
+		int[] cellQueue = new int[probabilities.length]; //cells of the component being built
+		int[] constraintList = new int[probabilities.length]; //constraints of the component being built
+		for (int start = 0; start < probabilities.length; start++) {
+			if (!isUnknown(start) || cellComponent[start] >= 0 || !hasConstraintNeighbor(start))
+				continue; //not a new frontier cell
+			int id = components.size(); //id of the new component
+			int cellCount = 0, constraintCount = 0; //cells and constraints found so far
+			cellComponent[start] = id;
+			cellQueue[cellCount++] = start;
+			for (int next = 0; next < cellCount; next++) {
+				int cell = cellQueue[next]; //cell whose constraints are added
+				int row = board.getRow(cell), col = board.getCol(cell);
+				for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, board.getRows() - 1); r++) {
+					for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, board.getCols() - 1); c++) {
+						int constraint = board.getIndex(r, c); //neighboring cell
+						if (!isConstraint(constraint) || constraintComponent[constraint] >= 0)
+							continue; //not a new constraint
+						constraintComponent[constraint] = constraintCount; //local index of the constraint
+						constraintList[constraintCount++] = constraint;
+						//add the unknown cells around the constraint
+						for (int r2 = Math.max(r - 1, 0); r2 <= Math.min(r + 1, board.getRows() - 1); r2++) {
+							for (int c2 = Math.max(c - 1, 0); c2 <= Math.min(c + 1, board.getCols() - 1); c2++) {
+								int neighbor = board.getIndex(r2, c2); //cell around the constraint
+								if (isUnknown(neighbor) && cellComponent[neighbor] < 0) {
+									cellComponent[neighbor] = id; //the cell joins the component
+									cellQueue[cellCount++] = neighbor;
+								} //end if
+							} //end inner for
+						} //end outer for
+					} //end inner for
+				} //end outer for
+			} //end for
+			components.add(buildComponent(Arrays.copyOf(cellQueue, cellCount), constraintList, constraintCount,
+			 density));
+		} //end for
+		return components; //return every component
+	} //close findComponents(...)
+
+
+	//Return whether the given cell has a constraint around it
+	private boolean hasConstraintNeighbor(int index) {
+		int row = board.getRow(index), col = board.getCol(index);
+		for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, board.getRows() - 1); r++) {
+			for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, board.getCols() - 1); c++) {
+				if (isConstraint(board.getIndex(r, c)))
+					return true; //constraint found
+			} //end inner for
+		} //end outer for
+		return false; //no constraint around the cell
+	} //close hasConstraintNeighbor(...)
+
+
+	/* Create a component from its cells and constraints (constraintComponent holds the local indexes of
+	 * the constraints). Cells that touch the same constraints are put into the same group.
+	 */
+	private Component buildComponent(int[] cells, int[] constraintList, int constraintCount, double density) {
+		int[] needed = new int[constraintCount]; //unknown mines around every constraint
+		int[] unassigned = new int[constraintCount]; //unknown cells around every constraint
+		for (int i = 0; i < constraintCount; i++) {
+			int constraint = constraintList[i]; //board index of the constraint
+			needed[i] = board.getCellVal(constraint);
+			int row = board.getRow(constraint), col = board.getCol(constraint);
+			for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, board.getRows() - 1); r++) {
+				for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, board.getCols() - 1); c++) {
+					int neighbor = board.getIndex(r, c); //cell around the constraint
+					if (probabilities[neighbor] == 1)
+						needed[i]--; //the mine is already known
+					else if (isUnknown(neighbor))
+						unassigned[i]++; //the cell is part of the component
+				} //end inner for
+			} //end outer for
+		} //end for
+		//group the cells by the constraints around them (in the order that the cells were found)
+		Map<List<Integer>, List<Integer>> groups = new LinkedHashMap<>(); //cells of every set of constraints
+		for (int cell : cells) {
+			List<Integer> constraints = new ArrayList<>(); //constraints around the cell
+			int row = board.getRow(cell), col = board.getCol(cell);
+			for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, board.getRows() - 1); r++) {
+				for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, board.getCols() - 1); c++) {
+					int neighbor = board.getIndex(r, c); //cell around the cell
+					if (isConstraint(neighbor))
+						constraints.add(constraintComponent[neighbor]);
+				} //end inner for
+			} //end outer for
+			groups.computeIfAbsent(constraints, key -> new ArrayList<>()).add(cell); //add the cell to its group
+		} //end for
+		int[][] groupCells = new int[groups.size()][]; //cells of every group
+		int[][] groupConstraints = new int[groups.size()][]; //constraints of every group
+		int g = 0; //index of the group
+		for (Map.Entry<List<Integer>, List<Integer>> group : groups.entrySet()) {
+			groupCells[g] = group.getValue().stream().mapToInt(Integer::intValue).toArray();
+			groupConstraints[g++] = group.getKey().stream().mapToInt(Integer::intValue).toArray();
+		} //end for
+		for (int i = 0; i < constraintCount; i++)
+			constraintComponent[constraintList[i]] = Integer.MAX_VALUE; //the constraint was used
+		return new Component(cells, groupCells, groupConstraints, needed, unassigned, density);
+	} //close buildComponent(...)
+
+
+	//Divide the counts of a component by its largest count (only the ratios matter)
+	private static void scaleCounts(Component component) {
+		double max = 0; //largest count
+		for (double count : component.counts)
+			max = Math.max(max, count);
+		if (max == 0)
+			return; //the component has no configurations
+		for (int k = 0; k < component.counts.length; k++)
+			component.counts[k] /= max;
+		for (double[] groupCount : component.groupCounts) {
+			for (int k = 0; k < groupCount.length; k++)
+				groupCount[k] /= max;
+		} //end for
+	} //close scaleCounts(...)
+
+
+	//Return the convolution of the two distributions (the mines of two components added together)
+	private static double[] convolve(double[] a, double[] b) {
+		double[] result = new double[a.length + b.length - 1]; //every possible sum of mines
+		for (int i = 0; i < a.length; i++) {
+			if (a[i] == 0)
+				continue; //nothing to add
+			for (int j = 0; j < b.length; j++)
+				result[i + j] += a[i] * b[j];
+		} //end for
+		return result;
+	} //close convolve(...)
+
+
+	/* Combine the components with the interior cells. The weight of K mines on the frontier is the number
+	 * of frontier configurations with K mines times C(interior cells, remaining mines - K). For the cells
+	 * of one component, the other components are combined first (using prefix and suffix convolutions),
+	 * so every component only needs a single pass over its own counts.
+	 */
+	private void combineComponents(List<Component> components, int remainingMines, int interiorCells,
+	 double density) {
+		int count = components.size(); //number of components
+		double[][] prefix = new double[count + 1][]; //combined distributions of the first i components
+		double[][] suffix = new double[count + 1][]; //combined distributions of the last i components
+		prefix[0] = new double[] {1};
+		suffix[count] = new double[] {1};
+		for (int i = 0; i < count; i++)
+			prefix[i + 1] = convolve(prefix[i], components.get(i).counts);
+		for (int i = count - 1; i >= 0; i--)
+			suffix[i] = convolve(components.get(i).counts, suffix[i + 1]);
+		double[] all = prefix[count]; //distribution of the mines on the whole frontier
+		//weight of every number of frontier mines (relative to the largest weight)
+		double[] weights = new double[all.length];
+		double maxLog = Double.NEGATIVE_INFINITY; //largest log weight
+		for (int k = 0; k < all.length; k++) {
+			int interiorMines = remainingMines - k; //mines left for the interior cells
+			if (interiorMines >= 0 && interiorMines <= interiorCells)
+				maxLog = Math.max(maxLog, logBinomial(interiorCells, interiorMines));
+		} //end for
+		double total = 0, interiorTotal = 0; //total weight and weighted interior mines
+		for (int k = 0; k < all.length; k++) {
+			int interiorMines = remainingMines - k; //mines left for the interior cells
+			if (interiorMines >= 0 && interiorMines <= interiorCells) {
+				weights[k] = Math.exp(logBinomial(interiorCells, interiorMines) - maxLog);
+				total += all[k] * weights[k];
+				interiorTotal += all[k] * weights[k] * interiorMines;
+			} //end if
+		} //end for
+		if (total == 0 || Double.isNaN(total)) {
+			//the board is inconsistent (should never happen), so fall back to the average density
+			for (int index = 0; index < probabilities.length; index++) {
+				if (isUnknown(index))
+					probabilities[index] = density;
+			} //end for
+			return;
+		} //end if
+		//every interior cell is equally likely to hold any of the interior mines
+		double interiorProbability = (interiorCells == 0) ? 0 : interiorTotal / total / interiorCells;
+		for (int index = 0; index < probabilities.length; index++) {
+			if (isUnknown(index) && cellComponent[index] < 0)
+				probabilities[index] = interiorProbability;
+		} //end for
+		for (int i = 0; i < count; i++) {
+			Component component = components.get(i);
+			double[] others = convolve(prefix[i], suffix[i + 1]); //every other component combined
+			//weight of each number of mines in this component, given all of the other components
+			double[] given = new double[component.counts.length];
+			for (int k = 0; k < given.length; k++) {
+				for (int other = 0; other < others.length && k + other < weights.length; other++)
+					given[k] += others[other] * weights[k + other];
+			} //end for
+			for (int g = 0; g < component.groupCells.length; g++) {
+				double weight = 0; //weight of the configurations where a cell of the group is a mine
+				for (int k = 0; k < given.length; k++)
+					weight += component.groupCounts[g][k] * given[k];
+				for (int cell : component.groupCells[g])
+					probabilities[cell] = weight / total; //every cell of the group is equally likely
+			} //end for
+		} //end for
+	} //close combineComponents(...)
+
+} //close class MineProbabilityCalculator
@@ -0,0 +1,594 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: MinesweeperBitboard.java
+ *
+ * Description: This class holds the same game rules as the MinesweeperBoard, but the board is stored as
+ * bitboards: every cell is one bit (index = row * cols + col) in a plane of longs, with separate planes for
+ * the mines, the hidden cells, the flag comments and the question mark comments. A standard Easy, Medium,
+ * or Hard board fits in 2, 4, or 8 longs. The number of surrounding mines is counted for every cell at once
+ * by shifting the mine plane towards each of the 8 neighbors and adding the shifted planes with bit-parallel
+ * adders into 4 count planes. The hidden safe cells are kept up to date with popcounts of the revealed masks
+ * (so a win check is a single comparison), and a reveal floods the empty area one ring of cells at a time
+ * using masks, instead of one cell at a time. The methods use the same names and results as the
+ * MinesweeperBoard, so simulations that play millions of games can switch to this class without changing
+ * their logic. Nothing is recorded for drawing (there is no BoardChangeSet).
+ *
+ */
+
+package application;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+public class MinesweeperBitboard {
+	private static final int COUNT_PLANES = 4; //bit planes that hold the number of surrounding mines (0-8)
+
+	private final int gameRows; //number of rows on the board
+	private final int gameCols; //number of columns on the board
+	private final int totalMines; //number of mines placed on the board
+	private final int cellCount; //number of cells on the board
+	private final int words; //number of longs in every plane
+	private final long[] valid; //every cell of the board (the unused bits of the last long are cleared)
+	private final long[] notFirstCol; //every cell that isn't in the first column
+	private final long[] notLastCol; //every cell that isn't in the last column
+	private final long[] mines; //cells that contain a mine
+	private final long[] hidden; //cells that are hidden
+	private final long[] flags; //hidden cells with a flag comment
+	private final long[] questions; //hidden cells with a question mark comment
+	private final long[][] counts; //bit planes of the number of surrounding mines (mine cells are 0)
+	private final long[] empty; //cells without a mine and without surrounding mines
+	private final long[] revealed; //cells revealed by the last reveal or chord action
+	private final long[] frontier; //empty cells that were revealed by the last ring of the flood fill
+	private final long[] shifted; //work plane that holds a shifted plane
+	private final long[] spread; //work plane that holds the frontier spread across it's rows
+	private final long[] neighbors; //work plane that holds the neighbors of the frontier
+	private final int[] candidateCells; //cells that are allowed to receive a mine (reused between games)
+	private int[] revealedCells = new int[0]; //the revealed plane as a list of indexes (built on demand)
+	private int revealedCount = -1; //number of cells in revealedCells (-1 = not built yet)
+	private int explodedMine = -1; //index of the mine that was revealed by the user (-1 = none)
+	private int hiddenSafeCells; //number of hidden cells that don't contain a mine (kept by popcounts)
+
+
+	//Constructor method for the MinesweeperBitboard (every cell starts out empty and hidden)
+	public MinesweeperBitboard(int rows, int cols, int mines) {
+		gameRows = rows; //assign the number of rows
+		gameCols = cols; //assign the number of columns
+		totalMines = mines; //assign the number of mines
+		cellCount = rows * cols; //number of cells
+		words = (cellCount + Long.SIZE - 1) / Long.SIZE; //longs needed for one bit per cell
+		valid = new long[words];
+		notFirstCol = new long[words];
+		notLastCol = new long[words];
+		for (int index = 0; index < cellCount; index++) {
+			setBit(valid, index); //the cell is on the board
+			if (index % cols != 0)
+				setBit(notFirstCol, index);
+			if (index % cols != cols - 1)
+				setBit(notLastCol, index);
+		} //end for
+		this.mines = new long[words];
+		hidden = new long[words];
+		flags = new long[words];
+		questions = new long[words];
+		counts = new long[COUNT_PLANES][words];
+		empty = new long[words];
+		revealed = new long[words];
+		frontier = new long[words];
+		shifted = new long[words];
+		spread = new long[words];
+		neighbors = new long[words];
+		candidateCells = new int[cellCount];
+		zeroOutBoard(); //every cell is hidden by default
+	} //close MinesweeperBitboard(...) constructor
+
+
+	//Return the number of rows on the board
+	public int getRows() {
+		return gameRows;
+	} //close getRows()
+
+
+	//Return the number of columns on the board
+	public int getCols() {
+		return gameCols;
+	} //close getCols()
+
+
+	//Return the number of mines on the board
+	public int getTotalMines() {
+		return totalMines;
+	} //close getTotalMines()
+
+
+	//Return the number of cells on the board
+	public int getCellCount() {
+		return cellCount;
+	} //close getCellCount()
+
+
+	//Return the index of the cell at the given row and column
+	public int getIndex(int row, int col) {
+		return row * gameCols + col;
+	} //close getIndex(...)
+
+
+	//Return the row of the cell at the given index
+	public int getRow(int index) {
+		return index / gameCols;
+	} //close getRow(...)
+
+
+	//Return the column of the cell at the given index
+	public int getCol(int index) {
+		return index % gameCols;
+	} //close getCol(...)
+
+
+	//Return whether the bit of the given cell is set in the given plane
+	private static boolean getBit(long[] plane, int index) {
+		return (plane[index >>> 6] & (1L << index)) != 0;
+	} //close getBit(...)
+
+
+	//Set the bit of the given cell in the given plane
+	private static void setBit(long[] plane, int index) {
+		plane[index >>> 6] |= 1L << index;
+	} //close setBit(...)
+
+
+	//Clear the bit of the given cell in the given plane
+	private static void clearBit(long[] plane, int index) {
+		plane[index >>> 6] &= ~(1L << index);
+	} //close clearBit(...)
+
+
+	//Return the number of cells in the given plane
+	private int countBits(long[] plane) {
+		int bits = 0; //cells found so far
+		for (int word = 0; word < words; word++)
+			bits += Long.bitCount(plane[word]);
+		return bits;
+	} //close countBits(...)
+
+
+	//Return whether the cell at the given index contains a mine
+	public boolean hasMine(int index) {
+		return getBit(mines, index);
+	} //close hasMine(...)
+
+
+	//Return whether the cell at the given index is hidden
+	public boolean isHidden(int index) {
+		return getBit(hidden, index);
+	} //close isHidden(...)
+
+
+	//Return the comment of the cell at the given index
+	public int getCellComment(int index) {
+		if (getBit(flags, index))
+			return MinesweeperBoard.FLAG_COMMENT;
+		return getBit(questions, index) ? MinesweeperBoard.QUESTION_COMMENT : MinesweeperBoard.NO_COMMENT;
+	} //close getCellComment(...)
+
+
+	//Return whether the cell at the given index has a flag comment
+	public boolean hasFlagComment(int index) {
+		return getBit(flags, index);
+	} //close hasFlagComment(...)
+
+
+	//Return the value of the cell at the given index (MINE_VAL or the number of surrounding mines)
+	public int getCellVal(int index) {
+		if (getBit(mines, index))
+			return MinesweeperBoard.MINE_VAL;
+		int word = index >>> 6; //long that holds the cell
+		//gather the bit of the cell from each of the count planes
+		return (int) ((counts[0][word] >>> index) & 1) | (int) ((counts[1][word] >>> index) & 1) << 1 |
+		 (int) ((counts[2][word] >>> index) & 1) << 2 | (int) ((counts[3][word] >>> index) & 1) << 3;
+	} //close getCellVal(...)
+
+
+	//Return the index of the mine that was revealed by the user (-1 if no mine was revealed)
+	public int getExplodedMine() {
+		return explodedMine;
+	} //close getExplodedMine()
+
+
+	//Return the number of hidden cells that don't contain a mine
+	public int getHiddenSafeCells() {
+		return hiddenSafeCells;
+	} //close getHiddenSafeCells()
+
+
+	//Count the hidden cells that don't contain a mine (used whenever the mines or the hidden cells are replaced)
+	private void countHiddenSafeCells() {
+		hiddenSafeCells = 0; //hidden safe cells found so far
+		for (int word = 0; word < words; word++)
+			hiddenSafeCells += Long.bitCount(hidden[word] & ~mines[word]);
+	} //close countHiddenSafeCells()
+
+
+	//Return the number of flag comments placed on hidden cells (exposed mines keep their comments)
+	public int getFlagCount() {
+		int bits = 0; //hidden flag comments found so far
+		for (int word = 0; word < words; word++)
+			bits += Long.bitCount(flags[word] & hidden[word]);
+		return bits;
+	} //close getFlagCount()
+
+
+	//Return the number of remaining mines (totalMines - flag comments)
+	public int getRemainingMines() {
+		return totalMines - getFlagCount();
+	} //close getRemainingMines()
+
+
+	/* Populate the board once the user clicks on a cell. The clicked cell and all of it's immediate
+	 * neighbors are exempt from having mines placed in their respective locations. The mines are chosen
+	 * exactly like MinesweeperBoard.populateBoard(...) does, so the same random numbers give the same
+	 * board with either class. The number of surrounding mines is then counted for every cell at once.
+	 * Any comments that were placed before the board was populated are left untouched.
+	 */
+	public void populateBoard(int clickedIndex, RandomGenerator ran) {
+		int clickedRow = getRow(clickedIndex); //row of the clicked cell
+		int clickedCol = getCol(clickedIndex); //column of the clicked cell
+		int candidates = 0; //number of cells that are allowed to receive a mine
+		//collect every cell that doesn't lie next to the clicked cell
+		for (int row = 0; row < gameRows; row++) {
+			boolean rowExcluded = Math.abs(row - clickedRow) <= 1; //row touches the clicked cell
+			for (int col = 0; col < gameCols; col++) {
+				if (!rowExcluded || Math.abs(col - clickedCol) > 1)
+					candidateCells[candidates++] = getIndex(row, col); //add cell to the candidates
+			} //end inner for
+		} //end outer for
+		if (totalMines > candidates)
+			throw new IllegalArgumentException("Cannot place " + totalMines + " mines in " + candidates +
+			 " available cells");
+
+		//move a random remaining candidate into each of the first totalMines slots and place a mine there
+		Arrays.fill(mines, 0); //start without any mines
+		for (int mineCount = 0; mineCount < totalMines; mineCount++) {
+			int swapIndex = mineCount + ran.nextInt(candidates - mineCount); //random remaining candidate
+			int index = candidateCells[swapIndex]; //cell that receives the mine
+			candidateCells[swapIndex] = candidateCells[mineCount]; //swap the candidates
+			candidateCells[mineCount] = index;
+			setBit(mines, index); //place the mine
+		} //end for
+		assignCellValues(); //count the surrounding mines of every cell
+	} //close populateBoard(...)
+
+
+	/* Place a mine on every cell whose bit is set (in place of populateBoard(...)) and count the surrounding
+	 * mines. The hidden status and the comments of the cells are left untouched.
+	 */
+	public void placeMines(BitSet mineCells) {
+		long[] layout = mineCells.toLongArray(); //a BitSet is already a plane of longs
+		for (int word = 0; word < words; word++)
+			mines[word] = (word < layout.length ? layout[word] : 0) & valid[word];
+		assignCellValues(); //count the surrounding mines of every cell
+	} //close placeMines(...)
+
+
+	//Place the same mines as the given MinesweeperBoard (which must have the same dimensions)
+	public void copyMines(MinesweeperBoard source) {
+		Arrays.fill(mines, 0); //start without any mines
+		for (int index = 0; index < cellCount; index++) {
+			if (source.hasMine(index))
+				setBit(mines, index); //place the mine
+		} //end for
+		assignCellValues(); //count the surrounding mines of every cell
+	} //close copyMines(...)
+
+
+	/* Count the surrounding mines of every cell at once. For each of the 8 neighbor directions, the mine
+	 * plane is shifted so that every cell lines up with the mine bit of that neighbor (the column masks stop
+	 * the mines from wrapping around the edges of the rows), and the shifted plane is added to the 4 count
+	 * planes with a ripple of bit-parallel half adders. The empty plane (safe cells without any surrounding
+	 * mines) is kept for the flood fill.
+	 */
+	private void assignCellValues() {
+		for (long[] plane : counts)
+			Arrays.fill(plane, 0); //every count starts at 0
+		for (int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+			for (int colOffset = -1; colOffset <= 1; colOffset++) {
+				if (rowOffset == 0 && colOffset == 0)
+					continue; //a cell isn't it's own neighbor
+				shift(mines, -(rowOffset * gameCols + colOffset), shifted); //mine of the neighbor on every cell
+				//cells on the edge don't have a neighbor on that side
+				addPlane(shifted, colOffset < 0 ? notFirstCol : (colOffset > 0 ? notLastCol : valid));
+			} //end inner for
+		} //end outer for
+		for (int word = 0; word < words; word++) {
+			long safe = ~mines[word] & valid[word]; //cells without a mine
+			for (long[] plane : counts)
+				plane[word] &= safe; //mine cells keep a count of 0 (their value is always MINE_VAL)
+			empty[word] = safe & ~(counts[0][word] | counts[1][word] | counts[2][word] | counts[3][word]);
+		} //end for
+		countHiddenSafeCells(); //the mines were replaced
+	} //close assignCellValues()
+
+
+	//Add 1 to the count of every cell that is set in both the given plane and the mask
+	private void addPlane(long[] plane, long[] mask) {
+		for (int word = 0; word < words; word++) {
+			long carry = plane[word] & mask[word]; //bits being added to the counts
+			for (int bit = 0; bit < COUNT_PLANES && carry != 0; bit++) { //ripple the carry through the planes
+				long sum = counts[bit][word] ^ carry;
+				carry &= counts[bit][word];
+				counts[bit][word] = sum;
+			} //end for
+		} //end for
+	} //close addPlane(...)
+
+
+	/* Shift a plane so that the bit of cell i ends up on cell i + distance (a negative distance moves the
+	 * bits towards lower indexes). Bits that are shifted past either end of the board are dropped.
+	 */
+	private void shift(long[] source, int distance, long[] target) {
+		int wordShift = Math.abs(distance) >>> 6; //whole longs that are skipped
+		int bitShift = Math.abs(distance) & 63; //bits shifted within a long
+		for (int word = 0; word < words; word++) {
+			long value; //new value of the long
+			if (distance >= 0) {
+				int from = word - wordShift; //long that the bits come from
+				value = (from >= 0) ? source[from] << bitShift : 0;
+				if (bitShift != 0 && from - 1 >= 0)
+					value |= source[from - 1] >>> (Long.SIZE - bitShift); //bits from the long below
+			} else {
+				int from = word + wordShift; //long that the bits come from
+				value = (from < words) ? source[from] >>> bitShift : 0;
+				if (bitShift != 0 && from + 1 < words)
+					value |= source[from + 1] << (Long.SIZE - bitShift); //bits from the long above
+			} //end else
+			target[word] = value & valid[word]; //drop the bits that left the board
+		} //end for
+	} //close shift(...)
+
+
+	/* Store every neighbor of the cells in the given plane (including the cells themselves) in the neighbors
+	 * plane. The row is spread sideways first (stopping at the edges), then the result is spread up and down.
+	 * When a row is shorter than a long (every standard difficulty), both steps are done in a single pass
+	 * over the plane each, carrying the bits that cross into the next or previous long by hand.
+	 */
+	private void dilate(long[] plane) {
+		if (gameCols >= Long.SIZE) { //rows can span several longs, so use the general shifts
+			shift(plane, 1, shifted); //cells to the right of the plane
+			for (int word = 0; word < words; word++)
+				spread[word] = plane[word] | (shifted[word] & notFirstCol[word]);
+			shift(plane, -1, shifted); //cells to the left of the plane
+			for (int word = 0; word < words; word++)
+				spread[word] |= shifted[word] & notLastCol[word];
+			shift(spread, gameCols, neighbors); //the row below
+			shift(spread, -gameCols, shifted); //the row above
+			for (int word = 0; word < words; word++)
+				neighbors[word] |= spread[word] | shifted[word];
+			return;
+		} //end if
+		int last = words - 1; //index of the last long
+		for (int word = 0; word <= last; word++) {
+			long value = plane[word]; //cells of this long
+			long right = (value << 1) | (word > 0 ? plane[word - 1] >>> 63 : 0); //cells to the right
+			long left = (value >>> 1) | (word < last ? plane[word + 1] << 63 : 0); //cells to the left
+			spread[word] = value | (right & notFirstCol[word]) | (left & notLastCol[word]);
+		} //end for
+		int rowShift = gameCols; //bits between a cell and the cell below it
+		for (int word = 0; word <= last; word++) {
+			long value = spread[word]; //cells of this long
+			long below = (value << rowShift) | (word > 0 ? spread[word - 1] >>> (Long.SIZE - rowShift) : 0);
+			long above = (value >>> rowShift) | (word < last ? spread[word + 1] << (Long.SIZE - rowShift) : 0);
+			neighbors[word] = (value | below | above) & valid[word];
+		} //end for
+	} //close dilate(...)
+
+
+	//Return the number of cells that were revealed by the last reveal or chord action
+	public int getRevealedCount() {
+		return countBits(revealed);
+	} //close getRevealedCount()
+
+
+	//Return the index of a cell that was revealed by the last reveal or chord action (in index order)
+	public int getRevealedCell(int i) {
+		if (revealedCount < 0) { //turn the revealed plane into a list the first time that it's needed
+			revealedCount = 0;
+			if (revealedCells.length < getRevealedCount())
+				revealedCells = new int[cellCount];
+			for (int word = 0; word < words; word++) {
+				for (long bits = revealed[word]; bits != 0; bits &= bits - 1)
+					revealedCells[revealedCount++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+			} //end for
+		} //end if
+		return revealedCells[i];
+	} //close getRevealedCell(...)
+
+
+	/* Reveal the cell at the given index. If the cell is empty, then also reveal any surrounding
+	 * neighbors that are hidden and do not have a flag comment, until all of the applicable cells
+	 * are revealed. The revealed cells are available through getRevealedCell(...) and the value of
+	 * the given cell is returned.
+	 */
+	public int revealCells(int index) {
+		Arrays.fill(revealed, 0); //start a new batch of revealed cells
+		revealedCount = -1;
+		floodReveal(index); //reveal the cell (and it's neighbors if applicable)
+		return getCellVal(index); //return the cell's value
+	} //close revealCells(...)
+
+
+	/* Reveal the cell at the given index and flood outwards from every empty cell that is found. Each ring
+	 * of the flood reveals every hidden cell (without a flag comment) next to the empty cells that the last
+	 * ring revealed, so the work depends on the width of the opening rather than on the number of cells.
+	 */
+	private void floodReveal(int start) {
+		if (!getBit(hidden, start))
+			return; //the cell was already revealed
+		revealBit(start); //reveal the desired cell
+		if (!getBit(empty, start))
+			return; //only empty cells reveal their neighbors
+		Arrays.fill(frontier, 0);
+		setBit(frontier, start); //expand the starting cell first
+		boolean expanding = true; //flag used to check if the last ring revealed any empty cells
+		while (expanding) {
+			dilate(frontier); //every neighbor of the empty cells
+			expanding = false;
+			for (int word = 0; word < words; word++) {
+				long newCells = neighbors[word] & hidden[word] & ~flags[word]; //hidden unflagged neighbors
+				hidden[word] &= ~newCells; //reveal them and erase their comments
+				questions[word] &= ~newCells;
+				revealed[word] |= newCells;
+				hiddenSafeCells -= Long.bitCount(newCells); //neighbors of empty cells are never mines
+				frontier[word] = newCells & empty[word]; //only empty neighbors keep expanding
+				expanding |= frontier[word] != 0;
+			} //end for
+		} //end while
+	} //close floodReveal(...)
+
+
+	//Reveal a single hidden cell, erase its comment, and add it to the batch of revealed cells
+	private void revealBit(int index) {
+		clearBit(hidden, index); //reveal the cell
+		clearBit(flags, index); //erase the comment
+		clearBit(questions, index);
+		setBit(revealed, index); //add the cell to the batch
+		if (getBit(mines, index))
+			explodedMine = index; //the user revealed a mine
+		else
+			hiddenSafeCells--; //one less safe cell to reveal
+	} //close revealBit(...)
+
+
+	/* Return whether the cell at the given index can be chorded. The cell must be revealed, it must not
+	 * be empty, and the number of flag comments in its neighbors must equal the cell's value.
+	 */
+	public boolean canChordCell(int index) {
+		int cellVal = getCellVal(index); //value of the cell
+		if (cellVal <= 0 || isHidden(index))
+			return false; //only revealed numbered cells can be chorded
+		int flagsPresent = 0; //number of neighboring flag comments
+		int row = getRow(index); //row of the cell
+		int col = getCol(index); //column of the cell
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				if (getBit(flags, getIndex(newRow, newCol)))
+					flagsPresent++; //flag comment found
+			} //end inner for
+		} //end outer for
+		return flagsPresent == cellVal; //return result
+	} //close canChordCell(...)
+
+
+	/* Reveal all of the neighbors of the given cell that don't have flag comments (this assumes that
+	 * canChordCell(...) was already checked). If one of those neighbors contains a mine (due to an
+	 * incorrect flag comment), then only that mine is revealed and its index is returned. Otherwise
+	 * every neighbor (and any of their adjacent non-mine cells) is revealed and -1 is returned.
+	 */
+	public int chordCell(int index) {
+		Arrays.fill(revealed, 0); //start a new batch of revealed cells
+		revealedCount = -1;
+		int row = getRow(index); //row of the cell
+		int col = getCol(index); //column of the cell
+		//look for a neighboring mine that doesn't have a flag comment first
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+				if (neighbor != index && getBit(mines, neighbor) && !getBit(flags, neighbor)) {
+					revealBit(neighbor); //reveal the game-losing mine
+					return neighbor; //return the index of the game-losing mine
+				} //end if
+			} //end inner for
+		} //end outer for
+		//there are no neighboring mines, so reveal all of the unflagged neighbors
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+				if (!getBit(flags, neighbor))
+					floodReveal(neighbor); //reveal the neighbor (and it's neighbors if applicable)
+			} //end inner for
+		} //end outer for
+		return -1; //no mine was revealed
+	} //close chordCell(...)
+
+
+	/* Cycle the comment of a hidden cell. The pattern goes from a flag comment to a question mark
+	 * comment to no comment at all. The new comment is returned (revealed cells keep NO_COMMENT).
+	 */
+	public int cycleCellComment(int index) {
+		if (!isHidden(index))
+			return MinesweeperBoard.NO_COMMENT; //only hidden cells can have comments
+		if (getBit(flags, index)) { //flag -> question
+			clearBit(flags, index);
+			setBit(questions, index);
+			return MinesweeperBoard.QUESTION_COMMENT;
+		} else if (getBit(questions, index)) { //question -> none
+			clearBit(questions, index);
+			return MinesweeperBoard.NO_COMMENT;
+		} //end if
+		setBit(flags, index); //none -> flag
+		return MinesweeperBoard.FLAG_COMMENT;
+	} //close cycleCellComment(...)
+
+
+	//Mark a mine as no longer hidden once the game is finished (its comment is left untouched)
+	public void exposeMine(int index) {
+		if (hasMine(index))
+			clearBit(hidden, index); //the mine is no longer hidden
+	} //close exposeMine(...)
+
+
+	//Determine whether the game is won (every non-mine cell was revealed) and return the result
+	public boolean gameWon() {
+		return hiddenSafeCells == 0; //return result
+	} //close gameWon()
+
+
+	//Return a list of the indexes of all of the cells containing mines
+	public List<Integer> getMineCells() {
+		return getCells(mines);
+	} //close getMineCells()
+
+
+	//Return a list of the indexes of all of the cells containing a flag comment
+	public List<Integer> getFlagCommentCells() {
+		return getCells(flags);
+	} //close getFlagCommentCells()
+
+
+	//Return a list of the indexes of every cell in the given plane
+	private List<Integer> getCells(long[] plane) {
+		List<Integer> cells = new ArrayList<>(countBits(plane)); //create a new ArrayList to store the values
+		for (int word = 0; word < words; word++) {
+			for (long bits = plane[word]; bits != 0; bits &= bits - 1)
+				cells.add((word << 6) + Long.numberOfTrailingZeros(bits)); //add the lowest cell of the long
+		} //end for
+		return cells;
+	} //close getCells(...)
+
+
+	//Reset every cell on the board back to it's original state (used to restart the current game)
+	public void resetBoard() {
+		explodedMine = -1; //no mine has been revealed yet
+		System.arraycopy(valid, 0, hidden, 0, words); //every cell is hidden
+		Arrays.fill(flags, 0); //no comments
+		Arrays.fill(questions, 0);
+		Arrays.fill(revealed, 0); //nothing was revealed
+		revealedCount = -1;
+		countHiddenSafeCells(); //every safe cell is hidden again
+	} //close resetBoard()
+
+
+	//Zero out every cell on the board (used before a new game is populated)
+	public void zeroOutBoard() {
+		resetBoard(); //every cell is hidden without a comment
+		Arrays.fill(mines, 0); //no mines or values
+		for (long[] plane : counts)
+			Arrays.fill(plane, 0);
+		System.arraycopy(valid, 0, empty, 0, words); //every cell is empty
+		hiddenSafeCells = cellCount; //every cell is hidden and safe
+	} //close zeroOutBoard()
+
+} //close class MinesweeperBitboard
@@ -0,0 +1,821 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: MinesweeperBoard.java
+ *
+ * Description: This class holds all of the game rules and the state of every cell on the Minesweeper
+ * board without relying on any JavaFX nodes. Each cell is packed into a single byte (the number of
+ * surrounding mines, a mine bit, a hidden bit, and a 2-bit comment), which means that an entire board
+ * can be generated, revealed, and played without a display. Every cell that changes is recorded in a
+ * BoardChangeSet, so the Main class only has to redraw those cells, while batch jobs are able to play 
+ * games using this class directly. Every opening (a connected area of empty cells and the numbered cells
+ * around it) is labeled once per board, the first time an empty cell is clicked, so every reveal of an
+ * empty cell uses the opening's list of cells directly instead of searching the neighbors of every cell
+ * again (boards that are only generated, like rejected no-guess candidates, are never labeled). Every cell also keeps
+ * the number of it's neighbors that have a flag comment, so a chord is checked with one comparison.
+ *
+ */
+
+package application;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+public class MinesweeperBoard {
+	public static final int MINE_VAL = -1; //value used to represent a mine
+	public static final int NO_COMMENT = 0; //value used when a cell doesn't have a comment
+	public static final int FLAG_COMMENT = 1; //value used to represent a flag comment
+	public static final int QUESTION_COMMENT = 2; //value used to represent a question mark comment
+	static final int COUNT_MASK = 0x0F; //bits 0-3 hold the number of surrounding mines (0-8)
+	static final int MINE_BIT = 0x10; //bit 4 is set when the cell contains a mine
+	static final int MINE_SHIFT = 4; //shift that turns the mine bit into a 0 or a 1
+	static final int HIDDEN_BIT = 0x20; //bit 5 is set when the cell is hidden
+	static final int COMMENT_SHIFT = 6; //bits 6-7 hold the cell's comment
+	static final int COMMENT_MASK = 0xC0; //mask used to extract the cell's comment
+	private static final int INITIAL_BUFFER_SIZE = 64; //starting size of the reusable reveal buffers
+	private static final int OPENING_LABEL_LIMIT = 1 << 20; //largest board whose openings are labeled
+	//the cell encoding above is shared with the EndlessBoard (package-private)
+	static final int FLAG_STATE = FLAG_COMMENT << COMMENT_SHIFT; //comment bits of a flag comment
+	//when enabled (-Dminesweeper.verifyCounters=true), the counters are cross-checked with a full scan
+	private static final boolean VERIFY_COUNTERS = Boolean.getBoolean("minesweeper.verifyCounters");
+
+	private final int gameRows; //number of rows on the board
+	private final int gameCols; //number of columns on the board
+	private final int totalMines; //number of mines placed on the board
+	private final byte[] cellStates; //packed state of every cell (index = row * gameCols + col)
+	private int[] revealedCells = new int[INITIAL_BUFFER_SIZE]; //cells revealed by the last action
+	private int revealedCount; //number of cells revealed by the last action
+	private int[] revealStack = new int[INITIAL_BUFFER_SIZE]; //work buffer used by the flood fill
+	//opening of every empty cell (1 = first opening), numbered cells hold the last opening that listed them
+	private int[] openingLabels;
+	private int[] openingStarts = new int[INITIAL_BUFFER_SIZE]; //first member of every opening (and the end)
+	private int[] openingMembers = new int[INITIAL_BUFFER_SIZE]; //cells of every opening, grouped by opening
+	private int openingCount = -1; //number of labeled openings (-1 = the openings must be labeled again)
+	private int[] candidateCells; //cells that are allowed to receive a mine (reused between games)
+	private int[] columnSums; //mines in the 3 rows around the current row (one entry per column)
+	private final BoardChangeSet pendingChanges; //cells that changed since the board was last drawn
+	private boolean trackChanges = true; //flag used to check if changed cells should be recorded
+	private int explodedMine = -1; //index of the mine that was revealed by the user (-1 = none)
+	private int hiddenSafeCells; //number of hidden cells that don't contain a mine
+	private int flagCount; //number of hidden cells that have a flag comment
+	private final byte[] adjacentFlags; //number of flagged neighbors of every cell (0-8)
+	private int[] mineCells = new int[INITIAL_BUFFER_SIZE]; //indexes of the cells with a mine
+	private int mineCellCount; //number of cells in mineCells
+	private boolean mineCellsValid = true; //flag used to check if mineCells matches the board
+	private int[] flagCells = new int[INITIAL_BUFFER_SIZE]; //indexes of the hidden cells with a flag comment
+
+
+	//Constructor method for the MinesweeperBoard (every cell starts out empty and hidden)
+	public MinesweeperBoard(int rows, int cols, int mines) {
+		gameRows = rows; //assign the number of rows
+		gameCols = cols; //assign the number of columns
+		totalMines = mines; //assign the number of mines
+		cellStates = new byte[rows * cols]; //create the packed cell states
+		adjacentFlags = new byte[rows * cols]; //no cell has a flagged neighbor yet
+		pendingChanges = new BoardChangeSet(rows * cols); //no cells have changed yet
+		zeroOutBoard(); //every cell is hidden by default
+	} //close MinesweeperBoard(...) constructor
+
+
+	//Return the number of rows on the board
+	public int getRows() {
+		return gameRows;
+	} //close getRows()
+
+
+	//Return the number of columns on the board
+	public int getCols() {
+		return gameCols;
+	} //close getCols()
+
+
+	//Return the total number of mines on the board
+	public int getTotalMines() {
+		return totalMines;
+	} //close getTotalMines()
+
+
+	//Return the total number of cells on the board
+	public int getCellCount() {
+		return cellStates.length;
+	} //close getCellCount()
+
+
+	//Return the index of the cell located at the given row and column
+	public int getIndex(int row, int col) {
+		return row * gameCols + col;
+	} //close getIndex(...)
+
+
+	//Return the row of the cell located at the given index
+	public int getRow(int index) {
+		return index / gameCols;
+	} //close getRow(...)
+
+
+	//Return the column of the cell located at the given index
+	public int getCol(int index) {
+		return index % gameCols;
+	} //close getCol(...)
+
+
+	//Return the packed state of the cell located at the given index
+	public byte getCellState(int index) {
+		return cellStates[index];
+	} //close getCellState(...)
+
+
+	/* Copy the packed state of every cell into the given array (which must hold at least getCellCount()
+	 * bytes). The bytes use the layout of MinesweeperCellData.packCell(...), so they can be saved as-is (an
+	 * exposed mine keeps it's comment bits, which setCellData(...) ignores when the cell is restored).
+	 */
+	public void copyCellStates(byte[] states) {
+		System.arraycopy(cellStates, 0, states, 0, cellStates.length);
+	} //close copyCellStates(...)
+
+
+	//Add the packed state of every cell to the given buffer (the same bytes as copyCellStates(...))
+	public void copyCellStates(ByteBuffer buffer) {
+		buffer.put(cellStates);
+	} //close copyCellStates(...)
+
+
+	//Return whether the cell at the given index contains a mine
+	public boolean hasMine(int index) {
+		return (cellStates[index] & MINE_BIT) != 0;
+	} //close hasMine(...)
+
+
+	//Return whether the cell at the given index is hidden
+	public boolean isHidden(int index) {
+		return (cellStates[index] & HIDDEN_BIT) != 0;
+	} //close isHidden(...)
+
+
+	//Return the comment of the cell at the given index (NO_COMMENT, FLAG_COMMENT, or QUESTION_COMMENT)
+	public int getCellComment(int index) {
+		return (cellStates[index] & COMMENT_MASK) >>> COMMENT_SHIFT;
+	} //close getCellComment(...)
+
+
+	//Return whether the cell at the given index has a flag comment
+	public boolean hasFlagComment(int index) {
+		return getCellComment(index) == FLAG_COMMENT;
+	} //close hasFlagComment(...)
+
+
+	//Return the cell's value (-1 = mine; 0 = empty; >0 = number of surrounding mines)
+	public int getCellVal(int index) {
+		return hasMine(index) ? MINE_VAL : cellStates[index] & COUNT_MASK;
+	} //close getCellVal(...)
+
+
+	//Return the cells that changed since the board was last drawn (the caller clears them once drawn)
+	public BoardChangeSet getPendingChanges() {
+		return pendingChanges;
+	} //close getPendingChanges()
+
+
+	//Record that the display of a cell changed even though its state didn't (e.g. incorrect flags)
+	public void markCellChanged(int index) {
+		if (trackChanges)
+			pendingChanges.addCell(index); //the cell needs to be drawn again
+	} //close markCellChanged(...)
+
+
+	//Enable or disable the recording of changed cells (boards played without a display don't need it)
+	public void setChangeTracking(boolean enabled) {
+		trackChanges = enabled; //assign the new value
+		pendingChanges.clear(); //forget any changes that were recorded so far
+	} //close setChangeTracking(...)
+
+
+	//Return the index of the mine that was revealed by the user (-1 if no mine was revealed)
+	public int getExplodedMine() {
+		return explodedMine;
+	} //close getExplodedMine()
+
+
+	//Return the number of hidden cells that don't contain a mine
+	public int getHiddenSafeCells() {
+		if (VERIFY_COUNTERS)
+			verifyCounters(); //cross-check the counters in debug mode
+		return hiddenSafeCells;
+	} //close getHiddenSafeCells()
+
+
+	//Return the number of flag comments placed on the board
+	public int getFlagCount() {
+		if (VERIFY_COUNTERS)
+			verifyCounters(); //cross-check the counters in debug mode
+		return flagCount;
+	} //close getFlagCount()
+
+
+	//Return the number of remaining mines (totalMines - flag comments)
+	public int getRemainingMines() {
+		return totalMines - getFlagCount();
+	} //close getRemainingMines()
+
+
+	/* Assign a new packed state to the cell at the given index. The hidden safe cell counter and the flag
+	 * counter are adjusted by the difference between the old state and the new state, which means that
+	 * neither of them ever needs a scan of the board.
+	 */
+	private void updateCellState(int index, int state) {
+		int oldState = cellStates[index]; //state before the update
+		hiddenSafeCells += isHiddenSafeState(state) - isHiddenSafeState(oldState); //adjust the counter
+		int flagChange = isFlagState(state) - isFlagState(oldState); //1 = flag added, -1 = flag removed
+		flagCount += flagChange; //adjust the counter
+		if (flagChange != 0) {
+			adjustAdjacentFlags(index, flagChange); //the neighbors gained or lost a flagged neighbor
+			if (flagChange > 0)
+				addFlagCell(index); //add the cell to the flag list
+			else
+				removeFlagCell(index); //remove the cell from the flag list
+		} //end if
+		if (((state ^ oldState) & MINE_BIT) != 0)
+			mineCellsValid = false; //the mine list is built again (or replaced by the caller)
+		cellStates[index] = (byte) state; //assign the new state
+		if (trackChanges)
+			pendingChanges.addCell(index); //the cell needs to be drawn again
+	} //close updateCellState(...)
+
+
+	//Add a cell to the end of the flag list (flagCount already includes it)
+	private void addFlagCell(int index) {
+		if (flagCount > flagCells.length) //grow the list if it is full
+			flagCells = Arrays.copyOf(flagCells, flagCells.length * 2);
+		flagCells[flagCount - 1] = index;
+	} //close addFlagCell(...)
+
+
+	/* Remove a cell from the flag list by moving the last cell into it's place (flagCount already excludes
+	 * it). The list is searched from the end, since a flag is usually removed soon after it is placed
+	 * (the next right click turns it into a question mark), so the search rarely looks at more than one cell.
+	 */
+	private void removeFlagCell(int index) {
+		for (int i = flagCount; i >= 0; i--) {
+			if (flagCells[i] == index) {
+				flagCells[i] = flagCells[flagCount]; //fill the gap with the last cell
+				return;
+			} //end if
+		} //end for
+	} //close removeFlagCell(...)
+
+
+	//Add the given change (1 or -1) to the flagged neighbor count of every neighbor of the cell
+	private void adjustAdjacentFlags(int index, int change) {
+		int row = getRow(index); //row of the cell
+		int col = getCol(index); //column of the cell
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+				if (neighbor != index)
+					adjacentFlags[neighbor] += change; //the cell isn't it's own neighbor
+			} //end inner for
+		} //end outer for
+	} //close adjustAdjacentFlags(...)
+
+
+	//Return 1 if the given state belongs to a hidden cell without a mine, otherwise return 0
+	private static int isHiddenSafeState(int state) {
+		return (state & (HIDDEN_BIT | MINE_BIT)) == HIDDEN_BIT ? 1 : 0;
+	} //close isHiddenSafeState(...)
+
+
+	//Return 1 if the given state belongs to a hidden cell with a flag comment, otherwise return 0
+	private static int isFlagState(int state) {
+		return (state & (HIDDEN_BIT | COMMENT_MASK)) == (HIDDEN_BIT | FLAG_STATE) ? 1 : 0;
+	} //close isFlagState(...)
+
+
+	/* Scan the entire board and make sure that the counters match the cell states. This is only used
+	 * for debugging, an IllegalStateException is thrown if the counters are incorrect.
+	 */
+	public void verifyCounters() {
+		int scannedHiddenSafeCells = 0; //hidden safe cells found by the scan
+		int scannedFlags = 0; //flag comments found by the scan
+		for (byte state : cellStates) {
+			scannedHiddenSafeCells += isHiddenSafeState(state); 
+			scannedFlags += isFlagState(state);
+		} //end for
+		if (scannedHiddenSafeCells != hiddenSafeCells || scannedFlags != flagCount)
+			throw new IllegalStateException("Board counters are out of sync: hiddenSafeCells=" + 
+			 hiddenSafeCells + " (scan " + scannedHiddenSafeCells + "), flagCount=" + flagCount + 
+			 " (scan " + scannedFlags + ")");
+		for (int index = 0; index < cellStates.length; index++) { //count the flagged neighbors again
+			int row = getRow(index); //row of the cell
+			int col = getCol(index); //column of the cell
+			int scannedAdjacentFlags = 0; //flagged neighbors found by the scan
+			for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+				for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+					int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+					if (neighbor != index)
+						scannedAdjacentFlags += isFlagState(cellStates[neighbor]);
+				} //end inner for
+			} //end outer for
+			if (scannedAdjacentFlags != adjacentFlags[index])
+				throw new IllegalStateException("Flagged neighbor count of cell " + index + " is out of sync: " + 
+				 adjacentFlags[index] + " (scan " + scannedAdjacentFlags + ")");
+		} //end for
+		BitSet listedFlags = new BitSet(cellStates.length); //cells found in the flag list
+		for (int i = 0; i < flagCount; i++) {
+			if (isFlagState(cellStates[flagCells[i]]) == 0 || listedFlags.get(flagCells[i]))
+				throw new IllegalStateException("Flag list is out of sync at cell " + flagCells[i]);
+			listedFlags.set(flagCells[i]);
+		} //end for
+		if (mineCellsValid) { //a stale list is built again before it is used, so only a valid one is checked
+			int scannedMines = 0; //mines found by the scan
+			for (byte state : cellStates)
+				scannedMines += (state & MINE_BIT) >>> MINE_SHIFT;
+			for (int i = 0; i < mineCellCount; i++) {
+				if (!hasMine(mineCells[i]))
+					throw new IllegalStateException("Mine list is out of sync at cell " + mineCells[i]);
+			} //end for
+			if (scannedMines != mineCellCount)
+				throw new IllegalStateException("Mine list is out of sync: " + mineCellCount + " mines listed (scan " + 
+				 scannedMines + ")");
+		} //end if
+	} //close verifyCounters()
+
+
+	//Assign all of the data for a single cell (used when restoring a game from a previous session)
+	public void setCellData(int index, int cellVal, boolean mineStatus, boolean hiddenStatus, int comment) {
+		int state = (mineStatus || cellVal == MINE_VAL) ? MINE_BIT : (cellVal & COUNT_MASK);
+		state |= hiddenStatus ? HIDDEN_BIT : 0; //add the hidden bit if applicable
+		state |= hiddenStatus ? (comment << COMMENT_SHIFT) & COMMENT_MASK : 0; //only hidden cells have comments
+		updateCellState(index, state); //assign the new state
+		openingCount = -1; //the openings are labeled again once they are needed
+	} //close setCellData(...)
+
+
+	/* Populate the board once the user clicks on a cell. The clicked cell and all of it's immediate
+	 * neighbors are exempt from having mines placed in their respective locations. The mines are placed
+	 * with a partial Fisher-Yates shuffle over the allowed cells, so every layout is equally likely and
+	 * exactly totalMines random draws are made (no retries, even on the densest custom boards). Once
+	 * every mine is placed, the number of surrounding mines is assigned to every remaining cell. Any 
+	 * comments that were placed before the board was populated are left untouched.
+	 */
+	public void populateBoard(int clickedIndex, RandomGenerator ran) {
+		int clickedRow = getRow(clickedIndex); //row of the clicked cell
+		int clickedCol = getCol(clickedIndex); //column of the clicked cell
+		if (candidateCells == null)
+			candidateCells = new int[cellStates.length]; //created once and reused for every game
+		int candidates = 0; //number of cells that are allowed to receive a mine
+		//collect every cell that doesn't lie next to the clicked cell
+		for (int row = 0; row < gameRows; row++) {
+			boolean rowExcluded = Math.abs(row - clickedRow) <= 1; //row touches the clicked cell
+			for (int col = 0; col < gameCols; col++) {
+				if (!rowExcluded || Math.abs(col - clickedCol) > 1)
+					candidateCells[candidates++] = getIndex(row, col); //add cell to the candidates
+			} //end inner for
+		} //end outer for
+		if (totalMines > candidates)
+			throw new IllegalArgumentException("Cannot place " + totalMines + " mines in " + candidates + 
+			 " available cells");
+		
+		boolean boardCleared = mineCellsValid && mineCellCount == 0; //no mines were on the board before
+		//move a random remaining candidate into each of the first totalMines slots and place a mine there
+		for (int mineCount = 0; mineCount < totalMines; mineCount++) {
+			int swapIndex = mineCount + ran.nextInt(candidates - mineCount); //random remaining candidate
+			int index = candidateCells[swapIndex]; //cell that receives the mine
+			candidateCells[swapIndex] = candidateCells[mineCount]; //swap the candidates
+			candidateCells[mineCount] = index;
+			updateCellState(index, cellStates[index] | MINE_BIT); //place the mine
+		} //end for
+		if (boardCleared) { //the mines are all new, so the first candidates are the mine list
+			if (mineCells.length < totalMines)
+				mineCells = new int[totalMines]; //grow the mine list
+			System.arraycopy(candidateCells, 0, mineCells, 0, totalMines); //the first candidates hold the mines
+			mineCellCount = totalMines;
+			mineCellsValid = true;
+		} //end if
+
+		assignCellValues(); //assign the number of surrounding mines to every cell
+	} //close populateBoard(...)
+
+
+	/* Place the same mines as the given board (which must have the same dimensions) and assign the cell
+	 * values. The hidden status and the comments of this board's cells are left untouched, so this can
+	 * be used in place of populateBoard(...) with a layout that was generated somewhere else.
+	 */
+	public void copyMines(MinesweeperBoard source) {
+		int mineCount = 0; //number of mines listed so far
+		for (int index = 0; index < cellStates.length; index++) {
+			int state = (cellStates[index] & ~MINE_BIT) | (source.cellStates[index] & MINE_BIT); //copy the mine
+			updateCellState(index, state);
+			if ((state & MINE_BIT) != 0)
+				mineCount = addMineCell(index, mineCount); //add the mine to the new list
+		} //end for
+		mineCellCount = mineCount; //the list matches the board again
+		mineCellsValid = true;
+		assignCellValues(); //assign the number of surrounding mines to every cell
+	} //close copyMines(...)
+
+
+	/* Place a mine on every cell whose bit is set (in place of populateBoard(...)) and assign the cell
+	 * values. Like copyMines(...), the hidden status and the comments of the cells are left untouched.
+	 */
+	public void placeMines(BitSet mines) {
+		int mineCount = 0; //number of mines listed so far
+		for (int index = 0; index < cellStates.length; index++) {
+			int state = (cellStates[index] & ~MINE_BIT) | (mines.get(index) ? MINE_BIT : 0); //place the mine
+			updateCellState(index, state);
+			if ((state & MINE_BIT) != 0)
+				mineCount = addMineCell(index, mineCount); //add the mine to the new list
+		} //end for
+		mineCellCount = mineCount; //the list matches the board again
+		mineCellsValid = true;
+		assignCellValues(); //assign the number of surrounding mines to every cell
+	} //close placeMines(...)
+
+
+	/* Assign the number of surrounding mines to every cell in a single pass over the board. For each row,
+	 * the mines in the rows above, at, and below it are summed per column. A sliding window of 3 of those
+	 * column sums then gives the mines in each cell's 3x3 block (minus the cell's own mine). Only a few
+	 * array reads are needed per cell, without any neighbor lists or bounds checks on every neighbor.
+	 */
+	private void assignCellValues() {
+		if (columnSums == null)
+			columnSums = new int[gameCols]; //created once and reused for every game
+		for (int row = 0; row < gameRows; row++) {
+			int rowStart = row * gameCols; //index of the first cell in the row
+			int aboveStart = rowStart - gameCols; //index of the first cell in the row above
+			int belowStart = rowStart + gameCols; //index of the first cell in the row below
+			boolean hasAbove = row > 0; //the first row doesn't have a row above it
+			boolean hasBelow = row < gameRows - 1; //the last row doesn't have a row below it
+			//sum the mines of the 3 vertical neighbors for every column
+			for (int col = 0; col < gameCols; col++) {
+				int sum = (cellStates[rowStart + col] & MINE_BIT) >>> MINE_SHIFT;
+				if (hasAbove)
+					sum += (cellStates[aboveStart + col] & MINE_BIT) >>> MINE_SHIFT;
+				if (hasBelow)
+					sum += (cellStates[belowStart + col] & MINE_BIT) >>> MINE_SHIFT;
+				columnSums[col] = sum;
+			} //end for
+			//slide a window of 3 column sums across the row
+			int window = columnSums[0] + (gameCols > 1 ? columnSums[1] : 0); //window around column 0
+			for (int col = 0; col < gameCols; col++) {
+				int index = rowStart + col; //index of the cell
+				int state = cellStates[index]; //current state of the cell
+				int mines = window - ((state & MINE_BIT) >>> MINE_SHIFT); //don't count the cell itself
+				//mine cells keep a count of 0 (their value is always MINE_VAL)
+				int count = (state & MINE_BIT) == 0 ? mines : 0; 
+				cellStates[index] = (byte) ((state & ~COUNT_MASK) | count);
+				//move the window one column to the right
+				if (col + 2 < gameCols)
+					window += columnSums[col + 2];
+				if (col > 0)
+					window -= columnSums[col - 1];
+			} //end for
+		} //end outer for
+		openingCount = -1; //the openings are labeled the first time they are needed
+	} //close assignCellValues()
+
+
+	/* Label every opening of the board with a single breadth-first search per opening. Each opening gets a
+	 * list of it's members: the empty cells and the numbered cells around them (a numbered cell can be
+	 * listed by more than one opening). The lists are stored back to back in openingMembers, and
+	 * openingStarts holds where every list begins. The list being built doubles as the search queue: every
+	 * empty member adds it's unlisted neighbors to the end of the list when the search reaches it. Boards
+	 * with more than OPENING_LABEL_LIMIT cells aren't labeled (their reveals use the flood fill), so the
+	 * labels never take more than a few megabytes.
+	 */
+	private void labelOpenings() {
+		openingCount = -1; //nothing is labeled yet
+		if (cellStates.length > OPENING_LABEL_LIMIT)
+			return; //the board is too large to label
+		if (openingLabels == null)
+			openingLabels = new int[cellStates.length]; //created once and reused for every game
+		Arrays.fill(openingLabels, 0); //no cell belongs to an opening yet
+		int[] labels = openingLabels; //local copies of the buffers (the members grow while labeling)
+		int[] members = openingMembers;
+		int openings = 0; //number of openings found so far
+		int memberCount = 0; //number of members listed so far
+		for (int start = 0; start < cellStates.length; start++) {
+			if ((cellStates[start] & (MINE_BIT | COUNT_MASK)) != 0 || labels[start] != 0)
+				continue; //only empty cells that aren't labeled yet start a new opening
+			int label = ++openings; //label of the new opening
+			if (openings == openingStarts.length) //grow the starts if they are full
+				openingStarts = Arrays.copyOf(openingStarts, openings * 2);
+			openingStarts[label - 1] = memberCount; //the opening's list begins here
+			if (memberCount == members.length) //grow the members if they are full
+				members = Arrays.copyOf(members, memberCount * 2);
+			labels[start] = label;
+			members[memberCount++] = start;
+			for (int next = openingStarts[label - 1]; next < memberCount; next++) {
+				int index = members[next]; //member whose neighbors are listed
+				if ((cellStates[index] & COUNT_MASK) != 0)
+					continue; //only empty members list their neighbors
+				if (memberCount + 8 > members.length) //make room for every neighbor
+					members = Arrays.copyOf(members, (memberCount + 8) * 2);
+				int row = index / gameCols; //row of the cell
+				int col = index - row * gameCols; //column of the cell
+				int firstCol = Math.max(col - 1, 0), lastCol = Math.min(col + 1, gameCols - 1); //columns around it
+				int lastRow = Math.min(row + 1, gameRows - 1); //last row around it
+				for (int newRow = Math.max(row - 1, 0); newRow <= lastRow; newRow++) {
+					int rowStart = newRow * gameCols; //index of the first cell in the row
+					for (int neighbor = rowStart + firstCol; neighbor <= rowStart + lastCol; neighbor++) {
+						if (labels[neighbor] != label) { //neighbors of an empty cell are never mines
+							labels[neighbor] = label;
+							members[memberCount++] = neighbor; //list the neighbor
+						} //end if
+					} //end inner for
+				} //end outer for
+			} //end for
+		} //end outer for
+		openingMembers = members; //keep the grown buffer
+		openingStarts[openings] = memberCount; //end of the last opening's list
+		openingCount = openings;
+	} //close labelOpenings()
+
+
+	/* Return the number of cells that a click on the given hidden cell reveals while none of it's opening
+	 * is revealed or flagged: the size of the opening for an empty cell, and 1 for any other cell. Bots and
+	 * the display can use this before anything is revealed. -1 is returned for empty cells on boards that
+	 * are too large to label.
+	 */
+	public int getOpeningSize(int index) {
+		if ((cellStates[index] & (MINE_BIT | COUNT_MASK)) != 0)
+			return 1; //numbered cells and mines only reveal themselves
+		if (openingCount < 0)
+			labelOpenings(); //the board wasn't labeled since it was populated or restored
+		if (openingCount < 0)
+			return -1; //the board is too large to label
+		int label = openingLabels[index]; //opening of the cell
+		return openingStarts[label] - openingStarts[label - 1];
+	} //close getOpeningSize(...)
+
+
+	//Return the number of cells that were revealed by the last reveal or chord action
+	public int getRevealedCount() {
+		return revealedCount;
+	} //close getRevealedCount()
+
+
+	//Return the index of a cell that was revealed by the last reveal or chord action
+	public int getRevealedCell(int i) {
+		return revealedCells[i];
+	} //close getRevealedCell(...)
+
+
+	//Reveal a single hidden cell, erase its comment, and add it to the batch of revealed cells
+	private void revealCell(int index) {
+		updateCellState(index, cellStates[index] & ~(HIDDEN_BIT | COMMENT_MASK)); //reveal the cell, erase comment
+		if ((cellStates[index] & MINE_BIT) != 0)
+			explodedMine = index; //the user revealed a mine
+		if (revealedCount == revealedCells.length) //grow the batch if it is full
+			revealedCells = Arrays.copyOf(revealedCells, revealedCount * 2);
+		revealedCells[revealedCount++] = index; //add the cell to the batch
+	} //close revealCell(...)
+
+
+	/* Reveal the cell at the given index. If the cell is empty, then also reveal any surrounding
+	 * neighbors that are hidden and do not have a flag comment, until all of the applicable cells
+	 * are revealed. Every newly revealed cell is available through getRevealedCell(...) and the value
+	 * of the given cell is returned.
+	 */
+	public int revealCells(int index) {
+		revealedCount = 0; //start a new batch of revealed cells
+		floodReveal(index); //reveal the cell (and it's neighbors if applicable)
+		return getCellVal(index); //return the cell's value
+	} //close revealCells(...)
+
+
+	/* Reveal the cell at the given index and flood outwards from every empty cell that is found. An
+	 * empty cell whose opening is labeled is revealed from the opening's list instead (see revealOpening).
+	 * An explicit stack is used instead of recursion so that large open boards can't overflow the call
+	 * stack. Cells are revealed as soon as they are pushed, so the hidden bit doubles as the visited set.
+	 */
+	private void floodReveal(int start) {
+		if (!isHidden(start))
+			return; //the cell was already revealed
+		if ((cellStates[start] & (MINE_BIT | COUNT_MASK)) == 0 && revealOpening(start))
+			return; //the empty cell's opening was revealed from it's list
+		revealCell(start); //reveal the desired cell
+		if (getCellVal(start) != 0)
+			return; //only empty cells reveal their neighbors
+		int stackSize = 0; //number of empty cells waiting to be expanded
+		revealStack[stackSize++] = start; //expand the starting cell first
+		while (stackSize > 0) {
+			int index = revealStack[--stackSize]; //empty cell whose neighbors are revealed
+			int row = getRow(index); //row of the cell
+			int col = getCol(index); //column of the cell
+			for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+				for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+					int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+					if (isHidden(neighbor) && !hasFlagComment(neighbor)) {
+						revealCell(neighbor); //reveal the neighbor
+						//neighbors of an empty cell are never mines, so only empty neighbors keep expanding
+						if ((cellStates[neighbor] & COUNT_MASK) == 0) {
+							if (stackSize == revealStack.length) //grow the stack if it is full
+								revealStack = Arrays.copyOf(revealStack, stackSize * 2);
+							revealStack[stackSize++] = neighbor; //expand the neighbor later
+						} //end if
+					} //end if
+				} //end inner for
+			} //end outer for
+		} //end while
+	} //close floodReveal(...)
+
+
+	/* Reveal the opening of the given empty cell straight from it's list of members, without looking at
+	 * any neighbors. The flood fill only passes through hidden empty cells without a flag comment, so the
+	 * list is only used while every empty member is still hidden and isn't flagged (numbered members with
+	 * a flag comment are just skipped, like in the flood fill). Otherwise false is returned and nothing is
+	 * revealed, so that the flood fill can reveal the cells that are actually reachable.
+	 */
+	private boolean revealOpening(int start) {
+		if (openingCount < 0)
+			labelOpenings(); //the board wasn't labeled since it was populated or restored
+		if (openingCount < 0)
+			return false; //the board is too large to label
+		int label = openingLabels[start]; //opening of the cell
+		int first = openingStarts[label - 1]; //first member of the opening
+		int end = openingStarts[label]; //end of the opening's list
+		for (int member = first; member < end; member++) {
+			int state = cellStates[openingMembers[member]]; //state of the member
+			if ((state & COUNT_MASK) == 0 && ((state & HIDDEN_BIT) == 0 || isFlagState(state) != 0))
+				return false; //part of the opening is cut off, so the flood fill has to decide
+		} //end for
+		for (int member = first; member < end; member++) {
+			int index = openingMembers[member]; //cell of the opening
+			int state = cellStates[index]; //state of the cell
+			if ((state & HIDDEN_BIT) != 0 && isFlagState(state) == 0)
+				revealCell(index); //reveal the member
+		} //end for
+		return true;
+	} //close revealOpening(...)
+
+
+	/* Return whether the cell at the given index can be chorded. The cell must be revealed, it must not
+	 * be empty, and the number of flag comments in its neighbors must equal the cell's value. The flag
+	 * comments of the neighbors are counted whenever a flag is added or removed, so only that count is
+	 * compared here.
+	 */
+	public boolean canChordCell(int index) {
+		int cellVal = getCellVal(index); //value of the cell
+		if (cellVal <= 0 || isHidden(index))
+			return false; //only revealed numbered cells can be chorded
+		return adjacentFlags[index] == cellVal; //the flagged neighbors are counted as flags change
+	} //close canChordCell(...)
+
+
+	/* Reveal all of the neighbors of the given cell that don't have flag comments (this assumes that
+	 * canChordCell(...) was already checked). If one of those neighbors contains a mine (due to an
+	 * incorrect flag comment), then only that mine is revealed and its index is returned. Otherwise
+	 * every neighbor (and any of their adjacent non-mine cells) is revealed and -1 is returned. The
+	 * revealed cells are available through getRevealedCell(...) as one batch.
+	 */
+	public int chordCell(int index) {
+		revealedCount = 0; //start a new batch of revealed cells
+		int row = getRow(index); //row of the cell
+		int col = getCol(index); //column of the cell
+		//look for a neighboring mine that doesn't have a flag comment first
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+				if (neighbor != index && hasMine(neighbor) && !hasFlagComment(neighbor)) {
+					revealCell(neighbor); //reveal the game-losing mine
+					return neighbor; //return the index of the game-losing mine
+				} //end if
+			} //end inner for
+		} //end outer for
+		//there are no neighboring mines, so reveal all of the unflagged neighbors
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = getIndex(newRow, newCol); //index of the neighboring cell
+				if (!hasFlagComment(neighbor))
+					floodReveal(neighbor); //reveal the neighbor (and it's neighbors if applicable)
+			} //end inner for
+		} //end outer for
+		return -1; //no mine was revealed
+	} //close chordCell(...)
+
+
+	/* Cycle the comment of a hidden cell. The pattern goes from a flag comment to a question mark
+	 * comment to no comment at all. The new comment is returned (revealed cells keep NO_COMMENT).
+	 */
+	public int cycleCellComment(int index) {
+		if (!isHidden(index))
+			return NO_COMMENT; //only hidden cells can have comments
+		int newComment = (getCellComment(index) + 1) % 3; //none -> flag -> question -> none
+		updateCellState(index, (cellStates[index] & ~COMMENT_MASK) | (newComment << COMMENT_SHIFT));
+		return newComment; //return the new comment
+	} //close cycleCellComment(...)
+
+
+	//Mark a mine as no longer hidden once the game is finished (its comment is left untouched)
+	public void exposeMine(int index) {
+		if (hasMine(index))
+			updateCellState(index, cellStates[index] & ~HIDDEN_BIT); //the mine is no longer hidden
+	} //close exposeMine(...)
+
+
+	//Determine whether the game is won (every non-mine cell was revealed) and return the result
+	public boolean gameWon() {
+		return getHiddenSafeCells() == 0; //return result
+	} //close gameWon()
+
+
+	//Add a cell to the mine list at the given position and return the new number of mines
+	private int addMineCell(int index, int mineCount) {
+		if (mineCount == mineCells.length) //grow the list if it is full
+			mineCells = Arrays.copyOf(mineCells, mineCount * 2);
+		mineCells[mineCount] = index;
+		return mineCount + 1;
+	} //close addMineCell(...)
+
+
+	/* Return the number of cells that contain a mine. The mine list is filled in when the mines are placed,
+	 * and it is only built again with a scan of the board after the cells were restored one at a time.
+	 */
+	public int getMineCellCount() {
+		if (!mineCellsValid) {
+			int mineCount = 0; //number of mines listed so far
+			for (int index = 0; index < cellStates.length; index++) {
+				if (hasMine(index))
+					mineCount = addMineCell(index, mineCount); //add the mine to the list
+			} //end for
+			mineCellCount = mineCount;
+			mineCellsValid = true;
+		} //end if
+		return mineCellCount;
+	} //close getMineCellCount()
+
+
+	//Return the index of a cell that contains a mine (i must be less than getMineCellCount())
+	public int getMineCell(int i) {
+		return mineCells[i];
+	} //close getMineCell(...)
+
+
+	//Return the index of a hidden cell that has a flag comment (i must be less than getFlagCount())
+	public int getFlagCommentCell(int i) {
+		return flagCells[i];
+	} //close getFlagCommentCell(...)
+
+
+	//Return a list of the indexes of all of the cells containing mines
+	public List<Integer> getMineCells() {
+		List<Integer> mineList = new ArrayList<>(getMineCellCount()); //create a new ArrayList to store the values
+		for (int i = 0; i < mineCellCount; i++)
+			mineList.add(mineCells[i]); //add cell with a mine to list
+		return mineList; //return list of cells containing mines
+	} //close getMineCells()
+
+
+	//Return a list of the indexes of all of the cells containing a flag comment
+	public List<Integer> getFlagCommentCells() {
+		List<Integer> flagCommentCells = new ArrayList<>(flagCount); //create a new ArrayList to store the values
+		for (int i = 0; i < flagCount; i++)
+			flagCommentCells.add(flagCells[i]); //add cell with a flag comment to list
+		return flagCommentCells; //return list of cells containing a flag comment
+	} //close getFlagCommentCells()
+
+
+	//Reset the cell to it's default values (the mines and cell values are kept)
+	public void resetCellToDefault(int index) {
+		updateCellState(index, (cellStates[index] & ~COMMENT_MASK) | HIDDEN_BIT);
+	} //close resetCellToDefault(...)
+
+
+	//Zero-out the cell (no mine, no value, no comment, and hidden)
+	public void zeroOutCell(int index) {
+		updateCellState(index, HIDDEN_BIT);
+		openingCount = -1; //the openings are labeled again once the board is populated
+	} //close zeroOutCell(...)
+
+
+	//Reset every cell on the board back to it's original state (used to restart the current game)
+	public void resetBoard() {
+		explodedMine = -1; //no mine has been revealed yet
+		if (trackChanges)
+			pendingChanges.addAll(); //every cell changes
+		while (flagCount > 0) //remove the flags from the end of the flag list first (no searching)
+			resetCellToDefault(flagCells[flagCount - 1]);
+		for (int index = 0; index < cellStates.length; index++)
+			resetCellToDefault(index); //reset cell to default values
+	} //close resetBoard()
+
+
+	//Zero out every cell on the board (used before a new game is populated)
+	public void zeroOutBoard() {
+		explodedMine = -1; //no mine has been revealed yet
+		if (trackChanges)
+			pendingChanges.addAll(); //every cell changes
+		while (flagCount > 0) //remove the flags from the end of the flag list first (no searching)
+			zeroOutCell(flagCells[flagCount - 1]);
+		for (int index = 0; index < cellStates.length; index++)
+			zeroOutCell(index); //zero out cell
+		mineCellCount = 0; //there are no mines on the board
+		mineCellsValid = true;
+	} //close zeroOutBoard()
+
+} //close class MinesweeperBoard
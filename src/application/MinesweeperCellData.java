@@ -1,148 +1,99 @@
 /*
- * Victor Espinoza 
+ * Victor Espinoza
  * Created December 2022 - February 2023
  * Project: Minesweeper
  *
  * File Name: MinesweeperCellData.java
- * 
- * Description: This class is used to keep track of each Minesweeper Cell's data when the user exits out 
- * of the program. By keeping track of all of this information, I am able to preserve the state of the 
- * Minesweeper board and thus continue playing the same game from the previous session once the program 
- * is restarted. 
- * 
+ *
+ * Description: This class is used to keep track of each Minesweeper Cell's data when the user exits out
+ * of the program. By keeping track of all of this information, I am able to preserve the state of the
+ * Minesweeper board and thus continue playing the same game from the previous session once the program
+ * is restarted.
+ *
+ * Each cell is saved as a single byte (bits 0-3 = number of surrounding mines, bit 4 = mine, bit 5 =
+ * hidden, bits 6-7 = comment), which is the same layout that the MinesweeperBoard uses for its cells. The
+ * position of the cell comes from it's position in the saved array (index = row * cols + col), so no
+ * indexes are stored. The static methods pack and unpack the saved bytes. Saves from older versions
+ * stored one MinesweeperCellData object per cell (with both indexes, the value, two flags, and the
+ * comment text); those objects are turned into the packed byte as they are read, so old GameState.ser
+ * files can still be loaded.
+ *
  */
 
 package application;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Objects;
 
 public class MinesweeperCellData implements Serializable {
-    private static final long serialVersionUID = 6934733779798068447L; //unique UID
+    private static final long serialVersionUID = 6934733779798068447L; //unique UID (same as older saves)
 	public static final int MINE_VAL = -1; //default mine value is -1
-	private int xInd; //x index of Minesweeper Cell
-	private int yInd; //y index of Minesweeper Cell
-	private int cellVal; //value of Minesweeper Cell (-1 = mine; 0 = empty; <0 = number of surrounding mines)
-	private boolean minePresent; //flag to keep track of whether there is a mine present in the cell
-	private boolean cellHidden; //flag to keep track of whether the cell is hidden or not
-	private String cellComment; //keeps track of the cell's comment (if applicable)
-	
-	
-	//Constructor method for the MinesweeperCellData
-	public MinesweeperCellData(int x, int y, boolean mineStatus, String comment) {
-		xInd = x; //assign the x index
-		yInd = y; //assign the y index
-		minePresent = mineStatus; //assign the minePresent flag
-		cellHidden = true; //each new cell is hidden by default
-		cellVal = (minePresent) ? MINE_VAL: 0; //assign the default cell value
-		cellComment = comment; //assign the desired cell comment	
-	} //close MinesweeperCellData(...) constructor
-
-	
-	//Changes the data given new input values
-	public void setCellData(int x, int y, int newVal, boolean mineStatus, boolean hiddenStatus, String comment) {
-		xInd = x; //assign a new x index
-		yInd = y; //assign a new y index
-		cellVal = newVal; //assign the new cell value
-		minePresent = mineStatus; //assign the new minePresent flag
-		cellHidden = hiddenStatus; //assign the new cellHidden flag
-		cellComment = comment; //assign the new cell comment
-	} //close setCellData(...)
-	
-	
-	//Return the current x index
-	public int getXInd() {
-		return xInd;
-	} //close getXInd()	
-	
-	
-	//Assign a new x index
-	public void setXInd(int x) {
-		xInd = x;
-	} //close setXInd(...)
-	
-	
-	//Return the current y index
-	public int getYInd() {
-		return yInd;
-	} //close getYInd()
-	
-	
-	//Assign a new y index
-	public void setYInd(int y) {
-		yInd = y;
-	} //close setYInd(...)
-
-	
-	//Return the current cell value
-	public int getCellVal() {
-		return cellVal;
-	} //close getCellVal()
-	
-		
-	//Assign a new cell Value
-	public void setCellVal(int newVal) {
-		cellVal = newVal;
-	} //close setCellVal(...)
-	
-	
-	//Return the current minePresent value
-	public boolean mineIsPresent() {
-		return minePresent;
-	} //close mineIsPresent()
-	
-
-	//Assign a new minePresent value
-	public void setMineFlag(boolean newVal) {
-		minePresent = newVal;
-	} //close setMineFlag(...)
-		
-	
-	//Return the current cellHidden value
-	public boolean getHiddenStatus() {
-		return cellHidden;
-	} //close getHiddenStatus()
-	
-
-	//Assign a new cellHidden value
-	public void setHiddenStatus(boolean newVal) {
-		cellHidden = newVal;
-	} //close setHiddenStatus(...)
-		
-	
-	//Return the current cellComment
-	public String getCellComment() {
-		return cellComment;
-	} //close getCellComment()
-	
-
-	//Assign a new cellComment value
-	public void setCellComment(String newText) {
-		cellComment = newText;
-	} //close setCellComment(...)
-	
-
-	//Override the equals method to allow MinesweeperCellData objects to be compared to each other
-	@Override
-    public boolean equals(Object object) {
-        boolean itemsEqual = false; //objects are not equal by default
-        //make sure the object is an instance of MinesweeperCellData
-        if (object instanceof MinesweeperCellData){
-        	//compare all of the member variables to each other to determine their equality
-        	itemsEqual = (this.xInd == ((MinesweeperCellData) object).xInd) && 
-        	 (this.yInd == ((MinesweeperCellData) object).yInd) && 
-        	 (this.minePresent == ((MinesweeperCellData) object).minePresent) &&
-        	 (this.cellHidden == ((MinesweeperCellData) object).cellHidden) && 
-        	 (this.cellVal == ((MinesweeperCellData) object).cellVal) &&
-        	 (this.cellComment == ((MinesweeperCellData) object).cellComment);
-        } //end if
-        return itemsEqual;
-    } //close equals(...)
-    
-	
-	//It is good practice to override the hashCode() method as well
-    @Override
-    public int hashCode() {
-        return Objects.hash(xInd, yInd, minePresent, cellHidden, cellVal, cellComment);
-    } //close hashCode()
-	
+	public static final int COUNT_MASK = 0x0F; //bits 0-3 hold the number of surrounding mines (0-8)
+	public static final int MINE_BIT = 0x10; //bit 4 is set when the cell contains a mine
+	public static final int HIDDEN_BIT = 0x20; //bit 5 is set when the cell is hidden
+	public static final int COMMENT_SHIFT = 6; //bits 6-7 hold the cell's comment
+	public static final int COMMENT_MASK = 0xC0; //mask used to extract the cell's comment
+	private byte cellState; //packed state of the cell (only used when reading saves from older versions)
+
+
+	//Return the packed state of a cell (only hidden cells keep their comment)
+	public static byte packCell(int cellVal, boolean mineStatus, boolean hiddenStatus, int comment) {
+		int state = (mineStatus || cellVal == MINE_VAL) ? MINE_BIT : (cellVal & COUNT_MASK);
+		state |= hiddenStatus ? HIDDEN_BIT | ((comment << COMMENT_SHIFT) & COMMENT_MASK) : 0;
+		return (byte) state;
+	} //close packCell(...)
+
+
+	//Return the value of a packed cell (-1 = mine; otherwise the number of surrounding mines)
+	public static int getCellVal(byte state) {
+		return hasMine(state) ? MINE_VAL : state & COUNT_MASK;
+	} //close getCellVal(...)
+
+
+	//Return whether a packed cell contains a mine
+	public static boolean hasMine(byte state) {
+		return (state & MINE_BIT) != 0;
+	} //close hasMine(...)
+
+
+	//Return whether a packed cell is hidden
+	public static boolean isHidden(byte state) {
+		return (state & HIDDEN_BIT) != 0;
+	} //close isHidden(...)
+
+
+	//Return the comment of a packed cell (NO_COMMENT, FLAG_COMMENT, or QUESTION_COMMENT)
+	public static int getComment(byte state) {
+		return (state & COMMENT_MASK) >>> COMMENT_SHIFT;
+	} //close getComment(...)
+
+
+	//Return the packed state of a cell that was read from an older save
+	public byte getCellState() {
+		return cellState;
+	} //close getCellState()
+
+
+	/* Read a cell that was saved by an older version and pack it into a single byte. The fields of the old
+	 * format (xInd, yInd, cellVal, minePresent, cellHidden, and cellComment) are read by name from the
+	 * stream, and the indexes are dropped since the position in the saved array gives the same thing.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields(); //every field that was saved for the cell
+		if (!fields.defaulted("cellState")) { //the cell was already saved as a packed byte
+			cellState = fields.get("cellState", (byte) 0);
+			return;
+		} //end if
+		int comment; //comment value of the saved comment text
+		Object commentText = fields.get("cellComment", null); //flag, question mark, or empty text
+		if ("\u2691".equals(commentText))
+			comment = MinesweeperBoard.FLAG_COMMENT; //flag comment
+		else if ("?".equals(commentText))
+			comment = MinesweeperBoard.QUESTION_COMMENT; //question mark comment
+		else
+			comment = MinesweeperBoard.NO_COMMENT; //no comment
+		cellState = packCell(fields.get("cellVal", 0), fields.get("minePresent", false),
+		 fields.get("cellHidden", true), comment);
+	} //close readObject(...)
+
 } //close Class MinesweeperCellData
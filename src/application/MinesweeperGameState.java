@@ -11,7 +11,9 @@
  * was generated or not, and of course the cellData for each cell on the minesweeper board. By keeping 
  * track of all of this information, I am able to preserve the game state of the current game being played
  * (if applicable) and thus continue playing from where the previous session left off once the program 
- * is restarted. 
+ * is restarted. The cells are saved as one packed byte per cell (see MinesweeperCellData). Saves from
+ * older versions hold a MinesweeperCellData object per cell instead, and those are converted into the
+ * packed bytes the first time the cells are requested.
  * 
  */
 
@@ -23,9 +25,14 @@ public class MinesweeperGameState implements Serializable{
 	private boolean gameFinished; //keeps track on whether the game was finished or not
 	private boolean isFullScreen; //keeps track of whether the window was in full screen mode or not
 	private boolean gameGenerated; //keeps track of whether a game was generated
+	private boolean noGuessBoards; //keeps track of whether no-guess boards are generated (false in old saves)
 	private String gameDifficulty; //keeps track of the difficulty being played
+	private String boardId; //keeps track of the ID of the board being played (null if it has none)
 	private int gameRows, gameCols, gameMines; //keeps track of the rows, cols, and mines in the game
-	private MinesweeperCellData[][] gameData; //keeps track of the MinesweeperCellData for each cell
+	private int boardValue; //keeps track of the board's 3BV (0 in old saves)
+	private int boardOpenings, isolatedNumbers; //keeps track of the openings and isolated numbers on the board
+	private byte[] cellStates; //keeps track of the packed state of each cell (index = row * gameCols + col)
+	private MinesweeperCellData[][] gameData; //keeps track of the cells in saves from older versions
 	private long elapsedGameTime; //keeps track of the elapsed time
 	private double windowHeight; //keeps track of the window height
 	private double windowWidth; //keeps track of the window width
@@ -35,7 +42,7 @@ public class MinesweeperGameState implements Serializable{
 	
 	//Constructor method for the MinesweeperGameState
 	public MinesweeperGameState(boolean gameOver, String difficulty, int rows, int cols, int mines, 
-	 MinesweeperCellData[][] cellStates, long elapsedTime, double height, double width, double xPos, 
+	 byte[] cellStates, long elapsedTime, double height, double width, double xPos, 
 	 double yPos, boolean screenFlag, boolean gameCreated) {
 		gameFinished = gameOver; //Assign gameFinished flag
 		gameDifficulty = difficulty; //Assign gameDifficulty value
@@ -43,7 +50,7 @@ public class MinesweeperGameState implements Serializable{
 		gameRows = rows; //Assign gameRows value
 		gameCols = cols; //Assign gameCols value
 		gameMines = mines; //Assign gameMines value
-		gameData = cellStates; //Assign gameData value
+		this.cellStates = cellStates; //Assign cellStates value
 		elapsedGameTime = elapsedTime; //Assign elapsedGameTime value
 		windowHeight = height; //Assign windowHeight value
 		windowWidth = width; //Assign windowWidth value
@@ -113,16 +120,29 @@ public class MinesweeperGameState implements Serializable{
 	} //close setGameMines(...)
 
 	
-	//Return all of the gameData for each cell on the minesweeper board
-	public MinesweeperCellData[][] getGameData() {
-		return gameData;
-	} //close getGameData()
-	
-	
-	//Assign new gameData for each cell on the minesweeper board
-	public void setGameData(MinesweeperCellData[][] newGrid) {
-		gameData = newGrid;
-	} //close setGameData(...)
+	/* Return the packed state of each cell on the minesweeper board. Saves from older versions are
+	 * converted here (cells that weren't saved stay hidden with no mine, value, or comment).
+	 */
+	public byte[] getCellStates() {
+		if (cellStates == null && gameData != null) {
+			cellStates = new byte[gameRows * gameCols]; //one byte per cell
+			for (int i = 0; i < gameRows && i < gameData.length; i++) {
+				for (int j = 0; j < gameCols && j < gameData[i].length; j++) {
+					MinesweeperCellData data = gameData[i][j]; //cell saved by an older version
+					cellStates[i * gameCols + j] = (data != null) ? data.getCellState() : 
+					 (byte) MinesweeperCellData.HIDDEN_BIT;
+				} //end inner for
+			} //end outer for
+			gameData = null; //the old cells are no longer needed
+		} //end if
+		return cellStates;
+	} //close getCellStates()
+	
+	
+	//Assign the packed state of each cell on the minesweeper board
+	public void setCellStates(byte[] newStates) {
+		cellStates = newStates;
+	} //close setCellStates(...)
 	
 	
 	//Return the total elapsed time
@@ -208,4 +228,65 @@ public class MinesweeperGameState implements Serializable{
 		gameGenerated = newStatus;
 	} //close setGameGeneratedStatus(...)
 
+
+	//Return the noGuessBoards value
+	public boolean getNoGuessStatus() {
+		return noGuessBoards;
+	} //close getNoGuessStatus()
+
+
+	//Assign a new noGuessBoards value
+	public void setNoGuessStatus(boolean newStatus) {
+		noGuessBoards = newStatus;
+	} //close setNoGuessStatus(...)
+	
+	
+	//Return the boardId value
+	public String getBoardId() {
+		return boardId;
+	} //close getBoardId()
+	
+	
+	//Assign a new boardId value
+	public void setBoardId(String newId) {
+		boardId = newId;
+	} //close setBoardId(...)
+
+	
+	
+	//Return the boardValue (3BV) value
+	public int getBoardValue() {
+		return boardValue;
+	} //close getBoardValue()
+	
+	
+	//Assign a new boardValue (3BV) value
+	public void setBoardValue(int newValue) {
+		boardValue = newValue;
+	} //close setBoardValue(...)
+	
+	
+	//Return the number of boardOpenings
+	public int getBoardOpenings() {
+		return boardOpenings;
+	} //close getBoardOpenings()
+	
+	
+	//Assign a new number of boardOpenings
+	public void setBoardOpenings(int newOpenings) {
+		boardOpenings = newOpenings;
+	} //close setBoardOpenings(...)
+	
+	
+	//Return the number of isolatedNumbers
+	public int getIsolatedNumbers() {
+		return isolatedNumbers;
+	} //close getIsolatedNumbers()
+	
+	
+	//Assign a new number of isolatedNumbers
+	public void setIsolatedNumbers(int newNumbers) {
+		isolatedNumbers = newNumbers;
+	} //close setIsolatedNumbers(...)
+
 } //close class MinesweeperGameState
@@ -0,0 +1,299 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: MinesweeperSolver.java
+ *
+ * Description: This class finds every hidden cell of a MinesweeperBoard that is provably safe or provably
+ * a mine, using only what the user can see (the values of the revealed cells and which cells are still
+ * hidden). Every revealed cell is a constraint: its hidden neighbors contain exactly its value minus the
+ * mines that are already known. Two rules are applied until nothing else can be deduced:
+ *     - single point: if a constraint has no mines left, all of its unknown cells are safe, and if it has
+ *       as many mines left as unknown cells, all of them are mines.
+ *     - subset: if the unknown cells of one constraint are a subset of another constraint's unknown
+ *       cells, the remaining cells of the larger one contain the difference of their mines.
+ * The solver is incremental. Only the constraints that touch a changed cell are queued and examined
+ * again, so the deductions that follow a reveal take a few microseconds no matter how big the board is.
+ * Flag comments are ignored, since they are placed by the user and might be wrong.
+ *
+ */
+
+package application;
+import java.util.Arrays;
+
+public class MinesweeperSolver {
+	private static final byte UNKNOWN = 0; //nothing is known about the cell
+	private static final byte SAFE = 1; //the cell is provably safe
+	private static final byte MINE = 2; //the cell provably contains a mine
+	/* Unknown cells are compared as bit masks over the 7x7 block around the constraint being examined
+	 * (every constraint within 2 cells of it only has neighbors inside of that block).
+	 */
+	private static final int FRAME_SIZE = 7; //width and height of the block
+	private static final int FRAME_CENTER = 3; //position of the examined constraint within the block
+	private static final int INITIAL_BUFFER_SIZE = 64; //starting size of the deduction lists
+
+	private final MinesweeperBoard board; //the board being solved
+	private final int gameRows; //number of rows on the board
+	private final int gameCols; //number of columns on the board
+	private final byte[] knowledge; //what is known about every cell (UNKNOWN, SAFE, or MINE)
+	private final int[] queue; //revealed cells whose constraint needs to be examined again
+	private final boolean[] queued; //flag used to check if a cell is already in the queue
+	private int queueSize; //number of cells in the queue
+	private int[] safeCells = new int[INITIAL_BUFFER_SIZE]; //hidden cells that were deduced to be safe
+	private int safeCount; //number of cells that were deduced to be safe
+	private int[] mineCells = new int[INITIAL_BUFFER_SIZE]; //hidden cells that were deduced to be mines
+	private int mineCount; //number of cells that were deduced to be mines
+
+
+	//Constructor method for the MinesweeperSolver (every revealed cell of the board is examined)
+	public MinesweeperSolver(MinesweeperBoard board) {
+		this.board = board; //assign the board
+		gameRows = board.getRows(); //assign the number of rows
+		gameCols = board.getCols(); //assign the number of columns
+		knowledge = new byte[board.getCellCount()]; //nothing is known yet
+		queue = new int[board.getCellCount()]; //every cell can be queued once
+		queued = new boolean[board.getCellCount()];
+		reset(); //examine the board as it currently is
+	} //close MinesweeperSolver(...) constructor
+
+
+	/* Forget every deduction and examine every revealed cell of the board again. This is used whenever the
+	 * board changes in a way the solver wasn't told about (a new game, a restarted game, or a loaded game).
+	 */
+	public void reset() {
+		Arrays.fill(knowledge, UNKNOWN); //nothing is known
+		Arrays.fill(queued, false); //the queue is empty
+		queueSize = 0;
+		safeCount = 0; //no deductions
+		mineCount = 0;
+		for (int index = 0; index < knowledge.length; index++) {
+			if (!board.isHidden(index))
+				enqueue(index); //every revealed cell is a constraint
+		} //end for
+		solve(); //deduce everything that follows from the board
+	} //close reset()
+
+
+	/* Let the solver know that the given cell was revealed. The cell becomes a new constraint, and the
+	 * revealed cells around it are examined again since they have one less unknown neighbor.
+	 */
+	public void cellRevealed(int index) {
+		if (board.getCellVal(index) == MinesweeperBoard.MINE_VAL)
+			mark(index, MINE); //a revealed mine is still a mine for its neighbors
+		enqueueNeighbors(index); //the neighbors' constraints changed
+		enqueue(index); //examine the new constraint
+	} //close cellRevealed(...)
+
+
+	//Let the solver know about every cell revealed by the board's last reveal or chord action
+	public void cellsRevealed() {
+		for (int i = 0; i < board.getRevealedCount(); i++)
+			cellRevealed(board.getRevealedCell(i)); //examine the revealed cell
+	} //close cellsRevealed()
+
+
+	/* Examine every queued constraint until no more deductions can be made. Every deduction queues the
+	 * constraints around the deduced cell, so the queue only ever holds constraints that changed. The
+	 * number of new deductions is returned.
+	 */
+	public int solve() {
+		int deductions = safeCount + mineCount; //deductions before solving
+		while (queueSize > 0) {
+			int index = queue[--queueSize]; //constraint that is examined next
+			queued[index] = false; //the constraint can be queued again
+			examineConstraint(index); //apply the rules to the constraint
+		} //end while
+		return safeCount + mineCount - deductions; //return the number of new deductions
+	} //close solve()
+
+
+	//Return whether the cell at the given index was deduced to be safe
+	public boolean isKnownSafe(int index) {
+		return knowledge[index] == SAFE;
+	} //close isKnownSafe(...)
+
+
+	//Return whether the cell at the given index was deduced to contain a mine
+	public boolean isKnownMine(int index) {
+		return knowledge[index] == MINE;
+	} //close isKnownMine(...)
+
+
+	//Return the number of cells that were deduced to be safe (including ones that were revealed since)
+	public int getSafeCellCount() {
+		return safeCount;
+	} //close getSafeCellCount()
+
+
+	//Return a cell that was deduced to be safe (in the order that the deductions were made)
+	public int getSafeCell(int i) {
+		return safeCells[i];
+	} //close getSafeCell(...)
+
+
+	//Return the number of cells that were deduced to contain a mine
+	public int getMineCellCount() {
+		return mineCount;
+	} //close getMineCellCount()
+
+
+	//Return a cell that was deduced to contain a mine (in the order that the deductions were made)
+	public int getMineCell(int i) {
+		return mineCells[i];
+	} //close getMineCell(...)
+
+
+	//Return a safe cell that is still hidden (used for hints and bots), or -1 if there isn't one
+	public int findSafeHiddenCell() {
+		for (int i = 0; i < safeCount; i++) {
+			if (board.isHidden(safeCells[i]))
+				return safeCells[i]; //safe cell found
+		} //end for
+		return -1; //every safe cell was already revealed
+	} //close findSafeHiddenCell()
+
+
+	/* Apply the single point rule to the given constraint, then compare it with every constraint within 2
+	 * cells of it using the subset rule. The examination stops at the first deduction, since the deduced
+	 * cells queue this constraint again anyway.
+	 */
+	private void examineConstraint(int index) {
+		if (board.isHidden(index) || board.getCellVal(index) == MinesweeperBoard.MINE_VAL)
+			return; //only revealed cells with a value are constraints
+		int row = board.getRow(index); //row of the constraint
+		int col = board.getCol(index); //column of the constraint
+		long unknown = getUnknownMask(row, col, row, col); //unknown neighbors of the constraint
+		if (unknown == 0)
+			return; //everything around the constraint is known
+		int remaining = getRemainingMines(row, col); //mines that aren't known yet
+		if (remaining == 0) {
+			markFrame(unknown, row, col, SAFE); //every unknown neighbor is safe
+			return;
+		} else if (remaining == Long.bitCount(unknown)) {
+			markFrame(unknown, row, col, MINE); //every unknown neighbor is a mine
+			return;
+		} //end else if
+		//compare the constraint with the other constraints that share at least one neighbor with it
+		for (int otherRow = Math.max(row - 2, 0); otherRow <= Math.min(row + 2, gameRows - 1); otherRow++) {
+			for (int otherCol = Math.max(col - 2, 0); otherCol <= Math.min(col + 2, gameCols - 1); otherCol++) {
+				int other = board.getIndex(otherRow, otherCol); //index of the other constraint
+				if (other == index || board.isHidden(other) || board.getCellVal(other) == MinesweeperBoard.MINE_VAL)
+					continue; //not another constraint
+				long otherUnknown = getUnknownMask(otherRow, otherCol, row, col); //its unknown neighbors
+				if (otherUnknown == 0 || otherUnknown == unknown)
+					continue; //nothing can be learned from the other constraint
+				if ((otherUnknown & ~unknown) == 0) {
+					//the other constraint is a subset, so the difference holds the difference of their mines
+					if (applySubsetRule(unknown & ~otherUnknown, remaining - getRemainingMines(otherRow, otherCol), row, col))
+						return;
+				} else if ((unknown & ~otherUnknown) == 0) {
+					//this constraint is a subset of the other one
+					if (applySubsetRule(otherUnknown & ~unknown, getRemainingMines(otherRow, otherCol) - remaining, row, col))
+						return;
+				} //end else if
+			} //end inner for
+		} //end outer for
+	} //close examineConstraint(...)
+
+
+	/* The given cells (a mask around the given origin) hold exactly the given number of mines. If there
+	 * are no mines, every cell is safe, and if every cell is a mine, they are all mines. Return whether a
+	 * deduction was made.
+	 */
+	private boolean applySubsetRule(long cells, int mines, int originRow, int originCol) {
+		if (mines == 0) {
+			markFrame(cells, originRow, originCol, SAFE); //every cell is safe
+			return true;
+		} else if (mines == Long.bitCount(cells)) {
+			markFrame(cells, originRow, originCol, MINE); //every cell is a mine
+			return true;
+		} //end else if
+		return false; //nothing was deduced
+	} //close applySubsetRule(...)
+
+
+	/* Return the unknown neighbors (hidden cells that weren't deduced yet) of the given constraint as a
+	 * mask over the 7x7 block around the given origin.
+	 */
+	private long getUnknownMask(int row, int col, int originRow, int originCol) {
+		long mask = 0; //unknown neighbors found so far
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = board.getIndex(newRow, newCol); //index of the neighboring cell
+				if (knowledge[neighbor] == UNKNOWN && board.isHidden(neighbor)) {
+					int bit = (newRow - originRow + FRAME_CENTER) * FRAME_SIZE + (newCol - originCol + FRAME_CENTER);
+					mask |= 1L << bit; //add the neighbor to the mask
+				} //end if
+			} //end inner for
+		} //end outer for
+		return mask; //return the unknown neighbors
+	} //close getUnknownMask(...)
+
+
+	//Return the number of mines around the given constraint that aren't known yet
+	private int getRemainingMines(int row, int col) {
+		int remaining = board.getCellVal(board.getIndex(row, col)); //mines around the constraint
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				if (knowledge[board.getIndex(newRow, newCol)] == MINE)
+					remaining--; //the mine is already known
+			} //end inner for
+		} //end outer for
+		return remaining; //return the number of mines left
+	} //close getRemainingMines(...)
+
+
+	//Mark every cell of the given mask (a 7x7 block around the given origin) as safe or as a mine
+	private void markFrame(long cells, int originRow, int originCol, byte value) {
+		while (cells != 0) {
+			int bit = Long.numberOfTrailingZeros(cells); //next cell of the mask
+			cells &= cells - 1; //remove the cell from the mask
+			int row = originRow + bit / FRAME_SIZE - FRAME_CENTER; //row of the cell
+			int col = originCol + bit % FRAME_SIZE - FRAME_CENTER; //column of the cell
+			mark(board.getIndex(row, col), value); //mark the cell
+		} //end while
+	} //close markFrame(...)
+
+
+	//Record what was deduced about the given cell and queue the constraints around it
+	private void mark(int index, byte value) {
+		if (knowledge[index] != UNKNOWN)
+			return; //the cell was already deduced
+		knowledge[index] = value; //remember the deduction
+		if (value == SAFE) {
+			if (safeCount == safeCells.length) //grow the list if it is full
+				safeCells = Arrays.copyOf(safeCells, safeCount * 2);
+			safeCells[safeCount++] = index; //add the cell to the safe cells
+		} else {
+			if (mineCount == mineCells.length) //grow the list if it is full
+				mineCells = Arrays.copyOf(mineCells, mineCount * 2);
+			mineCells[mineCount++] = index; //add the cell to the mines
+		} //end else
+		enqueueNeighbors(index); //the constraints around the cell changed
+	} //close mark(...)
+
+
+	//Queue every revealed neighbor of the given cell
+	private void enqueueNeighbors(int index) {
+		int row = board.getRow(index); //row of the cell
+		int col = board.getCol(index); //column of the cell
+		for (int newRow = Math.max(row - 1, 0); newRow <= Math.min(row + 1, gameRows - 1); newRow++) {
+			for (int newCol = Math.max(col - 1, 0); newCol <= Math.min(col + 1, gameCols - 1); newCol++) {
+				int neighbor = board.getIndex(newRow, newCol); //index of the neighboring cell
+				if (neighbor != index && !board.isHidden(neighbor))
+					enqueue(neighbor); //examine the neighbor's constraint again
+			} //end inner for
+		} //end outer for
+	} //close enqueueNeighbors(...)
+
+
+	//Add the given cell to the queue (unless it is already queued)
+	private void enqueue(int index) {
+		if (!queued[index]) {
+			queued[index] = true; //the cell is now queued
+			queue[queueSize++] = index; //add the cell to the queue
+		} //end if
+	} //close enqueue(...)
+
+} //close class MinesweeperSolver
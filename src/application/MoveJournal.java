@@ -0,0 +1,395 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: MoveJournal.java
+ *
+ * Description: This class keeps an append-only journal of the current game, so that every move is saved
+ * as soon as it is made (a few bytes each) instead of saving the whole board. The journal starts with a
+ * BEGIN record (the difficulty and size of the game, plus the packed cells when the game was restored from
+ * a previous session), followed by the board that was generated (it's board ID, or the mine layout when
+ * the board can't be regenerated from a seed) and then every reveal, double click, and comment change with
+ * the elapsed time of the game. A new game starts the journal over.
+ *
+ * The records are added to a buffer on the JavaFX thread and written by a background thread. Every write
+ * takes all of the records that are waiting (group commit), adds the length and CRC-32 of the batch, and
+ * forces the batch to the disk, so the moves made while a batch is being forced are written together by
+ * the next one. On startup the journal is replayed against a MinesweeperBoard with the same rules that the
+ * game uses, which rebuilds the game exactly as it was when the program stopped. A batch that was cut
+ * short by a crash fails it's CRC check, and the replay stops at the last complete batch.
+ *
+ */
+
+package application;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+public class MoveJournal {
+	private static final byte BEGIN = 1; //a new game (or a game restored from a previous session)
+	private static final byte SEEDED_BOARD = 2; //the board was generated from a board ID
+	private static final byte LAYOUT_BOARD = 3; //the board was generated without a board ID (mine layout)
+	public static final byte REVEAL = 4; //left click (reveal a cell)
+	public static final byte CHORD = 5; //double click (reveal the neighbors of a cell)
+	public static final byte COMMENT = 6; //right click (cycle the comment of a cell)
+	private static final byte RESET = 7; //the current game was restarted
+	private static final byte TIME = 8; //elapsed time of the game (added by the autosave)
+	private static final int GENERATED_FLAG = 1; //BEGIN flag set when the board was already generated
+	private static final int FINISHED_FLAG = 2; //BEGIN flag set when the game was already finished
+	private final Path filePath; //journal file
+	private final CRC32 checksum = new CRC32(); //computes the CRC of each batch (writer thread only)
+	private ByteBuffer pendingRecords = ByteBuffer.allocate(1024); //records waiting to be written
+	private ByteBuffer writtenRecords = ByteBuffer.allocate(1024); //records being written by the writer
+	private final ByteBuffer batchHeader = ByteBuffer.allocate(4); //length of the batch being written
+	private final ByteBuffer batchChecksum = ByteBuffer.allocate(4); //CRC of the batch being written
+	private FileChannel channel; //open journal file (writer thread only)
+	private Thread writerThread; //writes the batches in the background (started with the first record)
+	private boolean restartPending; //flag used to check if the journal is started over before the next batch
+	private boolean closed; //flag used to check if the journal was closed
+
+
+	//Constructor method for the MoveJournal
+	public MoveJournal(Path filePath) {
+		this.filePath = filePath; //assign the journal file
+	} //close MoveJournal(...) constructor
+
+
+	/* Start the journal over for a new game. When the board of the game was already generated (a game that
+	 * was restored from a previous session), every cell is stored in the BEGIN record.
+	 */
+	public synchronized void beginGame(String difficulty, MinesweeperBoard board, BoardId boardId,
+	 boolean generated, boolean finished, long elapsedMillis) {
+		pendingRecords.clear(); //the records of the previous game are no longer needed
+		restartPending = true; //the file is emptied before the next batch is written
+		byte[] difficultyText = difficulty.getBytes(StandardCharsets.UTF_8); //difficulty text
+		byte[] boardIdText = (boardId != null) ? boardId.toString().getBytes(StandardCharsets.UTF_8) : null;
+		int cellCount = generated ? board.getRows() * board.getCols() : 0; //cells stored in the record
+		ByteBuffer record = reserve(1 + 2 + difficultyText.length + 2 + ((boardIdText != null) ?
+		 boardIdText.length : 0) + 3 * 4 + 1 + 4 + 4 + cellCount);
+		record.put(BEGIN).putShort((short) difficultyText.length).put(difficultyText);
+		if (boardIdText != null)
+			record.putShort((short) boardIdText.length).put(boardIdText); //board ID of the board
+		else
+			record.putShort((short) -1); //the board doesn't have a board ID
+		record.putInt(board.getRows()).putInt(board.getCols()).putInt(board.getTotalMines());
+		record.put((byte) ((generated ? GENERATED_FLAG : 0) | (finished ? FINISHED_FLAG : 0)));
+		record.putInt(toJournalTime(elapsedMillis)).putInt(cellCount);
+		if (generated)
+			board.copyCellStates(record); //the packed state of every cell
+		notifyAll(); //wake up the writer
+	} //close beginGame(...)
+
+
+	/* Record the board that was generated by the first click. Boards with a board ID are regenerated from
+	 * the ID (a few bytes), and any other board (no-guess boards) is stored as a bitmap of it's mines.
+	 */
+	public synchronized void recordBoard(MinesweeperBoard board, BoardId boardId) {
+		if (boardId != null) {
+			byte[] boardIdText = boardId.toString().getBytes(StandardCharsets.UTF_8); //board ID text
+			reserve(1 + 2 + boardIdText.length).put(SEEDED_BOARD).putShort((short) boardIdText.length)
+			 .put(boardIdText);
+		} else {
+			BitSet mines = new BitSet(board.getRows() * board.getCols()); //cells that contain a mine
+			for (int i = 0; i < board.getMineCellCount(); i++)
+				mines.set(board.getMineCell(i));
+			byte[] layout = mines.toByteArray(); //mine bitmap
+			reserve(1 + 4 + layout.length).put(LAYOUT_BOARD).putInt(layout.length).put(layout);
+		} //end else
+		notifyAll(); //wake up the writer
+	} //close recordBoard(...)
+
+
+	//Record a move (REVEAL, CHORD, or COMMENT) on the given cell at the given elapsed time
+	public synchronized void recordMove(byte move, int cellIndex, long elapsedMillis) {
+		reserve(9).put(move).putInt(cellIndex).putInt(toJournalTime(elapsedMillis));
+		notifyAll(); //wake up the writer
+	} //close recordMove(...)
+
+
+	//Record that the current game was restarted (same board, every cell hidden again, clock at 0)
+	public synchronized void recordReset() {
+		reserve(1).put(RESET);
+		notifyAll(); //wake up the writer
+	} //close recordReset()
+
+
+	//Record the elapsed time of the game (so the clock resumes where it stopped)
+	public synchronized void recordTime(long elapsedMillis) {
+		reserve(5).put(TIME).putInt(toJournalTime(elapsedMillis));
+		notifyAll(); //wake up the writer
+	} //close recordTime(...)
+
+
+	//Write every record that is still waiting and stop the writer (used when the program is closed)
+	public void close() {
+		Thread writer; //writer thread that finishes the last batch
+		synchronized (this) {
+			closed = true; //no more records are accepted after the last batch
+			writer = writerThread;
+			notifyAll(); //wake up the writer
+		} //close synchronized(...)
+		if (writer != null) {
+			try {
+				writer.join(); //wait for the last batch
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt(); //the batches that were written are still valid
+			} //close catch(...)
+		} //end if
+	} //close close()
+
+
+	//Return a buffer with room for a record of the given size (the writer thread is started if needed)
+	private ByteBuffer reserve(int size) {
+		if (writerThread == null && !closed) {
+			writerThread = new Thread(this::writeBatches, "move-journal"); //create the background thread
+			writerThread.setDaemon(true); //a batch that is cut short by an exit is never replayed
+			writerThread.start();
+		} //end if
+		if (pendingRecords.remaining() < size) { //grow the buffer
+			ByteBuffer largerBuffer = ByteBuffer.allocate(Math.max(pendingRecords.capacity() * 2,
+			 pendingRecords.position() + size));
+			pendingRecords = largerBuffer.put(pendingRecords.flip());
+		} //end if
+		return pendingRecords;
+	} //close reserve(...)
+
+
+	/* Write the waiting records in batches until the journal is closed. The records that arrive while a batch
+	 * is being forced to the disk are collected in the other buffer and written together in the next batch.
+	 */
+	private void writeBatches() {
+		while (true) {
+			boolean restart; //flag used to check if the file is emptied before this batch
+			synchronized (this) {
+				while (pendingRecords.position() == 0 && !restartPending && !closed) {
+					try {
+						wait(); //wait for new records
+					} catch (InterruptedException e) {
+						return; //the thread was stopped
+					} //close catch(...)
+				} //end while
+				if (pendingRecords.position() == 0 && !restartPending) //closed and nothing left to write
+					break;
+				ByteBuffer records = pendingRecords; //swap the buffers so new records can keep arriving
+				pendingRecords = writtenRecords.clear();
+				writtenRecords = records.flip();
+				restart = restartPending;
+				restartPending = false;
+			} //close synchronized(...)
+			try {
+				writeBatch(writtenRecords, restart);
+			} catch (IOException e) {
+				e.printStackTrace(); //print stack trace if there is an issue (the autosave still saves the game)
+			} //close catch(...)
+		} //end while
+		try {
+			if (channel != null)
+				channel.close(); //close the journal file
+		} catch (IOException e) {
+			e.printStackTrace(); //print stack trace if there is an issue
+		} //close catch(...)
+	} //close writeBatches()
+
+
+	//Append a single batch (length, records, CRC) to the journal and force it to the disk
+	private void writeBatch(ByteBuffer records, boolean restart) throws IOException {
+		if (channel == null) {
+			channel = FileChannel.open(filePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+			channel.position(channel.size()); //new batches are added to the end
+		} //end if
+		if (restart) {
+			channel.truncate(0); //a new game starts the journal over
+			channel.position(0);
+		} //end if
+		if (!records.hasRemaining())
+			return; //nothing to add (an empty restart)
+		checksum.reset(); //CRC of the records in this batch
+		checksum.update(records.duplicate());
+		batchHeader.clear().putInt(records.remaining()).flip();
+		batchChecksum.clear().putInt((int) checksum.getValue()).flip();
+		ByteBuffer[] batch = {batchHeader, records, batchChecksum}; //written with a single call
+		while (batchChecksum.hasRemaining())
+			channel.write(batch);
+		channel.force(false); //the batch reaches the disk (the file size is forced along with the data)
+	} //close writeBatch(...)
+
+
+	/* Rebuild the game that is described by the journal and return it as a game state (the window position,
+	 * size, and the no-guess option are taken from the given game state). When there is no saved game state
+	 * (the program was killed before the first autosave, or both generations are damaged), the no-guess
+	 * option is off and the window bounds are NaN, so the default window bounds are used. Returns null when
+	 * there is no journal or it doesn't describe a game.
+	 */
+	public MinesweeperGameState replay(MinesweeperGameState savedState) throws IOException {
+		if (!Files.isRegularFile(filePath))
+			return null; //nothing to replay
+		ByteBuffer records = readRecords(ByteBuffer.wrap(Files.readAllBytes(filePath))); //every complete batch
+		MinesweeperBoard board = null; //board that the moves are replayed on
+		String difficulty = null, boardIdText = null; //difficulty and board ID of the game
+		boolean generated = false, finished = false; //status of the game
+		int elapsedMillis = 0; //elapsed time of the game
+		try {
+			while (records.hasRemaining()) {
+				byte type = records.get(); //type of the record
+				if (type != BEGIN && board == null)
+					break; //the journal doesn't start with a game
+				switch (type) {
+					case BEGIN: //a new game (the cells are only stored when the board was generated)
+						difficulty = getText(records);
+						boardIdText = getText(records);
+						int rows = records.getInt(), cols = records.getInt(), mines = records.getInt();
+						if (difficulty == null || rows < 1 || cols < 1 || mines < 0 || mines >= rows * cols)
+							throw new IllegalArgumentException("The journal doesn't start with a valid game");
+						int flags = records.get(); //status of the game
+						generated = (flags & GENERATED_FLAG) != 0;
+						finished = (flags & FINISHED_FLAG) != 0;
+						elapsedMillis = records.getInt();
+						int cellCount = records.getInt(); //number of stored cells
+						if (cellCount != 0 && cellCount != rows * cols)
+							throw new IllegalArgumentException("The journal doesn't store every cell");
+						board = new MinesweeperBoard(rows, cols, mines);
+						board.setChangeTracking(false); //nothing is drawn
+						for (int index = 0; index < cellCount; index++) {
+							byte state = records.get(); //packed state of the cell
+							board.setCellData(index, MinesweeperCellData.getCellVal(state),
+							 MinesweeperCellData.hasMine(state), MinesweeperCellData.isHidden(state),
+							 MinesweeperCellData.getComment(state));
+						} //end for
+						break;
+					case SEEDED_BOARD: //regenerate the board from it's board ID
+						boardIdText = getText(records);
+						BoardId.parse(boardIdText).populateBoard(board);
+						generated = true;
+						break;
+					case LAYOUT_BOARD: //place the mines of the bitmap
+						byte[] layout = new byte[records.getInt()]; //mine bitmap
+						records.get(layout);
+						board.placeMines(BitSet.valueOf(layout));
+						boardIdText = null; //the board doesn't have a board ID
+						generated = true;
+						break;
+					case REVEAL: //the same steps as a left click
+					case CHORD: //the same steps as a double click
+					case COMMENT: //the same steps as a right click
+						int cellIndex = records.getInt(); //cell that was clicked
+						elapsedMillis = records.getInt();
+						if (cellIndex < 0 || cellIndex >= board.getRows() * board.getCols())
+							throw new IllegalArgumentException("Cell " + cellIndex + " isn't on the board");
+						if (!finished)
+							finished = replayMove(board, type, cellIndex, generated);
+						break;
+					case RESET: //every cell is hidden again (the board stays the same)
+						board.resetBoard();
+						finished = false;
+						elapsedMillis = 0;
+						break;
+					case TIME: //the elapsed time of the game
+						elapsedMillis = records.getInt();
+						break;
+					default: //unknown record (the rest of the journal can't be read)
+						throw new IllegalArgumentException("Unknown journal record: " + type);
+				} //end switch (type)
+			} //end while
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			//the journal is damaged after this point, so the game is rebuilt up to the last readable record
+		} //close catch(...)
+		if (board == null)
+			return null; //the journal doesn't describe a game
+		byte[] cellStates = null; //packed state of every cell (only for generated boards)
+		if (generated) {
+			cellStates = new byte[board.getRows() * board.getCols()];
+			for (int index = 0; index < cellStates.length; index++) {
+				cellStates[index] = MinesweeperCellData.packCell(board.getCellVal(index), board.hasMine(index),
+				 board.isHidden(index), board.getCellComment(index));
+			} //end for
+		} //end if
+		boolean saved = savedState != null; //flag used to check if the window bounds are known
+		MinesweeperGameState gameState = new MinesweeperGameState(finished, difficulty, board.getRows(),
+		 board.getCols(), board.getTotalMines(), cellStates, elapsedMillis / 1000,
+		 saved ? savedState.getWindowHeight() : Double.NaN, saved ? savedState.getWindowWidth() : Double.NaN,
+		 saved ? savedState.getWindowXPos() : Double.NaN, saved ? savedState.getWindowYPos() : Double.NaN,
+		 saved && savedState.getFullScreenStatus(), generated);
+		//the option isn't part of the journal
+		gameState.setNoGuessStatus(saved && savedState.getNoGuessStatus());
+		gameState.setBoardId(generated ? boardIdText : null);
+		return gameState; //the 3BV and openings are measured again when the board is restored
+	} //close replay(...)
+
+
+	/* Apply a single move to the board with the same rules as the Main class and return whether the game is
+	 * finished (like every other reveal, the first click of a board can win the game).
+	 */
+	private static boolean replayMove(MinesweeperBoard board, byte move, int cellIndex, boolean generated) {
+		if (move == COMMENT) {
+			if (board.isHidden(cellIndex))
+				board.cycleCellComment(cellIndex); //flag -> question mark -> no comment
+			return false;
+		} //end if
+		if (!generated)
+			throw new IllegalArgumentException("A cell was revealed before the board was generated");
+		boolean mineRevealed; //flag used to check if the move revealed a mine
+		if (move == REVEAL) {
+			if (board.hasFlagComment(cellIndex))
+				return false; //cells with a flag comment aren't revealed
+			mineRevealed = board.revealCells(cellIndex) == MinesweeperBoard.MINE_VAL;
+		} else {
+			if (!board.canChordCell(cellIndex))
+				return false; //the flag comments don't match the value of the cell
+			mineRevealed = board.chordCell(cellIndex) >= 0;
+		} //end else
+		if (!mineRevealed && !board.gameWon())
+			return false; //the game goes on
+		for (int i = 0; i < board.getMineCellCount(); i++) { //show the mines like the end of a game does
+			int index = board.getMineCell(i); //cell with a mine
+			if (board.isHidden(index) && (mineRevealed || !board.hasFlagComment(index)))
+				board.exposeMine(index); //every mine for a loss, the unflagged mines for a win
+		} //end for
+		return true;
+	} //close replayMove(...)
+
+
+	//Return the records of every complete batch (the batches after a damaged batch are ignored)
+	private ByteBuffer readRecords(ByteBuffer journal) {
+		ByteBuffer records = ByteBuffer.allocate(journal.capacity()); //records of the valid batches
+		CRC32 batchCrc = new CRC32(); //CRC of each batch
+		while (journal.remaining() >= 8) {
+			int length = journal.getInt(); //length of the batch
+			if (length <= 0 || length > journal.remaining() - 4)
+				break; //the batch was cut short
+			ByteBuffer batch = journal.slice(journal.position(), length); //records of the batch
+			batchCrc.reset();
+			batchCrc.update(batch.duplicate());
+			if ((int) batchCrc.getValue() != journal.getInt(journal.position() + length))
+				break; //the batch was only partly written
+			records.put(batch);
+			journal.position(journal.position() + length + 4); //next batch
+		} //end while
+		return records.flip();
+	} //close readRecords(...)
+
+
+	//Read a text value with a short length (null for a length of -1)
+	private static String getText(ByteBuffer records) {
+		int length = records.getShort(); //length of the text in bytes
+		if (length < 0)
+			return null; //no text
+		byte[] text = new byte[length]; //bytes of the text
+		records.get(text);
+		return new String(text, StandardCharsets.UTF_8);
+	} //close getText(...)
+
+
+	//Return the elapsed time as it is stored in the journal (milliseconds, at most about 24 days)
+	private static int toJournalTime(long elapsedMillis) {
+		return (int) Math.min(Math.max(elapsedMillis, 0), Integer.MAX_VALUE);
+	} //close toJournalTime(...)
+
+} //close class MoveJournal
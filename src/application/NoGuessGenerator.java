@@ -0,0 +1,174 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: NoGuessGenerator.java
+ *
+ * Description: This class generates boards that can be finished without ever guessing. Candidate layouts
+ * are generated on several worker threads at the same time, and each one is played by a MinesweeperSolver
+ * starting from the opening of the clicked cell (only cells that are provably safe are revealed). The
+ * first board that the solver finishes is used, and every other worker stops as soon as it notices that
+ * a board was found. If no board is found within the time limit, a regular board is generated instead,
+ * so the first click never waits too long on dense custom boards. Boards with more than MAX_CELLS cells
+ * are never searched (a single attempt takes longer than the time limit), and a regular board is
+ * generated right away. The number of attempts and the time spent generating are kept so the attempts
+ * per second can be reported.
+ *
+ */
+
+package application;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class NoGuessGenerator {
+	public static final long DEFAULT_TIME_LIMIT_MILLIS = 90; //time allowed before a regular board is used
+	public static final int MAX_CELLS = 10000; //largest board (about 100x100) that is searched for a layout
+	//worker threads used to generate the boards (one core is left for the JavaFX thread)
+	private static final int WORKER_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	//daemon threads, so the program can exit while a worker is still finishing an attempt
+	private static final ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT, runnable -> {
+		Thread thread = new Thread(runnable, "no-guess-generator");
+		thread.setDaemon(true);
+		return thread;
+	}); //close newFixedThreadPool(...)
+
+	private final long timeLimitMillis; //time allowed before a regular board is used
+	private long lastAttempts; //layouts tried by the last generation
+	private long lastNanos; //time spent by the last generation
+	private boolean lastSolvable; //flag used to check if the last generation found a no-guess board
+	private long totalAttempts; //layouts tried by every generation
+	private long totalNanos; //time spent by every generation
+
+
+	//Constructor method for the NoGuessGenerator (uses the default time limit)
+	public NoGuessGenerator() {
+		this(DEFAULT_TIME_LIMIT_MILLIS);
+	} //close NoGuessGenerator(...) constructor
+
+
+	//Constructor method for the NoGuessGenerator
+	public NoGuessGenerator(long timeLimitMillis) {
+		this.timeLimitMillis = timeLimitMillis; //assign the time limit
+	} //close NoGuessGenerator(...) constructor
+
+
+	/* Populate the given board so that it can be finished without guessing, starting from the clicked
+	 * cell. The layout is searched for on the worker threads while this thread waits for the first board
+	 * that is found (or until the time limit runs out, in which case a regular board is generated). The
+	 * cells aren't revealed, and any comments on the board are left untouched. Return whether a no-guess
+	 * board was found.
+	 */
+	public boolean populateBoard(MinesweeperBoard board, int clickedIndex) {
+		long start = System.nanoTime(); //time that the generation started
+		if (!supportsBoard(board.getRows(), board.getCols())) {
+			board.populateBoard(clickedIndex, new Random()); //the board is too large to search
+			lastSolvable = false; //remember the results
+			lastAttempts = 0;
+			lastNanos = System.nanoTime() - start;
+			return false;
+		} //end if
+		AtomicBoolean stop = new AtomicBoolean(); //tells the workers to stop
+		AtomicReference<MinesweeperBoard> winner = new AtomicReference<>(); //first board that was solved
+		AtomicLong attempts = new AtomicLong(); //layouts tried by every worker
+		CountDownLatch found = new CountDownLatch(1); //released once a board is found
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeLimitMillis); //time that the workers give up
+		for (int i = 0; i < WORKER_COUNT; i++) {
+			workers.execute(() -> {
+				//every worker plays its own boards
+				MinesweeperBoard candidate = new MinesweeperBoard(board.getRows(), board.getCols(), board.getTotalMines());
+				candidate.setChangeTracking(false); //nothing is drawn
+				MinesweeperSolver solver = new MinesweeperSolver(candidate); //plays the candidate boards
+				Random random = new Random(); //every worker gets its own seed
+				while (!stop.get() && System.nanoTime() < deadline) {
+					attempts.incrementAndGet(); //one more layout
+					candidate.zeroOutBoard(); //start from an empty board
+					candidate.populateBoard(clickedIndex, random); //generate a new layout
+					if (isSolvable(candidate, solver, clickedIndex, stop) && winner.compareAndSet(null, candidate)) {
+						stop.set(true); //cancel the other workers
+						found.countDown(); //let the waiting thread know
+						return;
+					} //end if
+				} //end while
+			}); //close execute(...)
+		} //end for
+		try {
+			found.await(timeLimitMillis, TimeUnit.MILLISECONDS); //wait for the first board
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); //keep the interrupt status
+		} //close catch(...)
+		stop.set(true); //cancel any workers that are still running
+		MinesweeperBoard solvedBoard = winner.get(); //read once (a worker may still win after the time limit)
+		if (solvedBoard != null)
+			board.copyMines(solvedBoard); //use the board that was found
+		else
+			board.populateBoard(clickedIndex, new Random()); //no board was found in time
+		lastSolvable = solvedBoard != null; //remember the results
+		lastAttempts = attempts.get();
+		lastNanos = System.nanoTime() - start;
+		totalAttempts += lastAttempts;
+		totalNanos += lastNanos;
+		return lastSolvable;
+	} //close populateBoard(...)
+
+
+	//Return whether no-guess boards are generated for boards of the given size (MAX_CELLS cells or less)
+	public static boolean supportsBoard(int rows, int cols) {
+		return (long) rows * cols <= MAX_CELLS;
+	} //close supportsBoard(...)
+
+
+	/* Play the given board using only the cells that the solver proves to be safe, starting from the
+	 * clicked cell. Return whether every safe cell could be revealed (the board doesn't require a guess).
+	 * The search gives up as soon as the stop flag is set (another worker found a board).
+	 */
+	static boolean isSolvable(MinesweeperBoard candidate, MinesweeperSolver solver, int clickedIndex,
+	 AtomicBoolean stop) {
+		solver.reset(); //nothing is revealed yet
+		candidate.revealCells(clickedIndex); //reveal the opening
+		solver.cellsRevealed();
+		solver.solve(); //deduce everything that follows from the opening
+		for (int next = 0; next < solver.getSafeCellCount(); next++) {
+			if (stop.get())
+				return false; //another worker already found a board
+			int cell = solver.getSafeCell(next); //next cell that is known to be safe
+			if (candidate.isHidden(cell)) {
+				candidate.revealCells(cell); //reveal the cell
+				solver.cellsRevealed();
+				solver.solve(); //deduce everything that follows from it
+			} //end if
+		} //end for
+		return candidate.gameWon(); //every safe cell was revealed without guessing
+	} //close isSolvable(...)
+
+
+	//Return whether the last generation found a no-guess board
+	public boolean wasLastSolvable() {
+		return lastSolvable;
+	} //close wasLastSolvable()
+
+
+	//Return the number of layouts that were tried by the last generation
+	public long getLastAttempts() {
+		return lastAttempts;
+	} //close getLastAttempts()
+
+
+	//Return the time (in milliseconds) spent by the last generation
+	public double getLastMillis() {
+		return lastNanos / 1e6;
+	} //close getLastMillis()
+
+
+	//Return the layouts tried per second by every generation so far
+	public double getAttemptsPerSecond() {
+		return (totalNanos == 0) ? 0 : totalAttempts * 1e9 / totalNanos;
+	} //close getAttemptsPerSecond()
+
+} //close class NoGuessGenerator
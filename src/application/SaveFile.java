@@ -0,0 +1,168 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: SaveFile.java
+ *
+ * Description: This class writes a save file so that a crash (or the program being killed) in the middle
+ * of a save never leaves a half-written file behind. Every save is written to a temporary file next to the
+ * save file, forced to the disk, and then moved over the save file with an atomic rename. The file that
+ * is replaced is kept as the previous generation (".bak"), so when the newest file fails its checksum (or
+ * is missing because the program stopped between the two renames), the previous generation is loaded
+ * instead.
+ *
+ * Serializable objects (the statistics) are saved with a small header in front of the serialized bytes:
+ * a magic number, the length of the serialized bytes, and their CRC-32. Files that were written by older
+ * versions (plain ObjectOutputStream files without the header) are still read. The binary game state has
+ * it's own CRC, so the GameStateFile only uses the atomic write and the generations.
+ *
+ */
+
+package application;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+public class SaveFile {
+	private static final int MAGIC = 0x4D53434B; //"MSCK" (an object saved with a checksum)
+	private static final int HEADER_SIZE = 12; //magic number, length, and CRC of a saved object
+	private final Path filePath; //newest generation of the save file
+	private final Path backupPath; //previous generation of the save file
+	private final Path tempPath; //file that is written before it replaces the save file
+
+
+	//Constructor method for the SaveFile
+	public SaveFile(Path filePath) {
+		this.filePath = filePath; //assign the save file
+		backupPath = filePath.resolveSibling(filePath.getFileName() + ".bak"); //previous generation
+		tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp"); //file being written
+	} //close SaveFile(...) constructor
+
+
+	/* Replace the save file with the given data. The data is written to the temporary file and forced to
+	 * the disk before any rename happens, so the save file is either the old one or the new one.
+	 */
+	public synchronized void write(ByteBuffer data) throws IOException {
+		try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+		 StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (data.hasRemaining())
+				channel.write(data); //a single write normally takes the whole buffer
+			channel.force(true); //the data reaches the disk before the file is renamed
+		} //close try
+		if (Files.exists(filePath))
+			moveFile(filePath, backupPath); //keep the current save as the previous generation
+		moveFile(tempPath, filePath); //the new save replaces the current one
+		forceDirectory(); //make the renames durable as well
+	} //close write(...)
+
+
+	/* Return the newest generation of the save file that the decoder accepts (the decoder returns null for
+	 * data that fails its checks). Returns null when no generation can be used.
+	 */
+	public synchronized <T> T read(Function<ByteBuffer, T> decoder) throws IOException {
+		for (Path path : new Path[] {filePath, backupPath}) { //newest generation first
+			if (!Files.isRegularFile(path))
+				continue; //this generation doesn't exist
+			T result; //contents of the generation (null when it failed the checks)
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				long size = channel.size(); //size of the file
+				if (size > Integer.MAX_VALUE)
+					continue; //too large to be a save file
+				ByteBuffer data = ByteBuffer.allocate((int) size); //holds the whole file
+				while (data.hasRemaining() && channel.read(data) >= 0); //read the whole file
+				result = decoder.apply(data.flip());
+			} //close try
+			if (result != null)
+				return result; //the newest usable generation
+		} //end for
+		return null; //neither generation can be used
+	} //close read(...)
+
+
+	//Save a serializable object with a checksum
+	public void writeObject(Serializable object) throws IOException {
+		write(encodeObject(object));
+	} //close writeObject(...)
+
+
+	//Return the newest saved object that passes the checksum (null when no generation can be used)
+	public Object readObject() throws IOException {
+		return read(SaveFile::decodeObject);
+	} //close readObject()
+
+
+	/* Return the data that is saved for a serializable object (serialize it on the calling thread, so the
+	 * data can be written by another thread while the object keeps changing).
+	 */
+	public static ByteBuffer encodeObject(Serializable object) throws IOException {
+		ByteArrayOutputStream bytesOut = new ByteArrayOutputStream(); //holds the serialized object
+		bytesOut.write(new byte[HEADER_SIZE]); //room for the header
+		try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+			objectOut.writeObject(object); //serialize the object
+		} //close try
+		ByteBuffer data = ByteBuffer.wrap(bytesOut.toByteArray()); //header followed by the object
+		CRC32 checksum = new CRC32(); //CRC of the serialized object
+		checksum.update(data.array(), HEADER_SIZE, data.capacity() - HEADER_SIZE);
+		data.putInt(0, MAGIC).putInt(4, data.capacity() - HEADER_SIZE).putInt(8, (int) checksum.getValue());
+		return data;
+	} //close encodeObject(...)
+
+
+	/* Return the object held in the saved data (null when the data is damaged). Data without the header was
+	 * written by an older version, and is read as long as the object can still be deserialized.
+	 */
+	private static Object decodeObject(ByteBuffer data) {
+		byte[] bytes = data.array(); //saved data (read into a heap buffer)
+		int offset = 0, length = bytes.length; //serialized object (the whole file for older versions)
+		if (length >= HEADER_SIZE && data.getInt(0) == MAGIC) {
+			length = data.getInt(4); //length of the serialized object
+			if (length != bytes.length - HEADER_SIZE)
+				return null; //the file was cut short
+			CRC32 checksum = new CRC32(); //CRC of the serialized object
+			checksum.update(bytes, HEADER_SIZE, length);
+			if ((int) checksum.getValue() != data.getInt(8))
+				return null; //the file was changed after it was saved
+			offset = HEADER_SIZE; //skip the header
+		} //end if
+		try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes, offset, length))) {
+			return objectIn.readObject(); //retrieve the object
+		} catch (IOException | ClassNotFoundException e) {
+			return null; //a damaged file from an older version (no checksum)
+		} //close catch(...)
+	} //close decodeObject(...)
+
+
+	//Rename a file with an atomic move (a plain move when the file system doesn't support atomic moves)
+	private static void moveFile(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		} //close catch(...)
+	} //close moveFile(...)
+
+
+	//Force the directory of the save file to the disk (failures are ignored, since some platforms can't)
+	private void forceDirectory() {
+		Path directory = filePath.toAbsolutePath().getParent(); //directory that holds the save file
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true); //the renames reach the disk
+		} catch (IOException e) {
+			//the renames are still atomic, they just might not be durable yet
+		} //close catch(...)
+	} //close forceDirectory()
+
+} //close class SaveFile
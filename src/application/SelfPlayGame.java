@@ -0,0 +1,142 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: SelfPlayGame.java
+ *
+ * Description: This class plays a single game at a time without a display, for the self-play harness and
+ * any other bots. The left click, double click, and right click actions follow the same steps as the ones
+ * in the Main class (the first click populates the board, a flag comment stops a reveal, a chord only
+ * happens when canChordCell(...) agrees, and the game is won once every safe cell is revealed), and they
+ * use the same MinesweeperBoard methods to apply the rules, so the results match the real game. The board
+ * doesn't record its changes, since nothing is drawn. Every board is generated with the given random
+ * number generator, and the number of guesses made by the strategy is kept for the statistics.
+ *
+ */
+
+package application;
+import java.util.random.RandomGenerator;
+
+public class SelfPlayGame {
+	private final MinesweeperBoard gameBoard; //holds the state of every cell and applies the game rules
+	private final RandomGenerator random; //generates the boards (and any random choices of the strategy)
+	private boolean gameGenerated; //flag used to check if a game is generated or not
+	private boolean gameOver; //flag used to check if a game is finished
+	private boolean mineRevealed; //flag used to check if a mine was revealed
+	private int guesses; //number of cells revealed without knowing that they were safe
+	private int moves; //number of actions that were performed
+
+
+	//Constructor method for the SelfPlayGame
+	public SelfPlayGame(int rows, int cols, int mines, RandomGenerator random) {
+		gameBoard = new MinesweeperBoard(rows, cols, mines); //create the board state
+		gameBoard.setChangeTracking(false); //nothing is drawn
+		this.random = random; //assign the random number generator
+	} //close SelfPlayGame(...) constructor
+
+
+	//Zero out the board and reset the game variables (the board is populated by the first click)
+	public void newGame() {
+		gameBoard.zeroOutBoard(); //every cell is hidden
+		gameGenerated = false; //default value
+		gameOver = false; //default value
+		mineRevealed = false; //default value
+		guesses = 0; //default value
+		moves = 0; //default value
+	} //close newGame()
+
+
+	/* A left click reveals the cell (and any adjacent non-mine cells). The first left click populates the
+	 * board around the clicked cell. Cells with a flag comment aren't revealed.
+	 */
+	public void leftClickAction(int cellIndex) {
+		moves++; //one more action
+		if (!gameGenerated && !gameBoard.hasFlagComment(cellIndex)) {
+			gameBoard.populateBoard(cellIndex, random); //create a new game
+			gameBoard.revealCells(cellIndex); //reveal the clicked cell
+			gameGenerated = true; //let the program know that a game has been generated
+			gameOver = gameBoard.gameWon(); //tiny boards can be won by the first click
+		} else if (!gameOver && !gameBoard.hasFlagComment(cellIndex)) {
+			//reveal the cells and check to see if a revealed cell contains a mine
+			mineRevealed = (gameBoard.revealCells(cellIndex) == MinesweeperBoard.MINE_VAL);
+			gameOver = mineRevealed || gameBoard.gameWon(); //update game status
+		} //end if
+	} //close leftClickAction(...)
+
+
+	//Reveal a cell that isn't known to be safe (a left click that is counted as a guess)
+	public void guess(int cellIndex) {
+		guesses++; //one more guess
+		leftClickAction(cellIndex);
+	} //close guess(...)
+
+
+	/* A double click reveals every neighbor of the cell that doesn't have a flag comment, as long as the
+	 * flag comments around the cell match its value. The first double click populates the board instead.
+	 */
+	public void doubleClickAction(int cellIndex) {
+		moves++; //one more action
+		if (!gameGenerated && !gameBoard.hasFlagComment(cellIndex)) {
+			gameBoard.populateBoard(cellIndex, random); //generate a new game
+			gameBoard.revealCells(cellIndex); //reveal the clicked cell
+			gameGenerated = true; //let the program know that a game has been generated
+			gameOver = gameBoard.gameWon(); //tiny boards can be won by the first click
+		} else if (!gameOver && gameBoard.canChordCell(cellIndex)) {
+			//a neighboring mine is only revealed when an incorrect flag comment was placed on the board
+			mineRevealed = gameBoard.chordCell(cellIndex) >= 0;
+			gameOver = mineRevealed || gameBoard.gameWon(); //update game status
+		} //end if
+	} //close doubleClickAction(...)
+
+
+	//A right click cycles the comment of a hidden cell (flag -> question mark -> no comment)
+	public void rightClickAction(int cellIndex) {
+		moves++; //one more action
+		if (!gameOver && gameBoard.isHidden(cellIndex))
+			gameBoard.cycleCellComment(cellIndex);
+	} //close rightClickAction(...)
+
+
+	//Return the board of the game
+	public MinesweeperBoard getBoard() {
+		return gameBoard;
+	} //close getBoard()
+
+
+	//Return the random number generator of the game
+	public RandomGenerator getRandom() {
+		return random;
+	} //close getRandom()
+
+
+	//Return whether the board was populated (the first click was made)
+	public boolean isGameGenerated() {
+		return gameGenerated;
+	} //close isGameGenerated()
+
+
+	//Return whether the game is finished
+	public boolean isGameOver() {
+		return gameOver;
+	} //close isGameOver()
+
+
+	//Return whether the game was won
+	public boolean isGameWon() {
+		return gameOver && !mineRevealed;
+	} //close isGameWon()
+
+
+	//Return the number of guesses that were made
+	public int getGuesses() {
+		return guesses;
+	} //close getGuesses()
+
+
+	//Return the number of actions that were performed
+	public int getMoves() {
+		return moves;
+	} //close getMoves()
+
+} //close class SelfPlayGame
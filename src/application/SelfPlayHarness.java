@@ -0,0 +1,356 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: SelfPlayHarness.java
+ *
+ * Description: This class plays a large number of games without a display, using a pluggable Strategy to
+ * decide every move, and reports the win rate, the mean number of guesses, the distribution of the boards'
+ * 3BV (Bechtel's Board Benchmark Value, the minimum number of clicks needed to clear the board), and the
+ * number of games played per second. The games are split evenly across a fixed pool of worker threads (one
+ * per core by default). Every worker gets its own random number generator, split from a single seeded
+ * generator in a fixed order, so the same seed and thread count always play the same games. Each worker
+ * reuses one SelfPlayGame (and one strategy) for all of its games, so nothing is allocated per game.
+ *
+ * Usage: java application.SelfPlayHarness [EASY|MEDIUM|HARD] [games] [random|solver|probability]
+ *  [threads] [seed]
+ *
+ */
+
+package application;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+public class SelfPlayHarness {
+	private static final int DEFAULT_GAMES = 100_000; //games played when no count is given
+	private static final long DEFAULT_SEED = 20230201L; //seed used when no seed is given
+	private static final int MOVE_LIMIT_PER_CELL = 4; //a game is given up after this many moves per cell
+	private static final int HISTOGRAM_BUCKETS = 12; //maximum number of rows in the 3BV histogram
+	private static final int HISTOGRAM_WIDTH = 50; //characters used by the longest histogram bar
+
+
+	//The standard difficulties (the same sizes as the Main class)
+	private enum Difficulty {
+		EASY(9, 9, 10),
+		MEDIUM(16, 16, 40),
+		HARD(16, 30, 99);
+
+		private final int rows, cols, mines; //dimensions and mine count of the difficulty
+
+		Difficulty(int rows, int cols, int mines) {
+			this.rows = rows;
+			this.cols = cols;
+			this.mines = mines;
+		} //close Difficulty(...) constructor
+	} //close enum Difficulty
+
+
+	/* Decides the moves of a self-play game. Every worker thread gets it's own strategy, so strategies can
+	 * keep state between moves (and reuse it between games) without any synchronization.
+	 */
+	public interface Strategy {
+		//Called before every game (the board is empty until the first click)
+		void startGame(SelfPlayGame game);
+
+		//Perform one move (a left click, guess, double click, or right click) on the unfinished game
+		void playMove(SelfPlayGame game);
+	} //close interface Strategy
+
+
+	//The totals of a batch of games (each worker keeps it's own, and they are merged at the end)
+	public static class Results {
+		private long games; //games played
+		private long wins; //games won
+		private long guesses; //guesses made in every game
+		private long totalBoardValue; //3BV of every board
+		private final long[] boardValueCounts; //number of boards with each 3BV
+		private long nanos; //time spent playing the games
+
+		//Constructor method for the Results (a board can't have a 3BV larger than it's number of cells)
+		public Results(int cellCount) {
+			boardValueCounts = new long[cellCount + 1];
+		} //close Results(...) constructor
+
+		//Add the result of a single game
+		private void addGame(boolean won, int gameGuesses, int boardValue) {
+			games++;
+			wins += won ? 1 : 0;
+			guesses += gameGuesses;
+			totalBoardValue += boardValue;
+			boardValueCounts[boardValue]++;
+		} //close addGame(...)
+
+		//Add the totals of another batch of games
+		private void merge(Results other) {
+			games += other.games;
+			wins += other.wins;
+			guesses += other.guesses;
+			totalBoardValue += other.totalBoardValue;
+			for (int value = 0; value < boardValueCounts.length; value++)
+				boardValueCounts[value] += other.boardValueCounts[value];
+		} //close merge(...)
+
+		//Return the number of games played
+		public long getGames() {
+			return games;
+		} //close getGames()
+
+		//Return the number of games won
+		public long getWins() {
+			return wins;
+		} //close getWins()
+
+		//Return the fraction of games that were won
+		public double getWinRate() {
+			return (games == 0) ? 0 : (double) wins / games;
+		} //close getWinRate()
+
+		//Return the mean number of guesses per game
+		public double getMeanGuesses() {
+			return (games == 0) ? 0 : (double) guesses / games;
+		} //close getMeanGuesses()
+
+		//Return the mean 3BV of the boards
+		public double getMeanBoardValue() {
+			return (games == 0) ? 0 : (double) totalBoardValue / games;
+		} //close getMeanBoardValue()
+
+		//Return the number of boards with the given 3BV
+		public long getBoardValueCount(int boardValue) {
+			return boardValueCounts[boardValue];
+		} //close getBoardValueCount(...)
+
+		//Return the smallest 3BV that at least the given fraction (0-1) of the boards don't exceed
+		public int getBoardValuePercentile(double fraction) {
+			long target = (long) Math.ceil(fraction * games); //boards at or below the percentile
+			long seen = 0; //boards counted so far
+			for (int value = 0; value < boardValueCounts.length; value++) {
+				seen += boardValueCounts[value];
+				if (seen >= Math.max(target, 1))
+					return value;
+			} //end for
+			return 0; //no games were played
+		} //close getBoardValuePercentile(...)
+
+		//Return the number of games played per second (wall-clock time of the whole batch)
+		public double getGamesPerSecond() {
+			return (nanos == 0) ? 0 : games * 1e9 / nanos;
+		} //close getGamesPerSecond()
+	} //close class Results
+
+
+	/* Play the given number of games on a board of the given size, with a new strategy from the supplier on
+	 * every worker thread, and return the merged results. The games are split evenly across the threads.
+	 */
+	public static Results run(int rows, int cols, int mines, int games, Supplier<Strategy> strategies,
+	 int threads, long seed) throws InterruptedException, ExecutionException {
+		RandomGenerator.SplittableGenerator root =
+		 (RandomGenerator.SplittableGenerator) BoardId.createGenerator(BoardId.DEFAULT_ALGORITHM, seed);
+		ExecutorService workers = Executors.newFixedThreadPool(threads); //one worker per thread
+		List<Future<Results>> batches = new ArrayList<>(); //results of every worker
+		long start = System.nanoTime(); //time that the games started
+		try {
+			for (int worker = 0; worker < threads; worker++) {
+				//spread the remainder over the first workers
+				int workerGames = games / threads + (worker < games % threads ? 1 : 0);
+				RandomGenerator random = root.split(); //split in a fixed order, so the games are repeatable
+				batches.add(workers.submit(() -> playGames(rows, cols, mines, workerGames, strategies.get(), random)));
+			} //end for
+			Results results = new Results(rows * cols); //totals of every worker
+			for (Future<Results> batch : batches)
+				results.merge(batch.get()); //wait for the worker and add it's totals
+			results.nanos = System.nanoTime() - start;
+			return results;
+		} finally {
+			workers.shutdownNow(); //the workers are no longer needed
+		} //close finally
+	} //close run(...)
+
+
+	//Play a batch of games on the current thread (one game object and one strategy for every game)
+	private static Results playGames(int rows, int cols, int mines, int games, Strategy strategy,
+	 RandomGenerator random) {
+		SelfPlayGame game = new SelfPlayGame(rows, cols, mines, random); //reused for every game
+		BoardMetrics metrics = new BoardMetrics(); //measures every board
+		Results results = new Results(rows * cols); //totals of this worker
+		int moveLimit = MOVE_LIMIT_PER_CELL * rows * cols; //stops strategies that make no progress
+		for (int i = 0; i < games; i++) {
+			game.newGame(); //empty board
+			strategy.startGame(game);
+			int boardValue = 0; //3BV of the board (measured once the board is populated)
+			while (!game.isGameOver() && game.getMoves() < moveLimit) {
+				boolean generated = game.isGameGenerated(); //flag used to check if this is the first click
+				strategy.playMove(game); //let the strategy move
+				if (!generated && game.isGameGenerated()) {
+					metrics.measure(game.getBoard()); //the board was just populated
+					boardValue = metrics.getBoardValue();
+				} //end if
+			} //end while
+			results.addGame(game.isGameWon(), game.getGuesses(), boardValue);
+		} //end for
+		return results;
+	} //close playGames(...)
+
+
+	//Clicks random hidden cells that don't have a flag comment (every click after the first is a guess)
+	private static class RandomStrategy implements Strategy {
+		@Override
+		public void startGame(SelfPlayGame game) {
+			//nothing to reset
+		} //close startGame(...)
+
+		@Override
+		public void playMove(SelfPlayGame game) {
+			MinesweeperBoard board = game.getBoard(); //board being played
+			int cell; //cell that is clicked
+			do {
+				cell = game.getRandom().nextInt(board.getCellCount()); //random cell
+			} while (!board.isHidden(cell) || board.hasFlagComment(cell));
+			if (game.isGameGenerated())
+				game.guess(cell); //the cell isn't known to be safe
+			else
+				game.leftClickAction(cell); //the first click is always safe
+		} //close playMove(...)
+	} //close class RandomStrategy
+
+
+	/* Opens the board in the center, then reveals the cells that the MinesweeperSolver proves to be safe,
+	 * one at a time. When nothing is known to be safe, it guesses either a random cell that isn't known to
+	 * be a mine, or (when probabilities are used) the cell with the lowest chance of being a mine.
+	 */
+	private static class SolverStrategy implements Strategy {
+		private final boolean useProbabilities; //flag used to check if guesses use the probabilities
+		private MinesweeperSolver solver; //deduces the safe cells (created for the first board)
+		private MineProbabilityCalculator calculator; //chooses the guesses (when probabilities are used)
+		private int nextSafe; //next deduction of the solver that wasn't looked at yet
+
+		//Constructor method for the SolverStrategy
+		private SolverStrategy(boolean useProbabilities) {
+			this.useProbabilities = useProbabilities;
+		} //close SolverStrategy(...) constructor
+
+		@Override
+		public void startGame(SelfPlayGame game) {
+			if (solver == null) { //the same board is used for every game of the worker
+				solver = new MinesweeperSolver(game.getBoard());
+				calculator = useProbabilities ? new MineProbabilityCalculator(game.getBoard(), solver) : null;
+			} //end if
+		} //close startGame(...)
+
+		@Override
+		public void playMove(SelfPlayGame game) {
+			MinesweeperBoard board = game.getBoard(); //board being played
+			if (!game.isGameGenerated()) {
+				game.leftClickAction(board.getIndex(board.getRows() / 2, board.getCols() / 2)); //open the board
+				solver.reset(); //examine the opening
+				nextSafe = 0; //no deductions were used yet
+				return;
+			} //end if
+			while (nextSafe < solver.getSafeCellCount()) {
+				int cell = solver.getSafeCell(nextSafe++); //next cell that is known to be safe
+				if (board.isHidden(cell)) {
+					game.leftClickAction(cell); //reveal the cell
+					update();
+					return;
+				} //end if
+			} //end while
+			game.guess(useProbabilities ? findSafestCell(board) : findRandomCell(game)); //nothing is known
+			update();
+		} //close playMove(...)
+
+		//Let the solver know about the cells that were just revealed and deduce everything that follows
+		private void update() {
+			solver.cellsRevealed();
+			solver.solve();
+		} //close update()
+
+		//Return a random hidden cell that isn't known to be a mine
+		private int findRandomCell(SelfPlayGame game) {
+			MinesweeperBoard board = game.getBoard(); //board being played
+			int cell; //random cell
+			do {
+				cell = game.getRandom().nextInt(board.getCellCount());
+			} while (!board.isHidden(cell) || solver.isKnownMine(cell));
+			return cell;
+		} //close findRandomCell(...)
+
+		//Return the hidden cell with the lowest chance of containing a mine
+		private int findSafestCell(MinesweeperBoard board) {
+			calculator.calculate(); //chance of every hidden cell
+			int safest = -1; //safest cell found so far
+			for (int cell = 0; cell < board.getCellCount(); cell++) {
+				if (board.isHidden(cell) && !solver.isKnownMine(cell) && (safest < 0 ||
+				 calculator.getMineProbability(cell) < calculator.getMineProbability(safest)))
+					safest = cell;
+			} //end for
+			return safest;
+		} //close findSafestCell(...)
+	} //close class SolverStrategy
+
+
+	//Return a supplier of the strategy with the given name (random, solver, or probability)
+	public static Supplier<Strategy> getStrategy(String name) {
+		switch (name.toLowerCase()) {
+			case "random":
+				return RandomStrategy::new;
+			case "solver":
+				return () -> new SolverStrategy(false);
+			case "probability":
+				return () -> new SolverStrategy(true);
+			default:
+				throw new IllegalArgumentException("Unknown strategy: " + name + " (random, solver, probability)");
+		} //end switch (name)
+	} //close getStrategy(...)
+
+
+	//Play the games that are described by the arguments and print the results
+	public static void main(String[] args) throws Exception {
+		Difficulty difficulty = Difficulty.valueOf((args.length > 0) ? args[0].toUpperCase() : "HARD");
+		int games = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+		String strategyName = (args.length > 2) ? args[2] : "solver";
+		int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+		long seed = (args.length > 4) ? Long.parseLong(args[4]) : DEFAULT_SEED;
+		Supplier<Strategy> strategies = getStrategy(strategyName); //strategy of every worker
+
+		System.out.printf("%s %dx%d/%d, strategy %s, %d games on %d threads (seed %d)%n", difficulty,
+		 difficulty.rows, difficulty.cols, difficulty.mines, strategyName, games, threads, seed);
+		Results results = run(difficulty.rows, difficulty.cols, difficulty.mines, games, strategies, threads, seed);
+		System.out.printf("win rate      %.2f%% (%d wins)%n", results.getWinRate() * 100, results.getWins());
+		System.out.printf("mean guesses  %.3f per game%n", results.getMeanGuesses());
+		System.out.printf("3BV           min %d, p10 %d, median %d, p90 %d, max %d, mean %.2f%n",
+		 results.getBoardValuePercentile(0), results.getBoardValuePercentile(0.1),
+		 results.getBoardValuePercentile(0.5), results.getBoardValuePercentile(0.9),
+		 results.getBoardValuePercentile(1), results.getMeanBoardValue());
+		printHistogram(results);
+		System.out.printf("games/sec     %.0f (%.0f games/min)%n", results.getGamesPerSecond(),
+		 results.getGamesPerSecond() * 60);
+	} //close main(...)
+
+
+	//Print the 3BV distribution as a histogram (between the 1st and the 99th percentile)
+	private static void printHistogram(Results results) {
+		int low = results.getBoardValuePercentile(0.01); //first 3BV shown
+		int high = results.getBoardValuePercentile(0.99); //last 3BV shown
+		int bucketSize = Math.max(1, (high - low + HISTOGRAM_BUCKETS) / HISTOGRAM_BUCKETS); //3BVs per row
+		long[] buckets = new long[HISTOGRAM_BUCKETS]; //boards in every row
+		long largest = 1; //boards in the fullest row
+		for (int value = low; value <= high; value++) {
+			int bucket = Math.min((value - low) / bucketSize, HISTOGRAM_BUCKETS - 1);
+			buckets[bucket] += results.getBoardValueCount(value);
+			largest = Math.max(largest, buckets[bucket]);
+		} //end for
+		for (int bucket = 0; bucket < HISTOGRAM_BUCKETS && low + bucket * bucketSize <= high; bucket++) {
+			int first = low + bucket * bucketSize; //first 3BV of the row
+			String bar = "#".repeat((int) (buckets[bucket] * HISTOGRAM_WIDTH / largest)); //length of the row
+			System.out.printf("  %4d-%-4d %8d %s%n", first, first + bucketSize - 1, buckets[bucket], bar);
+		} //end for
+	} //close printHistogram(...)
+
+} //close class SelfPlayHarness
@@ -0,0 +1,306 @@
+/*
+ * Victor Espinoza
+ * Created December 2022 - February 2023
+ * Project: Minesweeper
+ *
+ * File Name: ViewportBoardRenderer.java
+ *
+ * Description: This class displays the Minesweeper board through a scrolling, zoomable viewport. The board
+ * is split into square tiles of cells, and every tile is drawn onto its own small Canvas. Only the tiles
+ * that are visible (plus a small cache of recently visible tiles) exist at any time, so the memory used
+ * by the display depends on the size of the window instead of the size of the board. Scrolling simply
+ * moves the existing tiles around; a tile is only drawn from the board state when it first appears. This
+ * allows custom games that are far larger than the window (up to 5000 x 5000 cells).
+ *
+ * Controls: the mouse wheel scrolls vertically, Shift + mouse wheel scrolls horizontally, and
+ * Ctrl + mouse wheel zooms in and out around the mouse position.
+ *
+ */
+
+package application;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+public class ViewportBoardRenderer implements BoardRenderer {
+	private static final int TILE_CELLS = 32; //number of cells along each side of a tile
+	private static final int TILE_CACHE_EXTRA = 64; //number of off-screen tiles that are kept around
+	private static final double DEFAULT_CELL_PITCH = 26; //default distance between cells (23 + 3 gap)
+	private static final double MIN_CELL_PITCH = 4; //smallest zoom level
+	private static final double MAX_CELL_PITCH = 79; //largest zoom level (76 + 3 gap)
+	private static final double GAP_RATIO = 3.0 / DEFAULT_CELL_PITCH; //size of the gap relative to the pitch
+	private static final double ZOOM_FACTOR = 1.1; //zoom applied by every notch of the mouse wheel
+	private static final int MIN_VISIBLE_CELLS = 9; //the viewport always has room for at least 9 x 9 cells
+	private final IntConsumer cellRenderer; //redraws a single cell (used when a tile is created)
+	private final CellPainter cellPainter = new CellPainter(); //draws the individual cells
+	private final Pane viewport; //resizable container for the tiles and scroll bars
+	private final Pane tileLayer = new Pane(); //holds the tiles that are currently visible
+	private final Rectangle tileClip = new Rectangle(); //keeps the tiles from drawing over the scroll bars
+	private final ScrollBar hBar = new ScrollBar(); //horizontal scroll bar
+	private final ScrollBar vBar = new ScrollBar(); //vertical scroll bar
+	//every tile that currently exists (least recently used tiles come first)
+	private final Map<Integer, Canvas> tiles = new LinkedHashMap<>(16, 0.75f, true);
+	private final ArrayDeque<Canvas> tilePool = new ArrayDeque<>(); //evicted tiles that can be reused
+	private int gameRows; //number of rows on the board
+	private int gameCols; //number of columns on the board
+	private int tileCols; //number of tile columns on the board
+	private double cellPitch; //distance between the top-left corners of neighboring cells
+	private double cellSize; //size of each cell (the pitch minus the gap)
+	private double viewWidth; //width of the area where the tiles are visible
+	private double viewHeight; //height of the area where the tiles are visible
+	private double offsetX; //horizontal offset used to center boards that are narrower than the view
+	private double offsetY; //vertical offset used to center boards that are shorter than the view
+	private boolean userZoomed; //flag used to check if the user picked a zoom level
+
+
+	//Constructor method for the ViewportBoardRenderer
+	public ViewportBoardRenderer(IntConsumer renderer) {
+		cellRenderer = renderer; //assign the renderer
+		//the tiles and scroll bars are positioned manually during layout
+		viewport = new Pane() {
+			@Override
+			protected void layoutChildren() {
+				layoutViewport(getWidth(), getHeight()); //position the scroll bars and the visible tiles
+			} //close layoutChildren()
+		}; //close Pane
+		hBar.setOrientation(Orientation.HORIZONTAL); //horizontal scroll bar
+		vBar.setOrientation(Orientation.VERTICAL); //vertical scroll bar
+		tileLayer.setManaged(false); //the tile layer is positioned manually
+		hBar.setManaged(false); //the scroll bar is positioned manually
+		vBar.setManaged(false); //the scroll bar is positioned manually
+		tileLayer.setClip(tileClip); //hide the parts of the tiles that are outside of the view
+		viewport.getChildren().addAll(tileLayer, hBar, vBar); //add everything to the viewport
+		//scrolling only moves the tiles around (new tiles are drawn when they appear)
+		hBar.valueProperty().addListener(observable -> updateVisibleTiles());
+		vBar.valueProperty().addListener(observable -> updateVisibleTiles());
+		viewport.setOnScroll(this::handleScroll); //scroll or zoom with the mouse wheel
+	} //close ViewportBoardRenderer(...) constructor
+
+
+	//Return the viewport that holds the tiles
+	@Override
+	public Region getView() {
+		return viewport;
+	} //close getView()
+
+
+	//Prepare the viewport for a new (empty) board with the given amount of rows and columns
+	@Override
+	public void createCells(int rows, int cols) {
+		gameRows = rows; //assign the number of rows
+		gameCols = cols; //assign the number of columns
+		tileCols = (cols + TILE_CELLS - 1) / TILE_CELLS; //round up to include partial tiles
+		//the viewport always has enough room to display a beginner board
+		viewport.setMinSize(MIN_VISIBLE_CELLS * DEFAULT_CELL_PITCH, MIN_VISIBLE_CELLS * DEFAULT_CELL_PITCH);
+		userZoomed = false; //fit the new board to the view again
+		setCellPitch(DEFAULT_CELL_PITCH); //start at the default zoom level
+		hBar.setValue(0); //scroll back to the top-left corner
+		vBar.setValue(0);
+		viewport.requestLayout(); //lay out the new board
+	} //close createCells(...)
+
+
+	//Change the zoom level; every tile must be drawn again at the new size
+	private void setCellPitch(double pitch) {
+		cellPitch = pitch; //assign the new pitch
+		cellSize = pitch - Math.max(1, Math.round(pitch * GAP_RATIO)); //leave a gap between cells
+		cellPainter.setCellSize(cellSize, cellSize); //update the size of the painted cells
+		tileLayer.getChildren().clear(); //remove the old tiles from the view
+		tilePool.addAll(tiles.values()); //the old tiles can be reused at the new size
+		tiles.clear(); //there are no tiles at the new zoom level yet
+	} //close setCellPitch(...)
+
+
+	/* Position the scroll bars and the tiles within the viewport. Unless the user zoomed in or out, the
+	 * cells are made as big as possible while still fitting the whole board (but never smaller than the
+	 * default size; the rest of the board can be reached by scrolling).
+	 */
+	private void layoutViewport(double width, double height) {
+		if (gameRows == 0 || gameCols == 0)
+			return; //there is no board to display yet
+		if (!userZoomed) {
+			double fitPitch = Math.floor(Math.min(width / gameCols, height / gameRows)); //pitch that fits
+			fitPitch = Math.max(DEFAULT_CELL_PITCH, Math.min(MAX_CELL_PITCH, fitPitch)); //keep it in range
+			if (fitPitch != cellPitch)
+				setCellPitch(fitPitch); //zoom to the new size
+		} //end if
+		double contentWidth = gameCols * cellPitch; //width of the whole board
+		double contentHeight = gameRows * cellPitch; //height of the whole board
+		double barWidth = vBar.prefWidth(-1); //width of the vertical scroll bar
+		double barHeight = hBar.prefHeight(-1); //height of the horizontal scroll bar
+		//only display the scroll bars that are needed (a scroll bar takes space from the other direction)
+		boolean needHBar = contentWidth > width;
+		boolean needVBar = contentHeight > (needHBar ? height - barHeight : height);
+		needHBar = contentWidth > (needVBar ? width - barWidth : width);
+		viewWidth = needVBar ? width - barWidth : width; //width left for the tiles
+		viewHeight = needHBar ? height - barHeight : height; //height left for the tiles
+		hBar.setVisible(needHBar); //update the horizontal scroll bar
+		hBar.resizeRelocate(0, viewHeight, viewWidth, barHeight);
+		hBar.setMax(Math.max(0, contentWidth - viewWidth)); //the scroll value is measured in pixels
+		hBar.setVisibleAmount(hBar.getMax() * viewWidth / contentWidth); //size of the thumb
+		hBar.setUnitIncrement(cellPitch); //the arrows scroll one cell at a time
+		hBar.setBlockIncrement(viewWidth); //clicking the track scrolls one page at a time
+		vBar.setVisible(needVBar); //update the vertical scroll bar
+		vBar.resizeRelocate(viewWidth, 0, barWidth, viewHeight);
+		vBar.setMax(Math.max(0, contentHeight - viewHeight)); //the scroll value is measured in pixels
+		vBar.setVisibleAmount(vBar.getMax() * viewHeight / contentHeight); //size of the thumb
+		vBar.setUnitIncrement(cellPitch); //the arrows scroll one cell at a time
+		vBar.setBlockIncrement(viewHeight); //clicking the track scrolls one page at a time
+		offsetX = Math.max(0, (viewWidth - contentWidth) / 2); //center the board if it is narrow
+		offsetY = Math.max(0, (viewHeight - contentHeight) / 2); //center the board if it is short
+		tileClip.setWidth(viewWidth); //only display the tiles inside of the view
+		tileClip.setHeight(viewHeight);
+		hBar.setValue(Math.min(hBar.getValue(), hBar.getMax())); //stay within the new scroll range
+		vBar.setValue(Math.min(vBar.getValue(), vBar.getMax()));
+		updateVisibleTiles(); //display the tiles that are inside of the view
+	} //close layoutViewport(...)
+
+
+	/* Display every tile that is inside of the view. Tiles that don't exist yet are created (and drawn) and
+	 * the least recently used tiles are evicted once there are too many of them.
+	 */
+	private void updateVisibleTiles() {
+		if (gameRows == 0 || gameCols == 0 || viewWidth <= 0 || viewHeight <= 0)
+			return; //there is nothing to display
+		double tileSize = TILE_CELLS * cellPitch; //size of a full tile in pixels
+		int tileRows = (gameRows + TILE_CELLS - 1) / TILE_CELLS; //number of tile rows on the board
+		double left = hBar.getValue() - offsetX; //left side of the view (in board pixels)
+		double top = vBar.getValue() - offsetY; //top side of the view (in board pixels)
+		int firstCol = Math.max(0, (int) Math.floor(left / tileSize)); //first visible tile column
+		int lastCol = Math.min(tileCols - 1, (int) Math.floor((left + viewWidth - 1) / tileSize));
+		int firstRow = Math.max(0, (int) Math.floor(top / tileSize)); //first visible tile row
+		int lastRow = Math.min(tileRows - 1, (int) Math.floor((top + viewHeight - 1) / tileSize));
+		List<Node> visibleTiles = new ArrayList<>(); //tiles that are inside of the view
+		Set<Canvas> visibleSet = new HashSet<>(); //used to avoid evicting the visible tiles
+		for (int i = firstRow; i <= lastRow; i++) {
+			for (int j = firstCol; j <= lastCol; j++) {
+				Canvas tile = getTile(i, j); //create the tile if it doesn't exist yet
+				tile.relocate(j * tileSize - left, i * tileSize - top); //move the tile into place
+				visibleTiles.add(tile); //add the tile to the list
+				visibleSet.add(tile);
+			}//end inner for
+		}//end outer for
+		tileLayer.getChildren().setAll(visibleTiles); //only the visible tiles are part of the scene
+		//evict the least recently used tiles if there are too many of them
+		Iterator<Canvas> iterator = tiles.values().iterator();
+		while (tiles.size() > visibleTiles.size() + TILE_CACHE_EXTRA && iterator.hasNext()) {
+			Canvas tile = iterator.next(); //least recently used tile
+			if (!visibleSet.contains(tile)) {
+				iterator.remove(); //the tile will be drawn again if it becomes visible
+				tilePool.push(tile); //reuse the canvas for a different tile
+			} //end if
+		} //end while
+	} //close updateVisibleTiles()
+
+
+	//Return the tile at the given tile row and column (the tile is created and drawn if it doesn't exist)
+	private Canvas getTile(int tileRow, int tileCol) {
+		int key = tileRow * tileCols + tileCol; //key of the tile
+		Canvas tile = tiles.get(key); //look for an existing tile
+		if (tile == null) {
+			tile = tilePool.isEmpty() ? new Canvas() : tilePool.pop(); //reuse an old canvas if possible
+			int firstRow = tileRow * TILE_CELLS; //first row of the tile
+			int firstCol = tileCol * TILE_CELLS; //first column of the tile
+			int rows = Math.min(TILE_CELLS, gameRows - firstRow); //partial tiles on the bottom edge
+			int cols = Math.min(TILE_CELLS, gameCols - firstCol); //partial tiles on the right edge
+			tile.setWidth(cols * cellPitch); //size the canvas to fit the tile
+			tile.setHeight(rows * cellPitch);
+			tile.getGraphicsContext2D().clearRect(0, 0, tile.getWidth(), tile.getHeight()); //erase old cells
+			tiles.put(key, tile); //the cells of the tile are displayed from now on
+			for (int i = firstRow; i < firstRow + rows; i++) {
+				for (int j = firstCol; j < firstCol + cols; j++)
+					cellRenderer.accept(i * gameCols + j); //draw every cell of the tile
+			}//end outer for
+		} //end if
+		return tile; //return the tile
+	} //close getTile(...)
+
+
+	//Return whether the cell at the given index belongs to a tile that currently exists
+	@Override
+	public boolean isCellDisplayed(int index) {
+		int row = index / gameCols; //row of the cell
+		int col = index % gameCols; //column of the cell
+		return tiles.containsKey((row / TILE_CELLS) * tileCols + col / TILE_CELLS);
+	} //close isCellDisplayed(...)
+
+
+	//Draw the cell at the given index onto its tile (cells without a tile are drawn once it is created)
+	@Override
+	public void drawCell(int index, String text, Color textColor, String comment, Color commentColor,
+	 CellStyle style) {
+		int row = index / gameCols; //row of the cell
+		int col = index % gameCols; //column of the cell
+		Canvas tile = tiles.get((row / TILE_CELLS) * tileCols + col / TILE_CELLS); //tile of the cell
+		if (tile == null)
+			return; //the cell isn't displayed
+		cellPainter.paintCell(tile.getGraphicsContext2D(), (col % TILE_CELLS) * cellPitch,
+		 (row % TILE_CELLS) * cellPitch, text, textColor, comment, commentColor, style);
+	} //close drawCell(...)
+
+
+	/* Scroll the view with the mouse wheel (Shift scrolls horizontally). When Ctrl is held down, the view is
+	 * zoomed instead and the cell under the mouse stays in the same place.
+	 */
+	private void handleScroll(ScrollEvent event) {
+		if (gameRows == 0 || gameCols == 0)
+			return; //there is no board to scroll
+		if (event.isControlDown()) {
+			double pitch = cellPitch * ((event.getDeltaY() > 0) ? ZOOM_FACTOR : 1 / ZOOM_FACTOR); //new pitch
+			pitch = Math.max(MIN_CELL_PITCH, Math.min(MAX_CELL_PITCH, pitch)); //keep it in range
+			if (pitch != cellPitch) {
+				//position of the mouse on the board (measured in cells)
+				double boardX = (hBar.getValue() - offsetX + event.getX()) / cellPitch;
+				double boardY = (vBar.getValue() - offsetY + event.getY()) / cellPitch;
+				userZoomed = true; //keep the zoom level when the window is resized
+				setCellPitch(pitch); //zoom in or out
+				layoutViewport(viewport.getWidth(), viewport.getHeight()); //update the scroll ranges
+				//scroll so that the same position of the board stays under the mouse
+				hBar.setValue(Math.max(0, Math.min(hBar.getMax(), boardX * cellPitch - event.getX())));
+				vBar.setValue(Math.max(0, Math.min(vBar.getMax(), boardY * cellPitch - event.getY())));
+			} //end if
+		} else {
+			//Shift + mouse wheel scrolls horizontally (some platforms already report it as deltaX)
+			double deltaX = (event.isShiftDown() && event.getDeltaX() == 0) ? event.getDeltaY() : event.getDeltaX();
+			double deltaY = event.isShiftDown() ? 0 : event.getDeltaY();
+			hBar.setValue(Math.max(0, Math.min(hBar.getMax(), hBar.getValue() - deltaX)));
+			vBar.setValue(Math.max(0, Math.min(vBar.getMax(), vBar.getValue() - deltaY)));
+		} //end else
+		event.consume(); //the scroll event was handled
+	} //close handleScroll(...)
+
+
+	/* Return the index of the cell located at the given coordinates of the viewport (clicks that land on the
+	 * gaps between cells or on the scroll bars don't belong to any cell).
+	 */
+	@Override
+	public int getCellIndex(double x, double y) {
+		if (gameRows == 0 || gameCols == 0 || x < 0 || y < 0 || x >= viewWidth || y >= viewHeight)
+			return -1; //the coordinates are outside of the view
+		double boardX = hBar.getValue() - offsetX + x; //horizontal position on the board
+		double boardY = vBar.getValue() - offsetY + y; //vertical position on the board
+		int col = (int) Math.floor(boardX / cellPitch); //column of the cell
+		int row = (int) Math.floor(boardY / cellPitch); //row of the cell
+		if (col < 0 || row < 0 || col >= gameCols || row >= gameRows)
+			return -1; //the coordinates are outside of the board
+		if (boardX - col * cellPitch > cellSize || boardY - row * cellPitch > cellSize)
+			return -1; //the coordinates are located in the gap after the cell
+		return row * gameCols + col; //index of the cell
+	} //close getCellIndex(...)
+
+} //close class ViewportBoardRenderer
@@ -3,6 +3,8 @@ module Minesweeper {
 	requires javafx.graphics;
 	requires javafx.base;
 	requires java.desktop;
+	requires jdk.management;
+	requires jdk.random;
 	
 	opens application to javafx.graphics, javafx.fxml;
 }